@@ -0,0 +1,195 @@
+package com.crms.app.benchmark;
+
+import com.crms.app.model.AdditionalService;
+import com.crms.app.model.Car;
+import com.crms.app.model.CarStatus;
+import com.crms.app.model.Equipment;
+import com.crms.app.model.Location;
+import com.crms.app.model.Member;
+import com.crms.app.model.Reservation;
+import com.crms.app.model.ReservationStatus;
+import com.crms.app.model.UserRole;
+import com.crms.app.repository.CarRepository;
+import com.crms.app.repository.EquipmentRepository;
+import com.crms.app.repository.LocationRepository;
+import com.crms.app.repository.MemberRepository;
+import com.crms.app.repository.ReservationRepository;
+import com.crms.app.repository.ServiceRepository;
+import com.crms.app.service.CarAvailabilityIndex;
+import com.crms.app.service.FleetAvailabilityService;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import org.springframework.context.ApplicationContext;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Seeds a deterministic fleet and reservation history for the database-backed benchmarks. Reservations for
+ * a car are laid out in non-overlapping five-day slots starting a year in the past.
+ */
+class BenchmarkDataSeeder {
+
+    private static final int LOCATIONS = 10;
+    private static final int MEMBERS = 200;
+    private static final int ADD_ONS = 8;
+    private static final int CHUNK = 1_000;
+    private static final String[] MAKES = {"Toyota", "Renault", "Fiat", "Volkswagen", "Ford", "Hyundai"};
+    private static final String[] TYPES = {"Sedan", "Hatchback", "SUV", "Van"};
+
+    private final ApplicationContext context;
+    private final TransactionTemplate transactionTemplate;
+
+    BenchmarkDataSeeder(ApplicationContext context) {
+        this.context = context;
+        this.transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+    }
+
+    SeededData seed(int fleetSize, int reservationCount, long seed) {
+        Random random = new Random(seed);
+        LocationRepository locationRepository = context.getBean(LocationRepository.class);
+        ServiceRepository serviceRepository = context.getBean(ServiceRepository.class);
+        EquipmentRepository equipmentRepository = context.getBean(EquipmentRepository.class);
+        MemberRepository memberRepository = context.getBean(MemberRepository.class);
+        CarRepository carRepository = context.getBean(CarRepository.class);
+
+        List<Location> locations = new ArrayList<>();
+        List<AdditionalService> services = new ArrayList<>();
+        List<Equipment> equipment = new ArrayList<>();
+        List<Member> members = new ArrayList<>();
+        transactionTemplate.executeWithoutResult(status -> {
+            for (int i = 0; i < LOCATIONS; i++) {
+                Location location = new Location();
+                location.setCode("BENCH-" + i);
+                location.setName("Bench location " + i);
+                location.setAddress("Bench street " + i);
+                locations.add(location);
+            }
+            locationRepository.saveAll(locations);
+            for (int i = 0; i < ADD_ONS; i++) {
+                AdditionalService service = new AdditionalService();
+                service.setName("Bench service " + i);
+                service.setDailyPrice(BigDecimal.valueOf(500 + random.nextInt(2_000), 2));
+                services.add(service);
+                Equipment item = new Equipment();
+                item.setName("Bench equipment " + i);
+                item.setDailyPrice(BigDecimal.valueOf(300 + random.nextInt(1_000), 2));
+                equipment.add(item);
+            }
+            serviceRepository.saveAll(services);
+            equipmentRepository.saveAll(equipment);
+
+            String password = context.getBean(PasswordEncoder.class).encode("BenchPass123");
+            for (int i = 0; i < MEMBERS; i++) {
+                Member member = new Member();
+                member.setEmail("bench" + i + "@crms.local");
+                member.setPassword(password);
+                member.setFullName("Bench Member " + i);
+                member.setDrivingLicenseNumber("DL-BENCH-" + i);
+                member.setDrivingLicenseExpiry(LocalDate.now().plusYears(5));
+                member.setRole(UserRole.MEMBER);
+                members.add(member);
+            }
+            memberRepository.saveAll(members);
+        });
+
+        List<Car> cars = new ArrayList<>();
+        for (int from = 0; from < fleetSize; from += CHUNK) {
+            List<Car> chunk = new ArrayList<>();
+            for (int i = from; i < Math.min(fleetSize, from + CHUNK); i++) {
+                chunk.add(car(i, locations.get(random.nextInt(LOCATIONS)), random));
+            }
+            transactionTemplate.executeWithoutResult(status -> cars.addAll(carRepository.saveAll(chunk)));
+        }
+
+        ReservationRepository reservationRepository = context.getBean(ReservationRepository.class);
+        LocalDate firstSlot = LocalDate.now().minusYears(1);
+        LocalDate today = LocalDate.now();
+        for (int from = 0; from < reservationCount && !cars.isEmpty(); from += CHUNK) {
+            List<Reservation> chunk = new ArrayList<>();
+            for (int i = from; i < Math.min(reservationCount, from + CHUNK); i++) {
+                Car car = cars.get(i % cars.size());
+                LocalDate start = firstSlot.plusDays((long) (i / cars.size()) * 5 + random.nextInt(2));
+                Reservation reservation = new Reservation();
+                reservation.setReservationNumber("BENCH-" + i);
+                reservation.setMember(members.get(random.nextInt(MEMBERS)));
+                reservation.setCar(car);
+                reservation.setPickupLocation(car.getLocation());
+                reservation.setDropoffLocation(locations.get(random.nextInt(LOCATIONS)));
+                reservation.setStartDate(start);
+                reservation.setEndDate(start.plusDays(1 + random.nextInt(3)));
+                reservation.setTotalCost(car.getDailyRate().multiply(BigDecimal.valueOf(3)));
+                reservation.setAdditionalServices(pick(services, random));
+                reservation.setEquipments(pick(equipment, random));
+                if (i % 10 == 0) {
+                    reservation.setStatus(ReservationStatus.CANCELED);
+                } else if (reservation.getEndDate().isBefore(today)) {
+                    reservation.setStatus(ReservationStatus.COMPLETED);
+                } else {
+                    reservation.setStatus(ReservationStatus.ACTIVE);
+                }
+                chunk.add(reservation);
+            }
+            transactionTemplate.executeWithoutResult(status -> reservationRepository.saveAll(chunk));
+        }
+
+        context.getBean(CarAvailabilityIndex.class).reload();
+        context.getBean(FleetAvailabilityService.class).reload();
+
+        List<Long> availableCarIds = cars.stream()
+                .filter(car -> car.getStatus() == CarStatus.AVAILABLE)
+                .map(Car::getId)
+                .toList();
+        LocalDate firstFreeDay = firstSlot.plusDays((long) (reservationCount / Math.max(1, fleetSize) + 2) * 5);
+        return new SeededData(
+                availableCarIds,
+                members.stream().map(Member::getId).toList(),
+                locations.stream().map(Location::getId).toList(),
+                services.stream().map(AdditionalService::getId).toList(),
+                equipment.stream().map(Equipment::getId).toList(),
+                firstFreeDay.isAfter(today) ? firstFreeDay : today.plusDays(1));
+    }
+
+    private static Car car(int index, Location location, Random random) {
+        Car car = new Car();
+        car.setMake(MAKES[random.nextInt(MAKES.length)]);
+        car.setModel("Model " + random.nextInt(20));
+        car.setModelYear(2015 + random.nextInt(10));
+        car.setBarcode("BENCH-" + index);
+        car.setLicensePlate("BN" + index);
+        car.setCarType(TYPES[random.nextInt(TYPES.length)]);
+        car.setMileage(random.nextInt(150_000));
+        car.setSeats(random.nextBoolean() ? 5 : 7);
+        car.setDailyRate(BigDecimal.valueOf(4_000 + random.nextInt(11_000), 2));
+        car.setTransmission(random.nextBoolean() ? "Automatic" : "Manual");
+        car.setFuelType(random.nextBoolean() ? "Gasoline" : "Diesel");
+        car.setGpsIncluded(random.nextBoolean());
+        car.setChildSeat(random.nextInt(4) == 0);
+        car.setAirConditioning(true);
+        car.setStatus(random.nextInt(20) == 0 ? CarStatus.UNAVAILABLE : CarStatus.AVAILABLE);
+        car.setLocation(location);
+        return car;
+    }
+
+    private static <T> Set<T> pick(List<T> options, Random random) {
+        Set<T> picked = new HashSet<>();
+        int count = random.nextInt(3);
+        for (int i = 0; i < count; i++) {
+            picked.add(options.get(random.nextInt(options.size())));
+        }
+        return picked;
+    }
+
+    record SeededData(List<Long> availableCarIds,
+                      List<Long> memberIds,
+                      List<Long> locationIds,
+                      List<Long> serviceIds,
+                      List<Long> equipmentIds,
+                      LocalDate firstFreeDay) {
+    }
+}
@@ -0,0 +1,55 @@
+package com.crms.app.benchmark;
+
+import com.crms.app.dto.CarResponse;
+import com.crms.app.dto.CarSearchCriteria;
+import com.crms.app.service.CarBrowsingService;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CarSearchBenchmark {
+
+    private CarBrowsingService carBrowsingService;
+    private CarSearchCriteria withoutDates;
+    private CarSearchCriteria withDates;
+
+    @Setup
+    public void setUp(CrmsBenchmarkState state) {
+        carBrowsingService = state.bean(CarBrowsingService.class);
+        withoutDates = new CarSearchCriteria();
+        withoutDates.setCarType("SUV");
+        withoutDates.setSize(20);
+
+        withDates = new CarSearchCriteria();
+        withDates.setCarType("SUV");
+        withDates.setSize(20);
+        withDates.setStartDate(LocalDate.now().plusDays(3));
+        withDates.setEndDate(LocalDate.now().plusDays(7));
+    }
+
+    @Benchmark
+    public List<CarResponse> searchWithoutDateRange() {
+        return carBrowsingService.searchCars(withoutDates);
+    }
+
+    @Benchmark
+    public List<CarResponse> searchWithDateRange() {
+        return carBrowsingService.searchCars(withDates);
+    }
+}
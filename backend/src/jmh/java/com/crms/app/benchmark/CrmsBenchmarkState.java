@@ -0,0 +1,56 @@
+package com.crms.app.benchmark;
+
+import com.crms.app.CrmsApplication;
+import com.crms.app.benchmark.BenchmarkDataSeeder.SeededData;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Boots the application against the benchmark database (see application-benchmark.properties) and seeds it once
+ * per trial. Sizes are JMH parameters, e.g. {@code -p fleetSize=5000 -p reservationCount=100000}.
+ */
+@State(Scope.Benchmark)
+public class CrmsBenchmarkState {
+
+    @Param("500")
+    public int fleetSize;
+
+    @Param("5000")
+    public int reservationCount;
+
+    @Param("42")
+    public long seed;
+
+    private ConfigurableApplicationContext context;
+    private SeededData data;
+
+    @Setup(Level.Trial)
+    public void start() {
+        context = new SpringApplicationBuilder(CrmsApplication.class)
+                .profiles("benchmark")
+                .logStartupInfo(false)
+                .run();
+        data = new BenchmarkDataSeeder(context).seed(fleetSize, reservationCount, seed);
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        if (context != null) {
+            context.close();
+        }
+    }
+
+    public <T> T bean(Class<T> type) {
+        return context.getBean(type);
+    }
+
+    SeededData data() {
+        return data;
+    }
+}
@@ -0,0 +1,140 @@
+package com.crms.app.benchmark;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.crms.app.dto.AdditionalServiceResponse;
+import com.crms.app.dto.EquipmentResponse;
+import com.crms.app.dto.LocationResponse;
+import com.crms.app.model.AdditionalService;
+import com.crms.app.model.Car;
+import com.crms.app.model.Equipment;
+import com.crms.app.model.Location;
+import com.crms.app.model.listener.ReferenceCatalogVersions;
+import com.crms.app.repository.CarRateView;
+import com.crms.app.repository.CarRepository;
+import com.crms.app.service.CatalogSnapshot;
+import com.crms.app.service.PricingEngine;
+import com.crms.app.service.ReferenceCatalogCache;
+import com.crms.app.service.impl.PricingEngineImpl;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the previous BigDecimal stream arithmetic over resolved entities with {@link PricingEngine#quote}.
+ * Needs no database.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PricingEngineBenchmark {
+
+    private static final int FLEET_SIZE = 2_000;
+    private static final int ADD_ON_COUNT = 20;
+    private static final long DAYS = 4;
+
+    private PricingEngine pricingEngine;
+    private Car car;
+    private Set<AdditionalService> services;
+    private Set<Equipment> equipment;
+    private List<Long> serviceIds;
+    private List<Long> equipmentIds;
+
+    @Setup
+    public void setUp() {
+        List<CarRateView> rates = new ArrayList<>();
+        for (long id = 1; id <= FLEET_SIZE; id++) {
+            rates.add(rate(id, BigDecimal.valueOf(5_000 + id, 2)));
+        }
+        Map<Long, AdditionalService> serviceCatalog = new LinkedHashMap<>();
+        Map<Long, Equipment> equipmentCatalog = new LinkedHashMap<>();
+        for (long id = 1; id <= ADD_ON_COUNT; id++) {
+            AdditionalService service = new AdditionalService();
+            service.setId(id);
+            service.setDailyPrice(BigDecimal.valueOf(995 + id, 2));
+            serviceCatalog.put(id, service);
+            Equipment item = new Equipment();
+            item.setId(id);
+            item.setDailyPrice(BigDecimal.valueOf(450 + id, 2));
+            equipmentCatalog.put(id, item);
+        }
+
+        CarRepository carRepository = mock(CarRepository.class);
+        when(carRepository.findAllRates()).thenReturn(rates);
+        ReferenceCatalogCache catalogCache = new StaticCatalogCache(
+                new CatalogSnapshot<>(serviceCatalog, List.of(), new byte[0], ""),
+                new CatalogSnapshot<>(equipmentCatalog, List.of(), new byte[0], ""));
+        pricingEngine = new PricingEngineImpl(carRepository, catalogCache, new ReferenceCatalogVersions());
+
+        car = new Car();
+        car.setId(FLEET_SIZE / 2L);
+        car.setDailyRate(rates.get(FLEET_SIZE / 2 - 1).getDailyRate());
+        serviceIds = List.of(2L, 5L, 9L);
+        equipmentIds = List.of(3L, 7L);
+        services = new HashSet<>();
+        serviceIds.forEach(id -> services.add(serviceCatalog.get(id)));
+        equipment = new HashSet<>();
+        equipmentIds.forEach(id -> equipment.add(equipmentCatalog.get(id)));
+    }
+
+    @Benchmark
+    public BigDecimal bigDecimalStreams() {
+        BigDecimal days = BigDecimal.valueOf(DAYS);
+        BigDecimal carCost = car.getDailyRate().multiply(days);
+        BigDecimal serviceCost = services.stream()
+                .map(AdditionalService::getDailyPrice)
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        BigDecimal equipmentCost = equipment.stream()
+                .map(Equipment::getDailyPrice)
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        return carCost.add(serviceCost.add(equipmentCost).multiply(days));
+    }
+
+    @Benchmark
+    public long pricingEngineCents() {
+        return pricingEngine.quote(car.getId(), DAYS, serviceIds, equipmentIds);
+    }
+
+    private record StaticCatalogCache(CatalogSnapshot<AdditionalService, AdditionalServiceResponse> services,
+                                      CatalogSnapshot<Equipment, EquipmentResponse> equipment)
+            implements ReferenceCatalogCache {
+
+        @Override
+        public CatalogSnapshot<Location, LocationResponse> locations() {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    private static CarRateView rate(Long id, BigDecimal dailyRate) {
+        return new CarRateView() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public BigDecimal getDailyRate() {
+                return dailyRate;
+            }
+        };
+    }
+}
@@ -0,0 +1,42 @@
+package com.crms.app.benchmark;
+
+import com.crms.app.service.ReportingService;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(1)
+public class ReportExportBenchmark {
+
+    private ReportingService reportingService;
+
+    @Setup
+    public void setUp(CrmsBenchmarkState state) {
+        reportingService = state.bean(ReportingService.class);
+    }
+
+    @Benchmark
+    public void exportCsv() throws IOException {
+        reportingService.exportReservationsCsv(null, OutputStream.nullOutputStream());
+    }
+
+    @Benchmark
+    public void exportPdf() throws IOException {
+        reportingService.exportReservationsPdf(null, OutputStream.nullOutputStream());
+    }
+}
@@ -0,0 +1,72 @@
+package com.crms.app.benchmark;
+
+import com.crms.app.benchmark.BenchmarkDataSeeder.SeededData;
+import com.crms.app.dto.ReservationQuoteResponse;
+import com.crms.app.dto.ReservationRequest;
+import com.crms.app.dto.ReservationSummary;
+import com.crms.app.service.ReservationManagementService;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Quotes and books against the seeded fleet. Each booking takes the next car and, once every car has been
+ * used, the next free five-day slot, so bookings never conflict.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ReservationBookingBenchmark {
+
+    private ReservationManagementService reservationManagementService;
+    private SeededData data;
+    private long quoteCounter;
+    private long bookingCounter;
+
+    @Setup
+    public void setUp(CrmsBenchmarkState state) {
+        reservationManagementService = state.bean(ReservationManagementService.class);
+        data = state.data();
+    }
+
+    @Benchmark
+    public ReservationQuoteResponse quoteReservation() {
+        long counter = quoteCounter++;
+        return reservationManagementService.quoteReservation(request(counter, 0));
+    }
+
+    @Benchmark
+    public ReservationSummary createReservation() {
+        long counter = bookingCounter++;
+        long slot = counter / data.availableCarIds().size();
+        return reservationManagementService.createReservation(request(counter, slot * 5));
+    }
+
+    private ReservationRequest request(long counter, long dayOffset) {
+        List<Long> carIds = data.availableCarIds();
+        LocalDate start = data.firstFreeDay().plusDays(dayOffset);
+        ReservationRequest request = new ReservationRequest();
+        request.setMemberId(data.memberIds().get((int) (counter % data.memberIds().size())));
+        request.setCarId(carIds.get((int) (counter % carIds.size())));
+        request.setPickupLocationId(data.locationIds().get(0));
+        request.setDropoffLocationId(data.locationIds().get(1));
+        request.setStartDate(start);
+        request.setEndDate(start.plusDays(3));
+        request.setAdditionalServiceIds(List.of(data.serviceIds().get((int) (counter % data.serviceIds().size()))));
+        request.setEquipmentIds(List.of(data.equipmentIds().get(0)));
+        return request;
+    }
+}
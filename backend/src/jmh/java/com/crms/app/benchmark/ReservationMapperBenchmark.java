@@ -0,0 +1,75 @@
+package com.crms.app.benchmark;
+
+import com.crms.app.dto.ReservationSummary;
+import com.crms.app.mapper.ReservationMapper;
+import com.crms.app.model.AdditionalService;
+import com.crms.app.model.Car;
+import com.crms.app.model.Equipment;
+import com.crms.app.model.Location;
+import com.crms.app.model.Member;
+import com.crms.app.model.Reservation;
+import com.crms.app.model.ReservationStatus;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Maps an in-memory reservation with two services and one equipment item; needs no database.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ReservationMapperBenchmark {
+
+    private final ReservationMapper reservationMapper = new ReservationMapper();
+    private Reservation reservation;
+
+    @Setup
+    public void setUp() {
+        Member member = new Member();
+        member.setId(1L);
+        Car car = new Car();
+        car.setId(2L);
+        Location location = new Location();
+        location.setId(3L);
+        AdditionalService insurance = new AdditionalService();
+        insurance.setId(4L);
+        AdditionalService driver = new AdditionalService();
+        driver.setId(5L);
+        Equipment seat = new Equipment();
+        seat.setId(6L);
+
+        reservation = new Reservation();
+        reservation.setId(7L);
+        reservation.setReservationNumber("RES-BENCH");
+        reservation.setMember(member);
+        reservation.setCar(car);
+        reservation.setPickupLocation(location);
+        reservation.setDropoffLocation(location);
+        reservation.setStartDate(LocalDate.now().plusDays(1));
+        reservation.setEndDate(LocalDate.now().plusDays(4));
+        reservation.setTotalCost(new BigDecimal("345.00"));
+        reservation.setStatus(ReservationStatus.ACTIVE);
+        reservation.setAdditionalServices(Set.of(insurance, driver));
+        reservation.setEquipments(Set.of(seat));
+    }
+
+    @Benchmark
+    public ReservationSummary toSummary() {
+        return reservationMapper.toSummary(reservation);
+    }
+}
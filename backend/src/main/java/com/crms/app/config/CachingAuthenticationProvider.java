@@ -0,0 +1,40 @@
+package com.crms.app.config;
+
+import com.crms.app.service.AuthenticationCache;
+import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
+
+public class CachingAuthenticationProvider implements AuthenticationProvider {
+
+    private final AuthenticationProvider delegate;
+    private final AuthenticationCache authenticationCache;
+
+    public CachingAuthenticationProvider(AuthenticationProvider delegate, AuthenticationCache authenticationCache) {
+        this.delegate = delegate;
+        this.authenticationCache = authenticationCache;
+    }
+
+    @Override
+    public Authentication authenticate(Authentication authentication) throws AuthenticationException {
+        Object credentials = authentication.getCredentials();
+        if (credentials == null) {
+            return delegate.authenticate(authentication);
+        }
+        String username = authentication.getName();
+        String password = credentials.toString();
+        Authentication cached = authenticationCache.get(username, password);
+        if (cached != null) {
+            return cached;
+        }
+        Authentication result = delegate.authenticate(authentication);
+        authenticationCache.put(username, password, result);
+        return result;
+    }
+
+    @Override
+    public boolean supports(Class<?> authentication) {
+        return UsernamePasswordAuthenticationToken.class.isAssignableFrom(authentication);
+    }
+}
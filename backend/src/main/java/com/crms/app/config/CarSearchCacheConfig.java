@@ -0,0 +1,9 @@
+package com.crms.app.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(CarSearchCacheProperties.class)
+public class CarSearchCacheConfig {
+}
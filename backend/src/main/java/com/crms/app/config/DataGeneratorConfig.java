@@ -0,0 +1,42 @@
+package com.crms.app.config;
+
+import com.crms.app.dto.DataGenerationReport;
+import com.crms.app.service.SyntheticDataGenerator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+/**
+ * CLI entry point for the synthetic data generator:
+ * {@code java -jar crms-backend.jar --spring.profiles.active=datagen --crms.datagen.cars=50000 ...}
+ */
+@Configuration
+@Profile("datagen")
+@EnableConfigurationProperties(DataGeneratorProperties.class)
+public class DataGeneratorConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(DataGeneratorConfig.class);
+
+    @Bean
+    public ApplicationRunner dataGeneratorRunner(SyntheticDataGenerator generator,
+                                                 DataGeneratorProperties properties,
+                                                 ConfigurableApplicationContext context) {
+        return args -> {
+            DataGenerationReport report = generator.generate(properties);
+            logger.info("Generated seed={} locations={} cars={} members={} reservations={} "
+                            + "serviceLinks={} equipmentLinks={} in {} ms",
+                    report.getSeed(), report.getLocations(), report.getCars(), report.getMembers(),
+                    report.getReservations(), report.getServiceLinks(), report.getEquipmentLinks(),
+                    report.getElapsedMillis());
+            if (properties.isExitWhenDone()) {
+                System.exit(SpringApplication.exit(context));
+            }
+        };
+    }
+}
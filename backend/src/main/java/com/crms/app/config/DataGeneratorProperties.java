@@ -0,0 +1,71 @@
+package com.crms.app.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "crms.datagen")
+public class DataGeneratorProperties {
+
+    private long seed = 42;
+    private int locations = 100;
+    private int cars = 50_000;
+    private int members = 1_000_000;
+    private long reservations = 20_000_000;
+    private int horizonDays = 180;
+    private boolean exitWhenDone = true;
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public void setSeed(long seed) {
+        this.seed = seed;
+    }
+
+    public int getLocations() {
+        return locations;
+    }
+
+    public void setLocations(int locations) {
+        this.locations = locations;
+    }
+
+    public int getCars() {
+        return cars;
+    }
+
+    public void setCars(int cars) {
+        this.cars = cars;
+    }
+
+    public int getMembers() {
+        return members;
+    }
+
+    public void setMembers(int members) {
+        this.members = members;
+    }
+
+    public long getReservations() {
+        return reservations;
+    }
+
+    public void setReservations(long reservations) {
+        this.reservations = reservations;
+    }
+
+    public int getHorizonDays() {
+        return horizonDays;
+    }
+
+    public void setHorizonDays(int horizonDays) {
+        this.horizonDays = horizonDays;
+    }
+
+    public boolean isExitWhenDone() {
+        return exitWhenDone;
+    }
+
+    public void setExitWhenDone(boolean exitWhenDone) {
+        this.exitWhenDone = exitWhenDone;
+    }
+}
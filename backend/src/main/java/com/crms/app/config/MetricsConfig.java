@@ -0,0 +1,42 @@
+package com.crms.app.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.Profiles;
+
+@Configuration
+@EnableConfigurationProperties(QueryBudgetProperties.class)
+public class MetricsConfig {
+
+    @Bean
+    public QueryCountInspector queryCountInspector() {
+        return new QueryCountInspector();
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer queryCountingHibernateProperties(QueryCountInspector queryCountInspector) {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, queryCountInspector);
+    }
+
+    @Bean
+    public FilterRegistrationBean<RequestMetricsFilter> requestMetricsFilter(QueryCountInspector queryCountInspector,
+                                                                             QueryBudgetProperties queryBudget,
+                                                                             MeterRegistry meterRegistry,
+                                                                             Environment environment) {
+        if (queryBudget.getAction() == QueryBudgetProperties.Action.FAIL
+                && !environment.acceptsProfiles(Profiles.of("test"))) {
+            throw new IllegalStateException("crms.query-budget.action=FAIL is only allowed in the test profile");
+        }
+        FilterRegistrationBean<RequestMetricsFilter> registration = new FilterRegistrationBean<>(
+                new RequestMetricsFilter(queryCountInspector, queryBudget, meterRegistry));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+}
@@ -2,8 +2,10 @@ package com.crms.app.config;
 
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @Configuration
 @EnableConfigurationProperties(NotificationProperties.class)
+@EnableScheduling
 public class NotificationConfig {
 }
@@ -8,6 +8,7 @@ public class NotificationProperties {
     private boolean enabled;
     private String from;
     private String subjectPrefix = "CRMS Reservation";
+    private final Outbox outbox = new Outbox();
 
     public boolean isEnabled() {
         return enabled;
@@ -32,4 +33,93 @@ public class NotificationProperties {
     public void setSubjectPrefix(String subjectPrefix) {
         this.subjectPrefix = subjectPrefix;
     }
+
+    public Outbox getOutbox() {
+        return outbox;
+    }
+
+    public static class Outbox {
+
+        private boolean dispatcherEnabled = true;
+        private long pollIntervalMs = 2000;
+        private int batchSize = 50;
+        private int workers = 4;
+        private int queueCapacity = 200;
+        private long leaseMs = 60000;
+        private int maxAttempts = 6;
+        private long initialBackoffMs = 5000;
+        private long maxBackoffMs = 900000;
+
+        public boolean isDispatcherEnabled() {
+            return dispatcherEnabled;
+        }
+
+        public void setDispatcherEnabled(boolean dispatcherEnabled) {
+            this.dispatcherEnabled = dispatcherEnabled;
+        }
+
+        public long getPollIntervalMs() {
+            return pollIntervalMs;
+        }
+
+        public void setPollIntervalMs(long pollIntervalMs) {
+            this.pollIntervalMs = pollIntervalMs;
+        }
+
+        public int getBatchSize() {
+            return batchSize;
+        }
+
+        public void setBatchSize(int batchSize) {
+            this.batchSize = batchSize;
+        }
+
+        public int getWorkers() {
+            return workers;
+        }
+
+        public void setWorkers(int workers) {
+            this.workers = workers;
+        }
+
+        public int getQueueCapacity() {
+            return queueCapacity;
+        }
+
+        public void setQueueCapacity(int queueCapacity) {
+            this.queueCapacity = queueCapacity;
+        }
+
+        public long getLeaseMs() {
+            return leaseMs;
+        }
+
+        public void setLeaseMs(long leaseMs) {
+            this.leaseMs = leaseMs;
+        }
+
+        public int getMaxAttempts() {
+            return maxAttempts;
+        }
+
+        public void setMaxAttempts(int maxAttempts) {
+            this.maxAttempts = maxAttempts;
+        }
+
+        public long getInitialBackoffMs() {
+            return initialBackoffMs;
+        }
+
+        public void setInitialBackoffMs(long initialBackoffMs) {
+            this.initialBackoffMs = initialBackoffMs;
+        }
+
+        public long getMaxBackoffMs() {
+            return maxBackoffMs;
+        }
+
+        public void setMaxBackoffMs(long maxBackoffMs) {
+            this.maxBackoffMs = maxBackoffMs;
+        }
+    }
 }
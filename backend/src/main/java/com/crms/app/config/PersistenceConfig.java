@@ -1,4 +1,63 @@
 package com.crms.app.config;
 
+import java.sql.DatabaseMetaData;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@Configuration
 public class PersistenceConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(PersistenceConfig.class);
+
+    private static final List<String> RESERVATION_PERIOD_DDL = List.of(
+            "CREATE EXTENSION IF NOT EXISTS btree_gist",
+            """
+            ALTER TABLE reservations ADD COLUMN IF NOT EXISTS period daterange
+                GENERATED ALWAYS AS (daterange(start_date, end_date, '[]')) STORED
+            """,
+            "CREATE INDEX IF NOT EXISTS idx_reservations_car_period ON reservations USING gist (car_id, period)",
+            """
+            DO $$
+            BEGIN
+                IF NOT EXISTS (SELECT 1 FROM pg_constraint WHERE conname = 'reservations_active_period_excl') THEN
+                    ALTER TABLE reservations
+                        ADD CONSTRAINT reservations_active_period_excl
+                        EXCLUDE USING gist (car_id WITH =, period WITH &&)
+                        WHERE (status = 'ACTIVE');
+                END IF;
+            END
+            $$
+            """);
+
+    @Bean
+    public SmartInitializingSingleton reservationPeriodSchema(JdbcTemplate jdbcTemplate) {
+        return () -> {
+            String product = jdbcTemplate.execute((ConnectionCallback<String>) connection -> {
+                DatabaseMetaData metaData = connection.getMetaData();
+                return metaData.getDatabaseProductName();
+            });
+            // The overlap queries in ReservationRepository read the period column, so there is no fallback.
+            if (!"PostgreSQL".equals(product)) {
+                throw new IllegalStateException("Reservation period schema requires PostgreSQL, found " + product);
+            }
+            // The car row lock serialises bookings made through the service; the exclusion constraint is the
+            // backstop for every other writer, so a missing one is fatal too.
+            for (String statement : RESERVATION_PERIOD_DDL) {
+                try {
+                    jdbcTemplate.execute(statement);
+                } catch (DataAccessException ex) {
+                    throw new IllegalStateException("Reservation period schema statement failed: "
+                            + ex.getMostSpecificCause().getMessage(), ex);
+                }
+            }
+            logger.info("Reservation period constraint ready");
+        };
+    }
 }
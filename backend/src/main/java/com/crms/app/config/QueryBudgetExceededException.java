@@ -0,0 +1,8 @@
+package com.crms.app.config;
+
+public class QueryBudgetExceededException extends IllegalStateException {
+
+    public QueryBudgetExceededException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,68 @@
+package com.crms.app.config;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "crms.query-budget")
+public class QueryBudgetProperties {
+
+    public enum Action {
+        LOG,
+        /**
+         * Test profile only. The check runs after the response is written and the transaction has committed,
+         * so a failure reports a 500 for work that was already saved.
+         */
+        FAIL
+    }
+
+    private boolean enabled = true;
+    private int maxStatements = 25;
+    private int maxRepetitions = 10;
+    private Action action = Action.LOG;
+    private Map<String, Integer> endpoints = new LinkedHashMap<>();
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getMaxStatements() {
+        return maxStatements;
+    }
+
+    public void setMaxStatements(int maxStatements) {
+        this.maxStatements = maxStatements;
+    }
+
+    public int getMaxRepetitions() {
+        return maxRepetitions;
+    }
+
+    public void setMaxRepetitions(int maxRepetitions) {
+        this.maxRepetitions = maxRepetitions;
+    }
+
+    public Action getAction() {
+        return action;
+    }
+
+    public void setAction(Action action) {
+        this.action = action;
+    }
+
+    public Map<String, Integer> getEndpoints() {
+        return endpoints;
+    }
+
+    public void setEndpoints(Map<String, Integer> endpoints) {
+        this.endpoints = endpoints;
+    }
+
+    public int maxStatementsFor(String uri) {
+        return endpoints.getOrDefault(uri, maxStatements);
+    }
+}
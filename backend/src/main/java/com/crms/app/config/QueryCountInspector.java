@@ -0,0 +1,37 @@
+package com.crms.app.config;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Records the SQL statements Hibernate prepares into the {@link QueryScope} open on the current thread.
+ */
+public class QueryCountInspector implements StatementInspector {
+
+    private final ThreadLocal<QueryScope> currentScope = new ThreadLocal<>();
+
+    @Override
+    public String inspect(String sql) {
+        QueryScope scope = currentScope.get();
+        if (scope != null) {
+            scope.record(sql);
+        }
+        return sql;
+    }
+
+    public QueryScope open() {
+        QueryScope scope = new QueryScope(this, currentScope.get());
+        currentScope.set(scope);
+        return scope;
+    }
+
+    void close(QueryScope scope) {
+        if (currentScope.get() != scope) {
+            return;
+        }
+        if (scope.getParent() == null) {
+            currentScope.remove();
+        } else {
+            currentScope.set(scope.getParent());
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.crms.app.config;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Statements prepared on one thread between {@link QueryCountInspector#open()} and {@link #close()}.
+ * Scopes nest; a statement is recorded in the innermost scope and every scope enclosing it.
+ */
+public final class QueryScope implements AutoCloseable {
+
+    private final QueryCountInspector owner;
+    private final QueryScope parent;
+    private final Map<String, Integer> executions = new HashMap<>();
+    private long statementCount;
+
+    QueryScope(QueryCountInspector owner, QueryScope parent) {
+        this.owner = owner;
+        this.parent = parent;
+    }
+
+    void record(String sql) {
+        for (QueryScope scope = this; scope != null; scope = scope.parent) {
+            scope.statementCount++;
+            scope.executions.merge(sql, 1, Integer::sum);
+        }
+    }
+
+    QueryScope getParent() {
+        return parent;
+    }
+
+    public long getStatementCount() {
+        return statementCount;
+    }
+
+    /**
+     * How often the most frequent statement ran; the same SQL repeating within a request is the usual
+     * signature of an N+1 lazy load.
+     */
+    public int getMaxRepetitions() {
+        int max = 0;
+        for (int count : executions.values()) {
+            max = Math.max(max, count);
+        }
+        return max;
+    }
+
+    public String getMostRepeatedStatement() {
+        String statement = null;
+        int max = 0;
+        for (Map.Entry<String, Integer> entry : executions.entrySet()) {
+            if (entry.getValue() > max) {
+                max = entry.getValue();
+                statement = entry.getKey();
+            }
+        }
+        return statement;
+    }
+
+    @Override
+    public void close() {
+        owner.close(this);
+    }
+}
@@ -0,0 +1,125 @@
+package com.crms.app.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "crms.reporting")
+public class ReportingProperties {
+
+    private final Pdf pdf = new Pdf();
+    private final Jobs jobs = new Jobs();
+    private final Analytics analytics = new Analytics();
+
+    public Pdf getPdf() {
+        return pdf;
+    }
+
+    public Jobs getJobs() {
+        return jobs;
+    }
+
+    public Analytics getAnalytics() {
+        return analytics;
+    }
+
+    public static class Pdf {
+
+        private int renderThreads = Runtime.getRuntime().availableProcessors();
+        private int pagesPerChunk = 20;
+        private long maxMainMemoryBytes = 16L * 1024 * 1024;
+
+        public int getRenderThreads() {
+            return renderThreads;
+        }
+
+        public void setRenderThreads(int renderThreads) {
+            this.renderThreads = renderThreads;
+        }
+
+        public int getPagesPerChunk() {
+            return pagesPerChunk;
+        }
+
+        public void setPagesPerChunk(int pagesPerChunk) {
+            this.pagesPerChunk = pagesPerChunk;
+        }
+
+        public long getMaxMainMemoryBytes() {
+            return maxMainMemoryBytes;
+        }
+
+        public void setMaxMainMemoryBytes(long maxMainMemoryBytes) {
+            this.maxMainMemoryBytes = maxMainMemoryBytes;
+        }
+    }
+
+    public static class Jobs {
+
+        private int workers = 2;
+        private int queueCapacity = 8;
+        private String directory = System.getProperty("java.io.tmpdir") + "/crms-reports";
+        private long retentionMs = 3600000;
+
+        public int getWorkers() {
+            return workers;
+        }
+
+        public void setWorkers(int workers) {
+            this.workers = workers;
+        }
+
+        public int getQueueCapacity() {
+            return queueCapacity;
+        }
+
+        public void setQueueCapacity(int queueCapacity) {
+            this.queueCapacity = queueCapacity;
+        }
+
+        public String getDirectory() {
+            return directory;
+        }
+
+        public void setDirectory(String directory) {
+            this.directory = directory;
+        }
+
+        public long getRetentionMs() {
+            return retentionMs;
+        }
+
+        public void setRetentionMs(long retentionMs) {
+            this.retentionMs = retentionMs;
+        }
+    }
+
+    public static class Analytics {
+
+        private int parallelism = Runtime.getRuntime().availableProcessors();
+        private int compactionThreshold = 65536;
+        private int fetchSize = 10000;
+
+        public int getParallelism() {
+            return parallelism;
+        }
+
+        public void setParallelism(int parallelism) {
+            this.parallelism = parallelism;
+        }
+
+        public int getCompactionThreshold() {
+            return compactionThreshold;
+        }
+
+        public void setCompactionThreshold(int compactionThreshold) {
+            this.compactionThreshold = compactionThreshold;
+        }
+
+        public int getFetchSize() {
+            return fetchSize;
+        }
+
+        public void setFetchSize(int fetchSize) {
+            this.fetchSize = fetchSize;
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.crms.app.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Records how many JPA statements each request issued, tagged with the matched route template, and checks
+ * the count against the configured query budget.
+ */
+public class RequestMetricsFilter extends OncePerRequestFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(RequestMetricsFilter.class);
+
+    public static final String REQUEST_QUERIES = "crms.http.queries";
+    public static final String BUDGET_VIOLATIONS = "crms.http.query.budget.violations";
+
+    private final QueryCountInspector queryCountInspector;
+    private final QueryBudgetProperties budget;
+    private final MeterRegistry meterRegistry;
+
+    public RequestMetricsFilter(QueryCountInspector queryCountInspector,
+                                QueryBudgetProperties budget,
+                                MeterRegistry meterRegistry) {
+        this.queryCountInspector = queryCountInspector;
+        this.budget = budget;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        QueryScope scope = queryCountInspector.open();
+        String uri = "UNKNOWN";
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            scope.close();
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            if (pattern != null) {
+                uri = pattern.toString();
+            }
+            DistributionSummary.builder(REQUEST_QUERIES)
+                    .description("JPA statements executed per HTTP request")
+                    .baseUnit("statements")
+                    .tag("method", request.getMethod())
+                    .tag("uri", uri)
+                    .register(meterRegistry)
+                    .record(scope.getStatementCount());
+        }
+        if (budget.isEnabled()) {
+            checkBudget(request.getMethod() + " " + uri, budget.maxStatementsFor(uri), scope);
+        }
+    }
+
+    private void checkBudget(String endpoint, int maxStatements, QueryScope scope) {
+        String violation = null;
+        String kind = null;
+        if (scope.getMaxRepetitions() > budget.getMaxRepetitions()) {
+            kind = "repeated";
+            violation = String.format("%s ran the same statement %d times (limit %d), likely an N+1 load: %s",
+                    endpoint, scope.getMaxRepetitions(), budget.getMaxRepetitions(), scope.getMostRepeatedStatement());
+        } else if (scope.getStatementCount() > maxStatements) {
+            kind = "total";
+            violation = String.format("%s executed %d statements (budget %d)",
+                    endpoint, scope.getStatementCount(), maxStatements);
+        }
+        if (violation == null) {
+            return;
+        }
+        Counter.builder(BUDGET_VIOLATIONS)
+                .description("Requests that exceeded their query budget")
+                .tag("endpoint", endpoint)
+                .tag("kind", kind)
+                .register(meterRegistry)
+                .increment();
+        if (budget.getAction() == QueryBudgetProperties.Action.FAIL) {
+            throw new QueryBudgetExceededException(violation);
+        }
+        logger.warn("Query budget exceeded: {}", violation);
+    }
+}
@@ -0,0 +1,62 @@
+package com.crms.app.config;
+
+import com.crms.app.exception.CarUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+/**
+ * Times every public method of the booking, search, reporting and notification services and counts booking
+ * conflicts that reach the caller.
+ */
+@Aspect
+@Component
+public class ServiceMetricsAspect {
+
+    public static final String SERVICE_TIMER = "crms.service";
+    public static final String BOOKING_CONFLICTS = "crms.booking.conflicts";
+
+    private final MeterRegistry meterRegistry;
+
+    public ServiceMetricsAspect(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Around("execution(public * com.crms.app.service.impl.ReservationManagementServiceImpl.*(..))"
+            + " || execution(public * com.crms.app.service.impl.CarBrowsingServiceImpl.*(..))"
+            + " || execution(public * com.crms.app.service.impl.ReportingServiceImpl.*(..))"
+            + " || execution(public * com.crms.app.service.impl.NotificationServiceImpl.*(..))")
+    public Object timeServiceCall(ProceedingJoinPoint joinPoint) throws Throwable {
+        String service = joinPoint.getSignature().getDeclaringType().getSimpleName();
+        String method = joinPoint.getSignature().getName();
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String exception = "none";
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable ex) {
+            exception = ex.getClass().getSimpleName();
+            if (ex instanceof CarUnavailableException) {
+                bookingConflicts(meterRegistry, method).increment();
+            }
+            throw ex;
+        } finally {
+            sample.stop(Timer.builder(SERVICE_TIMER)
+                    .description("Service-layer call latency")
+                    .tag("service", service)
+                    .tag("method", method)
+                    .tag("exception", exception)
+                    .register(meterRegistry));
+        }
+    }
+
+    public static Counter bookingConflicts(MeterRegistry meterRegistry, String operation) {
+        return Counter.builder(BOOKING_CONFLICTS)
+                .description("Bookings rejected because the car was already booked for the dates")
+                .tag("operation", operation)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,92 @@
+package com.crms.app.controller;
+
+import com.crms.app.dto.FleetUtilizationReport;
+import com.crms.app.dto.LeadTimeDistribution;
+import com.crms.app.dto.ReportDownload;
+import com.crms.app.dto.ReportJobRequest;
+import com.crms.app.dto.ReportJobResponse;
+import com.crms.app.dto.ReservationRollup;
+import com.crms.app.dto.RollupDimension;
+import com.crms.app.dto.UtilizationGrouping;
+import com.crms.app.service.FleetAnalyticsService;
+import com.crms.app.service.ReportJobService;
+import com.crms.app.service.ReportingService;
+import jakarta.validation.Valid;
+import java.time.LocalDate;
+import java.util.List;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/admin/reports")
+public class AdminReportController {
+
+    private final ReportJobService reportJobService;
+    private final ReportingService reportingService;
+    private final FleetAnalyticsService fleetAnalyticsService;
+
+    public AdminReportController(ReportJobService reportJobService,
+                                 ReportingService reportingService,
+                                 FleetAnalyticsService fleetAnalyticsService) {
+        this.reportJobService = reportJobService;
+        this.reportingService = reportingService;
+        this.fleetAnalyticsService = fleetAnalyticsService;
+    }
+
+    @GetMapping("/rollups")
+    public ResponseEntity<List<ReservationRollup>> getRollups(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "DAY") RollupDimension groupBy) {
+        return ResponseEntity.ok(reportingService.summarizeReservations(from, to, groupBy));
+    }
+
+    @GetMapping("/utilization")
+    public ResponseEntity<FleetUtilizationReport> getUtilization(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "BRANCH") UtilizationGrouping groupBy) {
+        return ResponseEntity.ok(fleetAnalyticsService.utilization(from, to, groupBy));
+    }
+
+    @GetMapping("/lead-times")
+    public ResponseEntity<LeadTimeDistribution> getLeadTimes(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return ResponseEntity.ok(fleetAnalyticsService.leadTimes(from, to));
+    }
+
+    @PostMapping
+    public ResponseEntity<ReportJobResponse> submitReport(@Valid @RequestBody ReportJobRequest request) {
+        ReportJobResponse job = reportJobService.submit(request);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(job);
+    }
+
+    @GetMapping("/{jobId}")
+    public ResponseEntity<ReportJobResponse> getReport(@PathVariable String jobId) {
+        return ResponseEntity.ok(reportJobService.getJob(jobId));
+    }
+
+    @GetMapping("/{jobId}/download")
+    public ResponseEntity<Resource> downloadReport(@PathVariable String jobId) {
+        ReportDownload download = reportJobService.getDownload(jobId);
+        HttpHeaders headers = new HttpHeaders();
+        headers.add(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + download.getFileName() + "\"");
+        return ResponseEntity.ok()
+                .headers(headers)
+                .contentType(MediaType.parseMediaType(download.getContentType()))
+                .body(new FileSystemResource(download.getFile()));
+    }
+}
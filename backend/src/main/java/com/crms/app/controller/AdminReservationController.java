@@ -1,5 +1,6 @@
 package com.crms.app.controller;
 
+import com.crms.app.dto.ReservationPage;
 import com.crms.app.dto.ReservationSummary;
 import com.crms.app.model.ReservationStatus;
 import com.crms.app.service.ReportingService;
@@ -11,6 +12,7 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("/api/admin/reservations")
@@ -29,10 +31,19 @@ public class AdminReservationController {
         return ResponseEntity.ok(reservations);
     }
 
+    @GetMapping("/page")
+    public ResponseEntity<ReservationPage> pageReservations(
+            @RequestParam(required = false) ReservationStatus status,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        ReservationPage reservations = reportingService.pageReservations(status, cursor, limit);
+        return ResponseEntity.ok(reservations);
+    }
+
     @GetMapping(value = "/export/csv", produces = "text/csv")
-    public ResponseEntity<byte[]> exportReservationsCsv(
+    public ResponseEntity<StreamingResponseBody> exportReservationsCsv(
             @RequestParam(required = false) ReservationStatus status) {
-        byte[] report = reportingService.exportReservationsCsv(status);
+        StreamingResponseBody report = output -> reportingService.exportReservationsCsv(status, output);
         HttpHeaders headers = new HttpHeaders();
         headers.add(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"reservations.csv\"");
         return ResponseEntity.ok()
@@ -42,9 +53,9 @@ public class AdminReservationController {
     }
 
     @GetMapping(value = "/export/pdf", produces = MediaType.APPLICATION_PDF_VALUE)
-    public ResponseEntity<byte[]> exportReservationsPdf(
+    public ResponseEntity<StreamingResponseBody> exportReservationsPdf(
             @RequestParam(required = false) ReservationStatus status) {
-        byte[] report = reportingService.exportReservationsPdf(status);
+        StreamingResponseBody report = output -> reportingService.exportReservationsPdf(status, output);
         HttpHeaders headers = new HttpHeaders();
         headers.add(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"reservations.pdf\"");
         return ResponseEntity.ok()
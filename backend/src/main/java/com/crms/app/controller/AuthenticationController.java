@@ -1,6 +1,7 @@
 package com.crms.app.controller;
 
 import com.crms.app.dto.LoginRequest;
+import com.crms.app.dto.LoginResponse;
 import com.crms.app.dto.AuthProfileResponse;
 import com.crms.app.dto.MemberProfileUpdateRequest;
 import com.crms.app.dto.UserRegistrationRequest;
@@ -36,9 +37,8 @@ public class AuthenticationController {
     }
 
     @PostMapping("/login")
-    public ResponseEntity<Void> login(@Valid @RequestBody LoginRequest request) {
-        authenticationService.authenticate(request);
-        return ResponseEntity.ok().build();
+    public ResponseEntity<LoginResponse> login(@Valid @RequestBody LoginRequest request) {
+        return ResponseEntity.ok(authenticationService.authenticate(request));
     }
 
     @GetMapping("/profile")
@@ -2,13 +2,19 @@ package com.crms.app.controller;
 
 import com.crms.app.dto.CarResponse;
 import com.crms.app.dto.CarSearchCriteria;
+import com.crms.app.dto.FleetAvailabilityResponse;
+import com.crms.app.dto.LocationAvailabilityResponse;
 import com.crms.app.service.CarBrowsingService;
+import com.crms.app.service.FleetAvailabilityService;
 import jakarta.validation.Valid;
+import java.time.LocalDate;
 import java.util.List;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
@@ -16,9 +22,12 @@ import org.springframework.web.bind.annotation.RestController;
 public class CarBrowsingController {
 
     private final CarBrowsingService carBrowsingService;
+    private final FleetAvailabilityService fleetAvailabilityService;
 
-    public CarBrowsingController(CarBrowsingService carBrowsingService) {
+    public CarBrowsingController(CarBrowsingService carBrowsingService,
+                                 FleetAvailabilityService fleetAvailabilityService) {
         this.carBrowsingService = carBrowsingService;
+        this.fleetAvailabilityService = fleetAvailabilityService;
     }
 
     @GetMapping
@@ -27,6 +36,22 @@ public class CarBrowsingController {
         return ResponseEntity.ok(cars);
     }
 
+    @GetMapping("/availability")
+    public ResponseEntity<FleetAvailabilityResponse> findFreeCars(
+            @RequestParam(required = false) Long locationId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+        return ResponseEntity.ok(fleetAvailabilityService.findFreeCars(locationId, startDate, endDate));
+    }
+
+    @GetMapping("/availability/by-location")
+    public ResponseEntity<List<LocationAvailabilityResponse>> countFreeCarsByLocation(
+            @RequestParam(required = false) Long locationId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+        return ResponseEntity.ok(fleetAvailabilityService.countFreeCarsByLocation(locationId, startDate, endDate));
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<CarResponse> getCar(@PathVariable Long id) {
         CarResponse response = carBrowsingService.getCar(id);
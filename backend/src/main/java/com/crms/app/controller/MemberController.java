@@ -1,6 +1,7 @@
 package com.crms.app.controller;
 
 import com.crms.app.dto.MemberResponse;
+import com.crms.app.dto.ReservationPage;
 import com.crms.app.dto.ReservationSummary;
 import com.crms.app.service.MemberManagementService;
 import java.util.List;
@@ -8,6 +9,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
@@ -34,4 +36,11 @@ public class MemberController {
     public ResponseEntity<List<ReservationSummary>> listMemberReservations(@PathVariable Long id) {
         return ResponseEntity.ok(memberManagementService.listMemberReservations(id));
     }
+
+    @GetMapping("/{id}/reservations/page")
+    public ResponseEntity<ReservationPage> pageMemberReservations(@PathVariable Long id,
+                                                                  @RequestParam(required = false) String cursor,
+                                                                  @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(memberManagementService.pageMemberReservations(id, cursor, limit));
+    }
 }
@@ -1,8 +1,8 @@
 package com.crms.app.controller;
 
-import com.crms.app.dto.LocationResponse;
-import com.crms.app.service.LocationManagementService;
-import java.util.List;
+import com.crms.app.service.CatalogSnapshot;
+import com.crms.app.service.ReferenceCatalogCache;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -12,14 +12,18 @@ import org.springframework.web.bind.annotation.RestController;
 @RequestMapping("/api/locations")
 public class PublicLocationController {
 
-    private final LocationManagementService locationManagementService;
+    private final ReferenceCatalogCache catalogCache;
 
-    public PublicLocationController(LocationManagementService locationManagementService) {
-        this.locationManagementService = locationManagementService;
+    public PublicLocationController(ReferenceCatalogCache catalogCache) {
+        this.catalogCache = catalogCache;
     }
 
     @GetMapping
-    public ResponseEntity<List<LocationResponse>> listLocations() {
-        return ResponseEntity.ok(locationManagementService.listLocations());
+    public ResponseEntity<byte[]> listLocations() {
+        CatalogSnapshot<?, ?> snapshot = catalogCache.locations();
+        return ResponseEntity.ok()
+                .eTag(snapshot.getEtag())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(snapshot.getJson());
     }
 }
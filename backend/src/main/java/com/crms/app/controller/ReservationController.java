@@ -1,5 +1,7 @@
 package com.crms.app.controller;
 
+import com.crms.app.dto.BatchReservationRequest;
+import com.crms.app.dto.BatchReservationResponse;
 import com.crms.app.dto.ReservationQuoteResponse;
 import com.crms.app.dto.ReservationRequest;
 import com.crms.app.dto.ReservationSummary;
@@ -30,6 +32,14 @@ public class ReservationController {
         return ResponseEntity.status(HttpStatus.CREATED).body(summary);
     }
 
+    @PostMapping("/batch")
+    public ResponseEntity<BatchReservationResponse> createReservations(
+            @Valid @RequestBody BatchReservationRequest request) {
+        BatchReservationResponse response = reservationManagementService.createReservations(request);
+        HttpStatus status = response.getCreatedCount() > 0 ? HttpStatus.CREATED : HttpStatus.CONFLICT;
+        return ResponseEntity.status(status).body(response);
+    }
+
     @PostMapping("/quote")
     public ResponseEntity<ReservationQuoteResponse> quoteReservation(@Valid @RequestBody ReservationRequest request) {
         ReservationQuoteResponse response = reservationManagementService.quoteReservation(request);
@@ -4,10 +4,13 @@ import com.crms.app.dto.AdditionalServiceRequest;
 import com.crms.app.dto.AdditionalServiceResponse;
 import com.crms.app.dto.EquipmentRequest;
 import com.crms.app.dto.EquipmentResponse;
+import com.crms.app.service.CatalogSnapshot;
+import com.crms.app.service.ReferenceCatalogCache;
 import com.crms.app.service.ServiceSelectionService;
 import jakarta.validation.Valid;
 import java.util.List;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -23,19 +26,22 @@ import org.springframework.web.bind.annotation.RestController;
 public class ServiceSelectionController {
 
     private final ServiceSelectionService serviceSelectionService;
+    private final ReferenceCatalogCache catalogCache;
 
-    public ServiceSelectionController(ServiceSelectionService serviceSelectionService) {
+    public ServiceSelectionController(ServiceSelectionService serviceSelectionService,
+                                      ReferenceCatalogCache catalogCache) {
         this.serviceSelectionService = serviceSelectionService;
+        this.catalogCache = catalogCache;
     }
 
     @GetMapping("/services")
-    public ResponseEntity<List<AdditionalServiceResponse>> listServices() {
-        return ResponseEntity.ok(serviceSelectionService.listServices());
+    public ResponseEntity<byte[]> listServices() {
+        return catalogResponse(catalogCache.services());
     }
 
     @GetMapping("/equipment")
-    public ResponseEntity<List<EquipmentResponse>> listEquipment() {
-        return ResponseEntity.ok(serviceSelectionService.listEquipment());
+    public ResponseEntity<byte[]> listEquipment() {
+        return catalogResponse(catalogCache.equipment());
     }
 
     @GetMapping("/admin/services")
@@ -94,4 +100,11 @@ public class ServiceSelectionController {
         serviceSelectionService.deleteEquipment(id);
         return ResponseEntity.noContent().build();
     }
+
+    private ResponseEntity<byte[]> catalogResponse(CatalogSnapshot<?, ?> snapshot) {
+        return ResponseEntity.ok()
+                .eTag(snapshot.getEtag())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(snapshot.getJson());
+    }
 }
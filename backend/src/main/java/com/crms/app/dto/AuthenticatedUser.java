@@ -0,0 +1,39 @@
+package com.crms.app.dto;
+
+import com.crms.app.model.UserRole;
+
+public class AuthenticatedUser {
+
+    private Long id;
+    private String email;
+    private UserRole role;
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public void setEmail(String email) {
+        this.email = email;
+    }
+
+    public UserRole getRole() {
+        return role;
+    }
+
+    public void setRole(UserRole role) {
+        this.role = role;
+    }
+
+    @Override
+    public String toString() {
+        return email;
+    }
+}
@@ -0,0 +1,41 @@
+package com.crms.app.dto;
+
+public class BatchReservationItemResult {
+
+    private int index;
+    private String status;
+    private String message;
+    private ReservationSummary reservation;
+
+    public int getIndex() {
+        return index;
+    }
+
+    public void setIndex(int index) {
+        this.index = index;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public void setMessage(String message) {
+        this.message = message;
+    }
+
+    public ReservationSummary getReservation() {
+        return reservation;
+    }
+
+    public void setReservation(ReservationSummary reservation) {
+        this.reservation = reservation;
+    }
+}
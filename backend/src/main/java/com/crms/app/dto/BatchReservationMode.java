@@ -0,0 +1,6 @@
+package com.crms.app.dto;
+
+public enum BatchReservationMode {
+    ALL_OR_NOTHING,
+    BEST_EFFORT
+}
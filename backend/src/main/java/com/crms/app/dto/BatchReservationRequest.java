@@ -0,0 +1,31 @@
+package com.crms.app.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+
+public class BatchReservationRequest {
+
+    private BatchReservationMode mode = BatchReservationMode.ALL_OR_NOTHING;
+
+    @NotEmpty
+    @Size(max = 500)
+    private List<@Valid ReservationRequest> items;
+
+    public BatchReservationMode getMode() {
+        return mode;
+    }
+
+    public void setMode(BatchReservationMode mode) {
+        this.mode = mode;
+    }
+
+    public List<ReservationRequest> getItems() {
+        return items;
+    }
+
+    public void setItems(List<ReservationRequest> items) {
+        this.items = items;
+    }
+}
@@ -0,0 +1,52 @@
+package com.crms.app.dto;
+
+import java.util.List;
+
+public class BatchReservationResponse {
+
+    private BatchReservationMode mode;
+    private int requestedCount;
+    private int createdCount;
+    private int rejectedCount;
+    private List<BatchReservationItemResult> results;
+
+    public BatchReservationMode getMode() {
+        return mode;
+    }
+
+    public void setMode(BatchReservationMode mode) {
+        this.mode = mode;
+    }
+
+    public int getRequestedCount() {
+        return requestedCount;
+    }
+
+    public void setRequestedCount(int requestedCount) {
+        this.requestedCount = requestedCount;
+    }
+
+    public int getCreatedCount() {
+        return createdCount;
+    }
+
+    public void setCreatedCount(int createdCount) {
+        this.createdCount = createdCount;
+    }
+
+    public int getRejectedCount() {
+        return rejectedCount;
+    }
+
+    public void setRejectedCount(int rejectedCount) {
+        this.rejectedCount = rejectedCount;
+    }
+
+    public List<BatchReservationItemResult> getResults() {
+        return results;
+    }
+
+    public void setResults(List<BatchReservationItemResult> results) {
+        this.results = results;
+    }
+}
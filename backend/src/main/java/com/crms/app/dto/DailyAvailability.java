@@ -0,0 +1,25 @@
+package com.crms.app.dto;
+
+import java.time.LocalDate;
+
+public class DailyAvailability {
+
+    private LocalDate date;
+    private int freeCars;
+
+    public LocalDate getDate() {
+        return date;
+    }
+
+    public void setDate(LocalDate date) {
+        this.date = date;
+    }
+
+    public int getFreeCars() {
+        return freeCars;
+    }
+
+    public void setFreeCars(int freeCars) {
+        this.freeCars = freeCars;
+    }
+}
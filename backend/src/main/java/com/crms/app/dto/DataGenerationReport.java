@@ -0,0 +1,77 @@
+package com.crms.app.dto;
+
+public class DataGenerationReport {
+
+    private long seed;
+    private long locations;
+    private long cars;
+    private long members;
+    private long reservations;
+    private long serviceLinks;
+    private long equipmentLinks;
+    private long elapsedMillis;
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public void setSeed(long seed) {
+        this.seed = seed;
+    }
+
+    public long getLocations() {
+        return locations;
+    }
+
+    public void setLocations(long locations) {
+        this.locations = locations;
+    }
+
+    public long getCars() {
+        return cars;
+    }
+
+    public void setCars(long cars) {
+        this.cars = cars;
+    }
+
+    public long getMembers() {
+        return members;
+    }
+
+    public void setMembers(long members) {
+        this.members = members;
+    }
+
+    public long getReservations() {
+        return reservations;
+    }
+
+    public void setReservations(long reservations) {
+        this.reservations = reservations;
+    }
+
+    public long getServiceLinks() {
+        return serviceLinks;
+    }
+
+    public void setServiceLinks(long serviceLinks) {
+        this.serviceLinks = serviceLinks;
+    }
+
+    public long getEquipmentLinks() {
+        return equipmentLinks;
+    }
+
+    public void setEquipmentLinks(long equipmentLinks) {
+        this.equipmentLinks = equipmentLinks;
+    }
+
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    public void setElapsedMillis(long elapsedMillis) {
+        this.elapsedMillis = elapsedMillis;
+    }
+}
@@ -0,0 +1,44 @@
+package com.crms.app.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public class FleetAvailabilityResponse {
+
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private Long locationId;
+    private List<Long> freeCarIds;
+
+    public LocalDate getStartDate() {
+        return startDate;
+    }
+
+    public void setStartDate(LocalDate startDate) {
+        this.startDate = startDate;
+    }
+
+    public LocalDate getEndDate() {
+        return endDate;
+    }
+
+    public void setEndDate(LocalDate endDate) {
+        this.endDate = endDate;
+    }
+
+    public Long getLocationId() {
+        return locationId;
+    }
+
+    public void setLocationId(Long locationId) {
+        this.locationId = locationId;
+    }
+
+    public List<Long> getFreeCarIds() {
+        return freeCarIds;
+    }
+
+    public void setFreeCarIds(List<Long> freeCarIds) {
+        this.freeCarIds = freeCarIds;
+    }
+}
@@ -0,0 +1,99 @@
+package com.crms.app.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+public class FleetUtilizationReport {
+
+    private LocalDate from;
+    private LocalDate to;
+    private UtilizationGrouping groupBy;
+    private long scannedRows;
+    private long bookedCarDays;
+    private long availableCarDays;
+    private double utilization;
+    private BigDecimal revenue;
+    private BigDecimal revenuePerAvailableCarDay;
+    private List<FleetUtilizationRow> rows;
+
+    public LocalDate getFrom() {
+        return from;
+    }
+
+    public void setFrom(LocalDate from) {
+        this.from = from;
+    }
+
+    public LocalDate getTo() {
+        return to;
+    }
+
+    public void setTo(LocalDate to) {
+        this.to = to;
+    }
+
+    public UtilizationGrouping getGroupBy() {
+        return groupBy;
+    }
+
+    public void setGroupBy(UtilizationGrouping groupBy) {
+        this.groupBy = groupBy;
+    }
+
+    public long getScannedRows() {
+        return scannedRows;
+    }
+
+    public void setScannedRows(long scannedRows) {
+        this.scannedRows = scannedRows;
+    }
+
+    public long getBookedCarDays() {
+        return bookedCarDays;
+    }
+
+    public void setBookedCarDays(long bookedCarDays) {
+        this.bookedCarDays = bookedCarDays;
+    }
+
+    public long getAvailableCarDays() {
+        return availableCarDays;
+    }
+
+    public void setAvailableCarDays(long availableCarDays) {
+        this.availableCarDays = availableCarDays;
+    }
+
+    public double getUtilization() {
+        return utilization;
+    }
+
+    public void setUtilization(double utilization) {
+        this.utilization = utilization;
+    }
+
+    public BigDecimal getRevenue() {
+        return revenue;
+    }
+
+    public void setRevenue(BigDecimal revenue) {
+        this.revenue = revenue;
+    }
+
+    public BigDecimal getRevenuePerAvailableCarDay() {
+        return revenuePerAvailableCarDay;
+    }
+
+    public void setRevenuePerAvailableCarDay(BigDecimal revenuePerAvailableCarDay) {
+        this.revenuePerAvailableCarDay = revenuePerAvailableCarDay;
+    }
+
+    public List<FleetUtilizationRow> getRows() {
+        return rows;
+    }
+
+    public void setRows(List<FleetUtilizationRow> rows) {
+        this.rows = rows;
+    }
+}
@@ -0,0 +1,89 @@
+package com.crms.app.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public class FleetUtilizationRow {
+
+    private Long carId;
+    private Long locationId;
+    private LocalDate weekStart;
+    private long fleetSize;
+    private long bookedCarDays;
+    private long availableCarDays;
+    private double utilization;
+    private BigDecimal revenue;
+    private BigDecimal revenuePerAvailableCarDay;
+
+    public Long getCarId() {
+        return carId;
+    }
+
+    public void setCarId(Long carId) {
+        this.carId = carId;
+    }
+
+    public Long getLocationId() {
+        return locationId;
+    }
+
+    public void setLocationId(Long locationId) {
+        this.locationId = locationId;
+    }
+
+    public LocalDate getWeekStart() {
+        return weekStart;
+    }
+
+    public void setWeekStart(LocalDate weekStart) {
+        this.weekStart = weekStart;
+    }
+
+    public long getFleetSize() {
+        return fleetSize;
+    }
+
+    public void setFleetSize(long fleetSize) {
+        this.fleetSize = fleetSize;
+    }
+
+    public long getBookedCarDays() {
+        return bookedCarDays;
+    }
+
+    public void setBookedCarDays(long bookedCarDays) {
+        this.bookedCarDays = bookedCarDays;
+    }
+
+    public long getAvailableCarDays() {
+        return availableCarDays;
+    }
+
+    public void setAvailableCarDays(long availableCarDays) {
+        this.availableCarDays = availableCarDays;
+    }
+
+    public double getUtilization() {
+        return utilization;
+    }
+
+    public void setUtilization(double utilization) {
+        this.utilization = utilization;
+    }
+
+    public BigDecimal getRevenue() {
+        return revenue;
+    }
+
+    public void setRevenue(BigDecimal revenue) {
+        this.revenue = revenue;
+    }
+
+    public BigDecimal getRevenuePerAvailableCarDay() {
+        return revenuePerAvailableCarDay;
+    }
+
+    public void setRevenuePerAvailableCarDay(BigDecimal revenuePerAvailableCarDay) {
+        this.revenuePerAvailableCarDay = revenuePerAvailableCarDay;
+    }
+}
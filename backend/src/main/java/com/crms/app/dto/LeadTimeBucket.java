@@ -0,0 +1,32 @@
+package com.crms.app.dto;
+
+public class LeadTimeBucket {
+
+    private int minDays;
+    private Integer maxDays;
+    private long bookings;
+
+    public int getMinDays() {
+        return minDays;
+    }
+
+    public void setMinDays(int minDays) {
+        this.minDays = minDays;
+    }
+
+    public Integer getMaxDays() {
+        return maxDays;
+    }
+
+    public void setMaxDays(Integer maxDays) {
+        this.maxDays = maxDays;
+    }
+
+    public long getBookings() {
+        return bookings;
+    }
+
+    public void setBookings(long bookings) {
+        this.bookings = bookings;
+    }
+}
@@ -0,0 +1,80 @@
+package com.crms.app.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public class LeadTimeDistribution {
+
+    private LocalDate from;
+    private LocalDate to;
+    private long bookings;
+    private double meanDays;
+    private int medianDays;
+    private int p90Days;
+    private int p99Days;
+    private List<LeadTimeBucket> buckets;
+
+    public LocalDate getFrom() {
+        return from;
+    }
+
+    public void setFrom(LocalDate from) {
+        this.from = from;
+    }
+
+    public LocalDate getTo() {
+        return to;
+    }
+
+    public void setTo(LocalDate to) {
+        this.to = to;
+    }
+
+    public long getBookings() {
+        return bookings;
+    }
+
+    public void setBookings(long bookings) {
+        this.bookings = bookings;
+    }
+
+    public double getMeanDays() {
+        return meanDays;
+    }
+
+    public void setMeanDays(double meanDays) {
+        this.meanDays = meanDays;
+    }
+
+    public int getMedianDays() {
+        return medianDays;
+    }
+
+    public void setMedianDays(int medianDays) {
+        this.medianDays = medianDays;
+    }
+
+    public int getP90Days() {
+        return p90Days;
+    }
+
+    public void setP90Days(int p90Days) {
+        this.p90Days = p90Days;
+    }
+
+    public int getP99Days() {
+        return p99Days;
+    }
+
+    public void setP99Days(int p99Days) {
+        this.p99Days = p99Days;
+    }
+
+    public List<LeadTimeBucket> getBuckets() {
+        return buckets;
+    }
+
+    public void setBuckets(List<LeadTimeBucket> buckets) {
+        this.buckets = buckets;
+    }
+}
@@ -0,0 +1,34 @@
+package com.crms.app.dto;
+
+import java.util.List;
+
+public class LocationAvailabilityResponse {
+
+    private Long locationId;
+    private int totalCars;
+    private List<DailyAvailability> days;
+
+    public Long getLocationId() {
+        return locationId;
+    }
+
+    public void setLocationId(Long locationId) {
+        this.locationId = locationId;
+    }
+
+    public int getTotalCars() {
+        return totalCars;
+    }
+
+    public void setTotalCars(int totalCars) {
+        this.totalCars = totalCars;
+    }
+
+    public List<DailyAvailability> getDays() {
+        return days;
+    }
+
+    public void setDays(List<DailyAvailability> days) {
+        this.days = days;
+    }
+}
@@ -0,0 +1,34 @@
+package com.crms.app.dto;
+
+import java.nio.file.Path;
+
+public class ReportDownload {
+
+    private String fileName;
+    private String contentType;
+    private Path file;
+
+    public String getFileName() {
+        return fileName;
+    }
+
+    public void setFileName(String fileName) {
+        this.fileName = fileName;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public void setContentType(String contentType) {
+        this.contentType = contentType;
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    public void setFile(Path file) {
+        this.file = file;
+    }
+}
@@ -0,0 +1,22 @@
+package com.crms.app.dto;
+
+public enum ReportFormat {
+    CSV("text/csv", "csv"),
+    PDF("application/pdf", "pdf");
+
+    private final String contentType;
+    private final String fileExtension;
+
+    ReportFormat(String contentType, String fileExtension) {
+        this.contentType = contentType;
+        this.fileExtension = fileExtension;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public String getFileExtension() {
+        return fileExtension;
+    }
+}
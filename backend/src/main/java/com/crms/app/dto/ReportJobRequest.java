@@ -0,0 +1,28 @@
+package com.crms.app.dto;
+
+import com.crms.app.model.ReservationStatus;
+import jakarta.validation.constraints.NotNull;
+
+public class ReportJobRequest {
+
+    @NotNull
+    private ReportFormat format;
+
+    private ReservationStatus status;
+
+    public ReportFormat getFormat() {
+        return format;
+    }
+
+    public void setFormat(ReportFormat format) {
+        this.format = format;
+    }
+
+    public ReservationStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(ReservationStatus status) {
+        this.status = status;
+    }
+}
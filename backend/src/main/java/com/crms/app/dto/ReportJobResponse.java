@@ -0,0 +1,107 @@
+package com.crms.app.dto;
+
+import com.crms.app.model.ReservationStatus;
+import java.time.Instant;
+
+public class ReportJobResponse {
+
+    private String id;
+    private ReportFormat format;
+    private ReservationStatus status;
+    private ReportJobState state;
+    private long rowsWritten;
+    private Long totalRows;
+    private Integer progressPercent;
+    private Instant createdAt;
+    private Instant startedAt;
+    private Instant completedAt;
+    private String error;
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public ReportFormat getFormat() {
+        return format;
+    }
+
+    public void setFormat(ReportFormat format) {
+        this.format = format;
+    }
+
+    public ReservationStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(ReservationStatus status) {
+        this.status = status;
+    }
+
+    public ReportJobState getState() {
+        return state;
+    }
+
+    public void setState(ReportJobState state) {
+        this.state = state;
+    }
+
+    public long getRowsWritten() {
+        return rowsWritten;
+    }
+
+    public void setRowsWritten(long rowsWritten) {
+        this.rowsWritten = rowsWritten;
+    }
+
+    public Long getTotalRows() {
+        return totalRows;
+    }
+
+    public void setTotalRows(Long totalRows) {
+        this.totalRows = totalRows;
+    }
+
+    public Integer getProgressPercent() {
+        return progressPercent;
+    }
+
+    public void setProgressPercent(Integer progressPercent) {
+        this.progressPercent = progressPercent;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(Instant createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public Instant getStartedAt() {
+        return startedAt;
+    }
+
+    public void setStartedAt(Instant startedAt) {
+        this.startedAt = startedAt;
+    }
+
+    public Instant getCompletedAt() {
+        return completedAt;
+    }
+
+    public void setCompletedAt(Instant completedAt) {
+        this.completedAt = completedAt;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public void setError(String error) {
+        this.error = error;
+    }
+}
@@ -0,0 +1,8 @@
+package com.crms.app.dto;
+
+public enum ReportJobState {
+    QUEUED,
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
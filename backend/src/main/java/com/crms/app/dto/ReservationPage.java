@@ -0,0 +1,25 @@
+package com.crms.app.dto;
+
+import java.util.List;
+
+public class ReservationPage {
+
+    private List<ReservationSummary> items;
+    private String nextCursor;
+
+    public List<ReservationSummary> getItems() {
+        return items;
+    }
+
+    public void setItems(List<ReservationSummary> items) {
+        this.items = items;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+}
@@ -0,0 +1,107 @@
+package com.crms.app.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public class ReservationRollup {
+
+    private LocalDate day;
+    private Long locationId;
+    private String carType;
+    private long reservations;
+    private long completions;
+    private long cancellations;
+    private long bookedDays;
+    private BigDecimal revenue;
+    private BigDecimal addOnRevenue;
+    private long fleetSize;
+    private double utilization;
+
+    public LocalDate getDay() {
+        return day;
+    }
+
+    public void setDay(LocalDate day) {
+        this.day = day;
+    }
+
+    public Long getLocationId() {
+        return locationId;
+    }
+
+    public void setLocationId(Long locationId) {
+        this.locationId = locationId;
+    }
+
+    public String getCarType() {
+        return carType;
+    }
+
+    public void setCarType(String carType) {
+        this.carType = carType;
+    }
+
+    public long getReservations() {
+        return reservations;
+    }
+
+    public void setReservations(long reservations) {
+        this.reservations = reservations;
+    }
+
+    public long getCompletions() {
+        return completions;
+    }
+
+    public void setCompletions(long completions) {
+        this.completions = completions;
+    }
+
+    public long getCancellations() {
+        return cancellations;
+    }
+
+    public void setCancellations(long cancellations) {
+        this.cancellations = cancellations;
+    }
+
+    public long getBookedDays() {
+        return bookedDays;
+    }
+
+    public void setBookedDays(long bookedDays) {
+        this.bookedDays = bookedDays;
+    }
+
+    public BigDecimal getRevenue() {
+        return revenue;
+    }
+
+    public void setRevenue(BigDecimal revenue) {
+        this.revenue = revenue;
+    }
+
+    public BigDecimal getAddOnRevenue() {
+        return addOnRevenue;
+    }
+
+    public void setAddOnRevenue(BigDecimal addOnRevenue) {
+        this.addOnRevenue = addOnRevenue;
+    }
+
+    public long getFleetSize() {
+        return fleetSize;
+    }
+
+    public void setFleetSize(long fleetSize) {
+        this.fleetSize = fleetSize;
+    }
+
+    public double getUtilization() {
+        return utilization;
+    }
+
+    public void setUtilization(double utilization) {
+        this.utilization = utilization;
+    }
+}
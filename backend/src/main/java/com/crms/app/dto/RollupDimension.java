@@ -0,0 +1,7 @@
+package com.crms.app.dto;
+
+public enum RollupDimension {
+    DAY,
+    LOCATION,
+    CAR_TYPE
+}
@@ -0,0 +1,7 @@
+package com.crms.app.dto;
+
+public enum UtilizationGrouping {
+    CAR,
+    BRANCH,
+    WEEK
+}
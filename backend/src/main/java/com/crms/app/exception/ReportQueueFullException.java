@@ -0,0 +1,7 @@
+package com.crms.app.exception;
+
+public class ReportQueueFullException extends CrmsException {
+    public ReportQueueFullException(String message) {
+        super(message);
+    }
+}
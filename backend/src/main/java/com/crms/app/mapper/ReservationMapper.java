@@ -1,8 +1,16 @@
 package com.crms.app.mapper;
 
 import com.crms.app.dto.ReservationQuoteResponse;
+import com.crms.app.dto.ReservationRequest;
 import com.crms.app.dto.ReservationSummary;
 import com.crms.app.model.Reservation;
+import com.crms.app.repository.ReservationAddOnView;
+import com.crms.app.repository.ReservationSummaryView;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -29,21 +37,53 @@ public class ReservationMapper {
         return summary;
     }
 
-    public ReservationQuoteResponse toQuoteResponse(Reservation reservation) {
+    public List<ReservationSummary> toSummaries(List<ReservationSummaryView> views,
+                                                List<ReservationAddOnView> services,
+                                                List<ReservationAddOnView> equipments) {
+        Map<Long, List<Long>> serviceIds = groupByReservation(services);
+        Map<Long, List<Long>> equipmentIds = groupByReservation(equipments);
+        List<ReservationSummary> summaries = new ArrayList<>(views.size());
+        for (ReservationSummaryView view : views) {
+            ReservationSummary summary = new ReservationSummary();
+            summary.setId(view.getId());
+            summary.setReservationNumber(view.getReservationNumber());
+            summary.setMemberId(view.getMemberId());
+            summary.setCarId(view.getCarId());
+            summary.setPickupLocationId(view.getPickupLocationId());
+            summary.setDropoffLocationId(view.getDropoffLocationId());
+            summary.setStartDate(view.getStartDate());
+            summary.setEndDate(view.getEndDate());
+            summary.setTotalCost(view.getTotalCost());
+            summary.setStatus(view.getStatus());
+            summary.setAdditionalServiceIds(serviceIds.getOrDefault(view.getId(), List.of()));
+            summary.setEquipmentIds(equipmentIds.getOrDefault(view.getId(), List.of()));
+            summaries.add(summary);
+        }
+        return summaries;
+    }
+
+    public ReservationQuoteResponse toQuoteResponse(ReservationRequest request,
+                                                    List<Long> additionalServiceIds,
+                                                    List<Long> equipmentIds,
+                                                    BigDecimal totalCost) {
         ReservationQuoteResponse response = new ReservationQuoteResponse();
-        response.setMemberId(reservation.getMember().getId());
-        response.setCarId(reservation.getCar().getId());
-        response.setPickupLocationId(reservation.getPickupLocation().getId());
-        response.setDropoffLocationId(reservation.getDropoffLocation().getId());
-        response.setStartDate(reservation.getStartDate());
-        response.setEndDate(reservation.getEndDate());
-        response.setAdditionalServiceIds(reservation.getAdditionalServices().stream()
-                .map(service -> service.getId())
-                .toList());
-        response.setEquipmentIds(reservation.getEquipments().stream()
-                .map(equipment -> equipment.getId())
-                .toList());
-        response.setTotalCost(reservation.getTotalCost());
+        response.setMemberId(request.getMemberId());
+        response.setCarId(request.getCarId());
+        response.setPickupLocationId(request.getPickupLocationId());
+        response.setDropoffLocationId(request.getDropoffLocationId());
+        response.setStartDate(request.getStartDate());
+        response.setEndDate(request.getEndDate());
+        response.setAdditionalServiceIds(additionalServiceIds);
+        response.setEquipmentIds(equipmentIds);
+        response.setTotalCost(totalCost);
         return response;
     }
+
+    private Map<Long, List<Long>> groupByReservation(List<ReservationAddOnView> addOns) {
+        Map<Long, List<Long>> grouped = new HashMap<>();
+        for (ReservationAddOnView addOn : addOns) {
+            grouped.computeIfAbsent(addOn.getReservationId(), key -> new ArrayList<>()).add(addOn.getAddOnId());
+        }
+        return grouped;
+    }
 }
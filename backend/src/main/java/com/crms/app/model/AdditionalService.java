@@ -1,7 +1,9 @@
 package com.crms.app.model;
 
+import com.crms.app.model.listener.ReferenceCatalogListener;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
@@ -9,6 +11,7 @@ import jakarta.persistence.Table;
 import java.math.BigDecimal;
 
 @Entity
+@EntityListeners(ReferenceCatalogListener.class)
 @Table(name = "additional_services")
 public class AdditionalService {
 
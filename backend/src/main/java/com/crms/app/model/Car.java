@@ -1,7 +1,9 @@
 package com.crms.app.model;
 
+import com.crms.app.model.listener.ReferenceCatalogListener;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
@@ -10,11 +12,16 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostUpdate;
 import jakarta.persistence.Index;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
 import java.math.BigDecimal;
 
 @Entity
+@EntityListeners(ReferenceCatalogListener.class)
 @Table(name = "cars",
         indexes = {
                 @Index(name = "idx_cars_status", columnList = "status"),
@@ -85,6 +92,10 @@ public class Car {
     @JoinColumn(name = "location_id", nullable = false)
     private Location location;
 
+    // Rate as last loaded or written, so a save that leaves the rate alone does not invalidate priced rates.
+    @Transient
+    private BigDecimal persistedDailyRate;
+
     public Long getId() {
         return id;
     }
@@ -236,4 +247,16 @@ public class Car {
     public void setLocation(Location location) {
         this.location = location;
     }
+
+    public boolean isDailyRateChanged() {
+        return persistedDailyRate == null || persistedDailyRate.compareTo(dailyRate) != 0;
+    }
+
+    // Entity listeners run before this callback, so they still see the previous rate.
+    @PostLoad
+    @PostPersist
+    @PostUpdate
+    void rememberPersistedDailyRate() {
+        persistedDailyRate = dailyRate;
+    }
 }
@@ -1,13 +1,16 @@
 package com.crms.app.model;
 
+import com.crms.app.model.listener.ReferenceCatalogListener;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
 
 @Entity
+@EntityListeners(ReferenceCatalogListener.class)
 @Table(name = "locations")
 public class Location {
 
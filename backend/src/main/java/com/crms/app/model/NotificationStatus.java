@@ -0,0 +1,7 @@
+package com.crms.app.model;
+
+public enum NotificationStatus {
+    PENDING,
+    SENT,
+    DEAD
+}
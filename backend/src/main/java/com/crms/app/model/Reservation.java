@@ -1,7 +1,9 @@
 package com.crms.app.model;
 
+import com.crms.app.model.listener.ReferenceCatalogListener;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
@@ -15,16 +17,20 @@ import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import java.math.BigDecimal;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.util.HashSet;
 import java.util.Set;
 
 @Entity
+@EntityListeners(ReferenceCatalogListener.class)
 @Table(name = "reservations",
         indexes = {
                 @Index(name = "idx_reservations_car_status_dates",
                         columnList = "car_id,status,start_date,end_date"),
-                @Index(name = "idx_reservations_member", columnList = "member_id")
+                @Index(name = "idx_reservations_start_id", columnList = "start_date,id"),
+                @Index(name = "idx_reservations_status_start_id", columnList = "status,start_date,id"),
+                @Index(name = "idx_reservations_member_start_id", columnList = "member_id,start_date,id")
         })
 public class Reservation {
 
@@ -60,10 +66,17 @@ public class Reservation {
     @Column(nullable = false, precision = 10, scale = 2)
     private BigDecimal totalCost;
 
+    private String carType;
+
+    @Column(precision = 10, scale = 2)
+    private BigDecimal addOnCost;
+
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
     private ReservationStatus status = ReservationStatus.ACTIVE;
 
+    private Instant createdAt;
+
     @ManyToMany
     @JoinTable(
             name = "reservation_services",
@@ -150,6 +163,22 @@ public class Reservation {
         this.totalCost = totalCost;
     }
 
+    public String getCarType() {
+        return carType;
+    }
+
+    public void setCarType(String carType) {
+        this.carType = carType;
+    }
+
+    public BigDecimal getAddOnCost() {
+        return addOnCost;
+    }
+
+    public void setAddOnCost(BigDecimal addOnCost) {
+        this.addOnCost = addOnCost;
+    }
+
     public ReservationStatus getStatus() {
         return status;
     }
@@ -173,4 +202,12 @@ public class Reservation {
     public void setEquipments(Set<Equipment> equipments) {
         this.equipments = equipments;
     }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(Instant createdAt) {
+        this.createdAt = createdAt;
+    }
 }
@@ -0,0 +1,94 @@
+package com.crms.app.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import java.math.BigDecimal;
+
+/**
+ * Reservation totals per day, pickup location and car type. Bookings, completions, cancellations and revenue
+ * count on the pickup day; booked days count on every day the car is out, so a day's row gives the car-days in
+ * use for utilization. Canceled reservations only contribute to the booking and cancellation counts.
+ */
+@Entity
+@Table(name = "reservation_daily_rollups")
+public class ReservationDailyRollup {
+
+    @EmbeddedId
+    private ReservationRollupKey id;
+
+    @Column(nullable = false)
+    private long reservations;
+
+    @Column(nullable = false)
+    private long completions;
+
+    @Column(nullable = false)
+    private long cancellations;
+
+    @Column(nullable = false)
+    private long bookedDays;
+
+    @Column(nullable = false, precision = 14, scale = 2)
+    private BigDecimal revenue;
+
+    @Column(nullable = false, precision = 14, scale = 2)
+    private BigDecimal addOnRevenue;
+
+    public ReservationRollupKey getId() {
+        return id;
+    }
+
+    public void setId(ReservationRollupKey id) {
+        this.id = id;
+    }
+
+    public long getReservations() {
+        return reservations;
+    }
+
+    public void setReservations(long reservations) {
+        this.reservations = reservations;
+    }
+
+    public long getCompletions() {
+        return completions;
+    }
+
+    public void setCompletions(long completions) {
+        this.completions = completions;
+    }
+
+    public long getCancellations() {
+        return cancellations;
+    }
+
+    public void setCancellations(long cancellations) {
+        this.cancellations = cancellations;
+    }
+
+    public long getBookedDays() {
+        return bookedDays;
+    }
+
+    public void setBookedDays(long bookedDays) {
+        this.bookedDays = bookedDays;
+    }
+
+    public BigDecimal getRevenue() {
+        return revenue;
+    }
+
+    public void setRevenue(BigDecimal revenue) {
+        this.revenue = revenue;
+    }
+
+    public BigDecimal getAddOnRevenue() {
+        return addOnRevenue;
+    }
+
+    public void setAddOnRevenue(BigDecimal addOnRevenue) {
+        this.addOnRevenue = addOnRevenue;
+    }
+}
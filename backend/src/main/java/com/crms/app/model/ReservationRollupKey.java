@@ -0,0 +1,62 @@
+package com.crms.app.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.Objects;
+
+@Embeddable
+public class ReservationRollupKey implements Serializable {
+
+    @Column(name = "day", nullable = false)
+    private LocalDate day;
+
+    @Column(name = "location_id", nullable = false)
+    private Long locationId;
+
+    @Column(name = "car_type", nullable = false)
+    private String carType;
+
+    public LocalDate getDay() {
+        return day;
+    }
+
+    public void setDay(LocalDate day) {
+        this.day = day;
+    }
+
+    public Long getLocationId() {
+        return locationId;
+    }
+
+    public void setLocationId(Long locationId) {
+        this.locationId = locationId;
+    }
+
+    public String getCarType() {
+        return carType;
+    }
+
+    public void setCarType(String carType) {
+        this.carType = carType;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof ReservationRollupKey key)) {
+            return false;
+        }
+        return Objects.equals(day, key.day)
+                && Objects.equals(locationId, key.locationId)
+                && Objects.equals(carType, key.carType);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(day, locationId, carType);
+    }
+}
@@ -0,0 +1,25 @@
+package com.crms.app.model.listener;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+
+/**
+ * JPA listener on the reference catalog entities and reservations. Hibernate creates its own instance through
+ * the Spring bean container, so the shared state lives in {@link ReferenceCatalogVersions}.
+ */
+public class ReferenceCatalogListener {
+
+    private final ReferenceCatalogVersions versions;
+
+    public ReferenceCatalogListener(ReferenceCatalogVersions versions) {
+        this.versions = versions;
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChange(Object entity) {
+        versions.changed(entity);
+    }
+}
@@ -0,0 +1,98 @@
+package com.crms.app.model.listener;
+
+import com.crms.app.model.AdditionalService;
+import com.crms.app.model.Car;
+import com.crms.app.model.Equipment;
+import com.crms.app.model.Location;
+import com.crms.app.model.Reservation;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLongArray;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Version stamps for the reference catalogs and the reservation table. A version is bumped when a change is made
+ * and again when the writing transaction completes, so snapshots loaded while the change was still uncommitted (or
+ * later rolled back) are discarded.
+ */
+@Component
+public class ReferenceCatalogVersions {
+
+    public enum Catalog {
+        LOCATIONS,
+        SERVICES,
+        EQUIPMENT,
+        CARS,
+        CAR_RATES,
+        RESERVATIONS
+    }
+
+    private final AtomicLongArray versions = new AtomicLongArray(Catalog.values().length);
+
+    public long current(Catalog catalog) {
+        return versions.get(catalog.ordinal());
+    }
+
+    public boolean isChangedInCurrentTransaction(Catalog catalog) {
+        Object changes = TransactionSynchronizationManager.getResource(this);
+        return changes instanceof PendingChanges pending && pending.catalogs.contains(catalog);
+    }
+
+    void changed(Object entity) {
+        Catalog catalog = catalogOf(entity);
+        if (catalog != null) {
+            changed(catalog);
+        }
+        if (entity instanceof Car car && car.isDailyRateChanged()) {
+            changed(Catalog.CAR_RATES);
+        }
+    }
+
+    public void changed(Catalog catalog) {
+        versions.incrementAndGet(catalog.ordinal());
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        PendingChanges pending = (PendingChanges) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            pending = new PendingChanges();
+            TransactionSynchronizationManager.bindResource(this, pending);
+            TransactionSynchronizationManager.registerSynchronization(pending);
+        }
+        pending.catalogs.add(catalog);
+    }
+
+    private static Catalog catalogOf(Object entity) {
+        if (entity instanceof Location) {
+            return Catalog.LOCATIONS;
+        }
+        if (entity instanceof AdditionalService) {
+            return Catalog.SERVICES;
+        }
+        if (entity instanceof Equipment) {
+            return Catalog.EQUIPMENT;
+        }
+        if (entity instanceof Car) {
+            return Catalog.CARS;
+        }
+        if (entity instanceof Reservation) {
+            return Catalog.RESERVATIONS;
+        }
+        return null;
+    }
+
+    private final class PendingChanges implements TransactionSynchronization {
+
+        private final Set<Catalog> catalogs = EnumSet.noneOf(Catalog.class);
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(ReferenceCatalogVersions.this);
+            for (Catalog catalog : catalogs) {
+                versions.incrementAndGet(catalog.ordinal());
+            }
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.crms.app.repository;
+
+import com.crms.app.model.CarStatus;
+
+public interface CarLocationView {
+
+    Long getId();
+
+    Long getLocationId();
+
+    CarStatus getStatus();
+}
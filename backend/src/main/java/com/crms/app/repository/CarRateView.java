@@ -0,0 +1,10 @@
+package com.crms.app.repository;
+
+import java.math.BigDecimal;
+
+public interface CarRateView {
+
+    Long getId();
+
+    BigDecimal getDailyRate();
+}
@@ -1,8 +1,42 @@
 package com.crms.app.repository;
 
 import com.crms.app.model.Car;
+import com.crms.app.model.CarStatus;
+import jakarta.persistence.LockModeType;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-public interface CarRepository extends JpaRepository<Car, Long>, JpaSpecificationExecutor<Car> {
+public interface CarRepository extends JpaRepository<Car, Long>, JpaSpecificationExecutor<Car>, CarSearchRepository {
+
+    @Query("""
+            select c.id as id, c.location.id as locationId, c.status as status
+            from Car c
+            """)
+    List<CarLocationView> findAllLocationViews();
+
+    @Query("select c.status from Car c where c.id = :id")
+    Optional<CarStatus> findStatusById(@Param("id") Long id);
+
+    @Query("select c.id as id, c.dailyRate as dailyRate from Car c")
+    List<CarRateView> findAllRates();
+
+    @Query("select c.location.id as locationId, count(c) as cars from Car c group by c.location.id")
+    List<FleetSizeView> countByLocation();
+
+    @Query("select c.carType as carType, count(c) as cars from Car c group by c.carType")
+    List<FleetSizeView> countByCarType();
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select c from Car c where c.id = :id")
+    Optional<Car> findByIdForUpdate(@Param("id") Long id);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select c from Car c where c.id in :ids order by c.id")
+    List<Car> findAllByIdForUpdate(@Param("ids") Collection<Long> ids);
 }
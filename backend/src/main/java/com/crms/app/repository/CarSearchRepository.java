@@ -0,0 +1,15 @@
+package com.crms.app.repository;
+
+import com.crms.app.model.Car;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+
+public interface CarSearchRepository {
+
+    /**
+     * One page of matching cars, ordered by id, with their locations fetched in the same statement. No count
+     * query is issued.
+     */
+    List<Car> searchPage(Specification<Car> specification, Pageable pageable);
+}
@@ -0,0 +1,10 @@
+package com.crms.app.repository;
+
+public interface FleetSizeView {
+
+    Long getLocationId();
+
+    String getCarType();
+
+    Long getCars();
+}
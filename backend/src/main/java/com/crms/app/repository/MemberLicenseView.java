@@ -0,0 +1,10 @@
+package com.crms.app.repository;
+
+import java.time.LocalDate;
+
+public interface MemberLicenseView {
+
+    String getDrivingLicenseNumber();
+
+    LocalDate getDrivingLicenseExpiry();
+}
@@ -3,8 +3,17 @@ package com.crms.app.repository;
 import com.crms.app.model.Member;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface MemberRepository extends JpaRepository<Member, Long> {
 
     Optional<Member> findByEmail(String email);
+
+    @Query("""
+            select m.drivingLicenseNumber as drivingLicenseNumber, m.drivingLicenseExpiry as drivingLicenseExpiry
+            from Member m
+            where m.id = :id
+            """)
+    Optional<MemberLicenseView> findLicenseById(@Param("id") Long id);
 }
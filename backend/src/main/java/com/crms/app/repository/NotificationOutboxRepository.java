@@ -0,0 +1,25 @@
+package com.crms.app.repository;
+
+import com.crms.app.model.NotificationOutbox;
+import com.crms.app.model.NotificationStatus;
+import java.time.Instant;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface NotificationOutboxRepository extends JpaRepository<NotificationOutbox, Long> {
+
+    @Query(value = """
+            select *
+            from notification_outbox
+            where status = 'PENDING'
+              and next_attempt_at <= :now
+            order by id
+            limit :limit
+            for update skip locked
+            """, nativeQuery = true)
+    List<NotificationOutbox> findDueForUpdate(@Param("now") Instant now, @Param("limit") int limit);
+
+    List<NotificationOutbox> findAllByStatusOrderByIdAsc(NotificationStatus status);
+}
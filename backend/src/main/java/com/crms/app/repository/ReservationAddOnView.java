@@ -0,0 +1,8 @@
+package com.crms.app.repository;
+
+public interface ReservationAddOnView {
+
+    Long getReservationId();
+
+    Long getAddOnId();
+}
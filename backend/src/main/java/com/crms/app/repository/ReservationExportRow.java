@@ -0,0 +1,26 @@
+package com.crms.app.repository;
+
+import com.crms.app.model.ReservationStatus;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public interface ReservationExportRow {
+
+    String getReservationNumber();
+
+    ReservationStatus getStatus();
+
+    LocalDate getStartDate();
+
+    LocalDate getEndDate();
+
+    BigDecimal getTotalCost();
+
+    Long getMemberId();
+
+    Long getCarId();
+
+    Long getPickupLocationId();
+
+    Long getDropoffLocationId();
+}
@@ -0,0 +1,14 @@
+package com.crms.app.repository;
+
+import java.time.LocalDate;
+
+public interface ReservationIntervalView {
+
+    Long getId();
+
+    Long getCarId();
+
+    LocalDate getStartDate();
+
+    LocalDate getEndDate();
+}
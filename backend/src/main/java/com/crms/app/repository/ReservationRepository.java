@@ -2,47 +2,208 @@ package com.crms.app.repository;
 
 import com.crms.app.model.Reservation;
 import com.crms.app.model.ReservationStatus;
+import jakarta.persistence.QueryHint;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 public interface ReservationRepository extends JpaRepository<Reservation, Long> {
 
-    @Query("""
-            select count(r) > 0
-            from Reservation r
-            where r.car.id = :carId
-              and r.status = :status
-              and r.startDate <= :endDate
-              and r.endDate >= :startDate
-            """)
+    @Query(value = """
+            select exists (
+                select 1
+                from reservations r
+                where r.car_id = :carId
+                  and r.status = :#{#status.name()}
+                  and r.period && daterange(:startDate, :endDate, '[]')
+            )
+            """, nativeQuery = true)
     boolean existsOverlappingReservation(
             @Param("carId") Long carId,
             @Param("status") ReservationStatus status,
             @Param("startDate") LocalDate startDate,
             @Param("endDate") LocalDate endDate);
 
+    @Query(value = """
+            select exists (
+                select 1
+                from reservations r
+                where r.car_id = :carId
+                  and r.status = :#{#status.name()}
+                  and r.id <> :reservationId
+                  and r.period && daterange(:startDate, :endDate, '[]')
+            )
+            """, nativeQuery = true)
+    boolean existsOverlappingReservationExcludingId(
+            @Param("carId") Long carId,
+            @Param("reservationId") Long reservationId,
+            @Param("status") ReservationStatus status,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate);
+
+    @Query("""
+            select r.id as id, r.car.id as carId, r.startDate as startDate, r.endDate as endDate
+            from Reservation r
+            where r.status = :status
+            """)
+    List<ReservationIntervalView> findIntervalsByStatus(@Param("status") ReservationStatus status);
+
     @Query("""
-            select count(r) > 0
+            select r.id as id, r.car.id as carId, r.startDate as startDate, r.endDate as endDate
             from Reservation r
-            where r.car.id = :carId
+            where r.car.id in :carIds
               and r.status = :status
-              and r.id <> :reservationId
               and r.startDate <= :endDate
               and r.endDate >= :startDate
             """)
-    boolean existsOverlappingReservationExcludingId(
-            @Param("carId") Long carId,
-            @Param("reservationId") Long reservationId,
+    List<ReservationIntervalView> findIntervalsForCars(
+            @Param("carIds") Collection<Long> carIds,
             @Param("status") ReservationStatus status,
             @Param("startDate") LocalDate startDate,
             @Param("endDate") LocalDate endDate);
 
-    List<Reservation> findAllByStatusOrderByStartDateDesc(ReservationStatus status);
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("""
+            select r.reservationNumber as reservationNumber, r.status as status,
+                   r.startDate as startDate, r.endDate as endDate, r.totalCost as totalCost,
+                   r.member.id as memberId, r.car.id as carId,
+                   r.pickupLocation.id as pickupLocationId, r.dropoffLocation.id as dropoffLocationId
+            from Reservation r
+            where :status is null or r.status = :status
+            order by r.startDate desc
+            """)
+    Stream<ReservationExportRow> streamExportRows(@Param("status") ReservationStatus status);
 
-    List<Reservation> findAllByOrderByStartDateDesc();
+    @Query("select count(r) from Reservation r where :status is null or r.status = :status")
+    long countForExport(@Param("status") ReservationStatus status);
 
-    List<Reservation> findAllByMemberIdOrderByStartDateDesc(Long memberId);
+    @Query("""
+            select r.id as id, r.reservationNumber as reservationNumber,
+                   r.member.id as memberId, r.car.id as carId,
+                   r.pickupLocation.id as pickupLocationId, r.dropoffLocation.id as dropoffLocationId,
+                   r.startDate as startDate, r.endDate as endDate, r.totalCost as totalCost, r.status as status
+            from Reservation r
+            where :status is null or r.status = :status
+            order by r.startDate desc
+            """)
+    List<ReservationSummaryView> findSummaries(@Param("status") ReservationStatus status);
+
+    @Query("""
+            select r.id as id, r.reservationNumber as reservationNumber,
+                   r.member.id as memberId, r.car.id as carId,
+                   r.pickupLocation.id as pickupLocationId, r.dropoffLocation.id as dropoffLocationId,
+                   r.startDate as startDate, r.endDate as endDate, r.totalCost as totalCost, r.status as status
+            from Reservation r
+            where :status is null or r.status = :status
+            order by r.startDate desc, r.id desc
+            """)
+    List<ReservationSummaryView> findSummaryPage(@Param("status") ReservationStatus status, Limit limit);
+
+    @Query("""
+            select r.id as id, r.reservationNumber as reservationNumber,
+                   r.member.id as memberId, r.car.id as carId,
+                   r.pickupLocation.id as pickupLocationId, r.dropoffLocation.id as dropoffLocationId,
+                   r.startDate as startDate, r.endDate as endDate, r.totalCost as totalCost, r.status as status
+            from Reservation r
+            where (:status is null or r.status = :status)
+              and r.startDate <= :startDate
+              and (r.startDate < :startDate or r.id < :id)
+            order by r.startDate desc, r.id desc
+            """)
+    List<ReservationSummaryView> findSummaryPageAfter(
+            @Param("status") ReservationStatus status,
+            @Param("startDate") LocalDate startDate,
+            @Param("id") Long id,
+            Limit limit);
+
+    @Query("""
+            select r.id as reservationId, s.id as addOnId
+            from Reservation r join r.additionalServices s
+            where :status is null or r.status = :status
+            """)
+    List<ReservationAddOnView> findServiceIds(@Param("status") ReservationStatus status);
+
+    @Query("""
+            select r.id as reservationId, e.id as addOnId
+            from Reservation r join r.equipments e
+            where :status is null or r.status = :status
+            """)
+    List<ReservationAddOnView> findEquipmentIds(@Param("status") ReservationStatus status);
+
+    @Query("""
+            select r.id as id, r.reservationNumber as reservationNumber,
+                   r.member.id as memberId, r.car.id as carId,
+                   r.pickupLocation.id as pickupLocationId, r.dropoffLocation.id as dropoffLocationId,
+                   r.startDate as startDate, r.endDate as endDate, r.totalCost as totalCost, r.status as status
+            from Reservation r
+            where r.member.id = :memberId
+            order by r.startDate desc
+            """)
+    List<ReservationSummaryView> findSummariesByMemberId(@Param("memberId") Long memberId);
+
+    @Query("""
+            select r.id as id, r.reservationNumber as reservationNumber,
+                   r.member.id as memberId, r.car.id as carId,
+                   r.pickupLocation.id as pickupLocationId, r.dropoffLocation.id as dropoffLocationId,
+                   r.startDate as startDate, r.endDate as endDate, r.totalCost as totalCost, r.status as status
+            from Reservation r
+            where r.member.id = :memberId
+            order by r.startDate desc, r.id desc
+            """)
+    List<ReservationSummaryView> findMemberSummaryPage(@Param("memberId") Long memberId, Limit limit);
+
+    @Query("""
+            select r.id as id, r.reservationNumber as reservationNumber,
+                   r.member.id as memberId, r.car.id as carId,
+                   r.pickupLocation.id as pickupLocationId, r.dropoffLocation.id as dropoffLocationId,
+                   r.startDate as startDate, r.endDate as endDate, r.totalCost as totalCost, r.status as status
+            from Reservation r
+            where r.member.id = :memberId
+              and r.startDate <= :startDate
+              and (r.startDate < :startDate or r.id < :id)
+            order by r.startDate desc, r.id desc
+            """)
+    List<ReservationSummaryView> findMemberSummaryPageAfter(
+            @Param("memberId") Long memberId,
+            @Param("startDate") LocalDate startDate,
+            @Param("id") Long id,
+            Limit limit);
+
+    @Query("""
+            select r.id as reservationId, s.id as addOnId
+            from Reservation r join r.additionalServices s
+            where r.member.id = :memberId
+            """)
+    List<ReservationAddOnView> findServiceIdsByMemberId(@Param("memberId") Long memberId);
+
+    @Query("""
+            select r.id as reservationId, e.id as addOnId
+            from Reservation r join r.equipments e
+            where r.member.id = :memberId
+            """)
+    List<ReservationAddOnView> findEquipmentIdsByMemberId(@Param("memberId") Long memberId);
+
+    @Query("""
+            select r.id as reservationId, s.id as addOnId
+            from Reservation r join r.additionalServices s
+            where r.id in :reservationIds
+            """)
+    List<ReservationAddOnView> findServiceIdsByReservationIds(@Param("reservationIds") Collection<Long> reservationIds);
+
+    @Query("""
+            select r.id as reservationId, e.id as addOnId
+            from Reservation r join r.equipments e
+            where r.id in :reservationIds
+            """)
+    List<ReservationAddOnView> findEquipmentIdsByReservationIds(@Param("reservationIds") Collection<Long> reservationIds);
 }
@@ -0,0 +1,45 @@
+package com.crms.app.repository;
+
+import com.crms.app.model.ReservationDailyRollup;
+import com.crms.app.model.ReservationRollupKey;
+import java.time.LocalDate;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface ReservationRollupRepository extends JpaRepository<ReservationDailyRollup, ReservationRollupKey> {
+
+    @Query("""
+            select r.id.day as day, sum(r.reservations) as reservations, sum(r.completions) as completions,
+                   sum(r.cancellations) as cancellations, sum(r.bookedDays) as bookedDays,
+                   sum(r.revenue) as revenue, sum(r.addOnRevenue) as addOnRevenue
+            from ReservationDailyRollup r
+            where r.id.day between :from and :to
+            group by r.id.day
+            order by r.id.day
+            """)
+    List<ReservationRollupView> summarizeByDay(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    @Query("""
+            select r.id.locationId as locationId, sum(r.reservations) as reservations,
+                   sum(r.completions) as completions, sum(r.cancellations) as cancellations,
+                   sum(r.bookedDays) as bookedDays, sum(r.revenue) as revenue, sum(r.addOnRevenue) as addOnRevenue
+            from ReservationDailyRollup r
+            where r.id.day between :from and :to
+            group by r.id.locationId
+            order by r.id.locationId
+            """)
+    List<ReservationRollupView> summarizeByLocation(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    @Query("""
+            select r.id.carType as carType, sum(r.reservations) as reservations,
+                   sum(r.completions) as completions, sum(r.cancellations) as cancellations,
+                   sum(r.bookedDays) as bookedDays, sum(r.revenue) as revenue, sum(r.addOnRevenue) as addOnRevenue
+            from ReservationDailyRollup r
+            where r.id.day between :from and :to
+            group by r.id.carType
+            order by r.id.carType
+            """)
+    List<ReservationRollupView> summarizeByCarType(@Param("from") LocalDate from, @Param("to") LocalDate to);
+}
@@ -0,0 +1,25 @@
+package com.crms.app.repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public interface ReservationRollupView {
+
+    LocalDate getDay();
+
+    Long getLocationId();
+
+    String getCarType();
+
+    Long getReservations();
+
+    Long getCompletions();
+
+    Long getCancellations();
+
+    Long getBookedDays();
+
+    BigDecimal getRevenue();
+
+    BigDecimal getAddOnRevenue();
+}
@@ -0,0 +1,28 @@
+package com.crms.app.repository;
+
+import com.crms.app.model.ReservationStatus;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public interface ReservationSummaryView {
+
+    Long getId();
+
+    String getReservationNumber();
+
+    Long getMemberId();
+
+    Long getCarId();
+
+    Long getPickupLocationId();
+
+    Long getDropoffLocationId();
+
+    LocalDate getStartDate();
+
+    LocalDate getEndDate();
+
+    BigDecimal getTotalCost();
+
+    ReservationStatus getStatus();
+}
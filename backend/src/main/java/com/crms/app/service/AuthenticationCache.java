@@ -0,0 +1,12 @@
+package com.crms.app.service;
+
+import org.springframework.security.core.Authentication;
+
+public interface AuthenticationCache {
+
+    Authentication get(String username, String password);
+
+    void put(String username, String password, Authentication authentication);
+
+    void evict(String username);
+}
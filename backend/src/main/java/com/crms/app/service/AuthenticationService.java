@@ -1,6 +1,7 @@
 package com.crms.app.service;
 
 import com.crms.app.dto.LoginRequest;
+import com.crms.app.dto.LoginResponse;
 import com.crms.app.dto.UserRegistrationRequest;
 import com.crms.app.model.Member;
 
@@ -8,5 +9,5 @@ public interface AuthenticationService {
 
     Member registerMember(UserRegistrationRequest request);
 
-    void authenticate(LoginRequest request);
+    LoginResponse authenticate(LoginRequest request);
 }
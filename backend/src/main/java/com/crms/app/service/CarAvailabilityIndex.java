@@ -0,0 +1,15 @@
+package com.crms.app.service;
+
+import com.crms.app.model.Reservation;
+import java.time.LocalDate;
+
+public interface CarAvailabilityIndex {
+
+    boolean isAvailable(Long carId, LocalDate startDate, LocalDate endDate);
+
+    boolean isAvailableExcluding(Long carId, Long reservationId, LocalDate startDate, LocalDate endDate);
+
+    void recordReservation(Reservation reservation);
+
+    void reload();
+}
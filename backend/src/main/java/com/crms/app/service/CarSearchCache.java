@@ -0,0 +1,31 @@
+package com.crms.app.service;
+
+import com.crms.app.dto.CarResponse;
+import com.crms.app.dto.CarSearchCriteria;
+import com.crms.app.model.Car;
+import com.crms.app.model.Reservation;
+import java.util.List;
+import java.util.function.Supplier;
+import org.springframework.data.domain.Pageable;
+
+public interface CarSearchCache {
+
+    /**
+     * Returns the cached page for the criteria, or runs {@code search} and caches its result.
+     */
+    List<CarResponse> search(CarSearchCriteria criteria, Pageable page, Supplier<List<CarResponse>> search);
+
+    /**
+     * After commit, drops every page of each search the car (in its current state) can appear in.
+     */
+    void evictCar(Car car);
+
+    /**
+     * After commit, drops every page of each dated search that overlaps the reservation and can include its car.
+     */
+    void evictReservation(Reservation reservation);
+
+    void evictLocation(Long locationId);
+
+    void clear();
+}
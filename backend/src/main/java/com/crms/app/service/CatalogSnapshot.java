@@ -0,0 +1,61 @@
+package com.crms.app.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Immutable view of a reference catalog: detached entities by id, the mapped responses and the
+ * pre-serialized JSON body with its ETag.
+ */
+public final class CatalogSnapshot<E, R> {
+
+    private final Map<Long, E> entities;
+    private final List<R> responses;
+    private final byte[] json;
+    private final String etag;
+
+    public CatalogSnapshot(Map<Long, E> entities, List<R> responses, byte[] json, String etag) {
+        this.entities = Collections.unmodifiableMap(new LinkedHashMap<>(entities));
+        this.responses = List.copyOf(responses);
+        this.json = json;
+        this.etag = etag;
+    }
+
+    public Map<Long, E> getEntities() {
+        return entities;
+    }
+
+    public Optional<E> find(Long id) {
+        return Optional.ofNullable(entities.get(id));
+    }
+
+    public List<E> findAll(Collection<Long> ids) {
+        List<E> found = new ArrayList<>();
+        if (ids != null) {
+            for (Long id : ids) {
+                E entity = entities.get(id);
+                if (entity != null) {
+                    found.add(entity);
+                }
+            }
+        }
+        return found;
+    }
+
+    public List<R> getResponses() {
+        return responses;
+    }
+
+    public byte[] getJson() {
+        return json;
+    }
+
+    public String getEtag() {
+        return etag;
+    }
+}
@@ -0,0 +1,28 @@
+package com.crms.app.service;
+
+import com.crms.app.dto.FleetUtilizationReport;
+import com.crms.app.dto.LeadTimeDistribution;
+import com.crms.app.dto.UtilizationGrouping;
+import com.crms.app.model.Reservation;
+import java.time.LocalDate;
+
+public interface FleetAnalyticsService {
+
+    /**
+     * Booked car-days, available car-days and revenue per available car-day over the inclusive range, for
+     * each car, branch (the car's current location) or week. Revenue is spread evenly over a rental's days.
+     */
+    FleetUtilizationReport utilization(LocalDate from, LocalDate to, UtilizationGrouping groupBy);
+
+    /**
+     * Days between booking and pick-up for reservations picking up within the inclusive range.
+     */
+    LeadTimeDistribution leadTimes(LocalDate from, LocalDate to);
+
+    void recordReservation(Reservation reservation);
+
+    /**
+     * Drops the in-memory snapshot and fleet table; the next query reloads them from the database.
+     */
+    void invalidate();
+}
@@ -0,0 +1,23 @@
+package com.crms.app.service;
+
+import com.crms.app.dto.FleetAvailabilityResponse;
+import com.crms.app.dto.LocationAvailabilityResponse;
+import com.crms.app.model.Car;
+import com.crms.app.model.Reservation;
+import java.time.LocalDate;
+import java.util.List;
+
+public interface FleetAvailabilityService {
+
+    FleetAvailabilityResponse findFreeCars(Long locationId, LocalDate startDate, LocalDate endDate);
+
+    List<LocationAvailabilityResponse> countFreeCarsByLocation(Long locationId, LocalDate startDate, LocalDate endDate);
+
+    void recordReservation(Reservation reservation);
+
+    void recordCar(Car car);
+
+    void removeCar(Long carId);
+
+    void reload();
+}
@@ -1,6 +1,7 @@
 package com.crms.app.service;
 
 import com.crms.app.dto.MemberResponse;
+import com.crms.app.dto.ReservationPage;
 import com.crms.app.dto.ReservationSummary;
 import java.util.List;
 
@@ -11,4 +12,6 @@ public interface MemberManagementService {
     MemberResponse getMember(Long id);
 
     List<ReservationSummary> listMemberReservations(Long memberId);
+
+    ReservationPage pageMemberReservations(Long memberId, String cursor, Integer limit);
 }
@@ -0,0 +1,8 @@
+package com.crms.app.service;
+
+public interface NotificationDispatcher {
+
+    int dispatchDue();
+
+    void requestDispatch();
+}
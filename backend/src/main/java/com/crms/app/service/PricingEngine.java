@@ -0,0 +1,28 @@
+package com.crms.app.service;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+public interface PricingEngine {
+
+    /**
+     * Total price in cents for renting the car for the given number of days with the selected add-ons.
+     * Unknown or repeated add-on ids are ignored.
+     */
+    long quote(long carId, long days, List<Long> serviceIds, List<Long> equipmentIds);
+
+    default BigDecimal quoteAmount(long carId, LocalDate startDate, LocalDate endDate,
+                                   List<Long> serviceIds, List<Long> equipmentIds) {
+        return toAmount(quote(carId, rentalDays(startDate, endDate), serviceIds, equipmentIds));
+    }
+
+    static long rentalDays(LocalDate startDate, LocalDate endDate) {
+        return Math.max(1, ChronoUnit.DAYS.between(startDate, endDate));
+    }
+
+    static BigDecimal toAmount(long cents) {
+        return BigDecimal.valueOf(cents, 2);
+    }
+}
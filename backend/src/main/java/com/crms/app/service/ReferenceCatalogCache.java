@@ -0,0 +1,17 @@
+package com.crms.app.service;
+
+import com.crms.app.dto.AdditionalServiceResponse;
+import com.crms.app.dto.EquipmentResponse;
+import com.crms.app.dto.LocationResponse;
+import com.crms.app.model.AdditionalService;
+import com.crms.app.model.Equipment;
+import com.crms.app.model.Location;
+
+public interface ReferenceCatalogCache {
+
+    CatalogSnapshot<Location, LocationResponse> locations();
+
+    CatalogSnapshot<AdditionalService, AdditionalServiceResponse> services();
+
+    CatalogSnapshot<Equipment, EquipmentResponse> equipment();
+}
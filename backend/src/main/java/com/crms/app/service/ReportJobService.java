@@ -0,0 +1,20 @@
+package com.crms.app.service;
+
+import com.crms.app.dto.ReportDownload;
+import com.crms.app.dto.ReportJobRequest;
+import com.crms.app.dto.ReportJobResponse;
+
+public interface ReportJobService {
+
+    /**
+     * Queues a report, or returns the job already producing (or holding) the same report for the current
+     * reservation data.
+     */
+    ReportJobResponse submit(ReportJobRequest request);
+
+    ReportJobResponse getJob(String jobId);
+
+    ReportDownload getDownload(String jobId);
+
+    int purgeExpired();
+}
@@ -1,14 +1,41 @@
 package com.crms.app.service;
 
+import com.crms.app.dto.ReservationPage;
+import com.crms.app.dto.ReservationRollup;
 import com.crms.app.dto.ReservationSummary;
+import com.crms.app.dto.RollupDimension;
 import com.crms.app.model.ReservationStatus;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
 import java.util.List;
+import java.util.function.LongConsumer;
 
 public interface ReportingService {
 
     List<ReservationSummary> listReservations(ReservationStatus status);
 
-    byte[] exportReservationsCsv(ReservationStatus status);
+    ReservationPage pageReservations(ReservationStatus status, String cursor, Integer limit);
 
-    byte[] exportReservationsPdf(ReservationStatus status);
+    long countReservations(ReservationStatus status);
+
+    void exportReservationsCsv(ReservationStatus status, OutputStream output) throws IOException;
+
+    /**
+     * Same as {@link #exportReservationsCsv(ReservationStatus, OutputStream)}, reporting the number of rows
+     * written so far to {@code progress} as the export proceeds.
+     */
+    void exportReservationsCsv(ReservationStatus status, OutputStream output, LongConsumer progress)
+            throws IOException;
+
+    void exportReservationsPdf(ReservationStatus status, OutputStream output) throws IOException;
+
+    void exportReservationsPdf(ReservationStatus status, OutputStream output, LongConsumer progress)
+            throws IOException;
+
+    /**
+     * Reservation totals for the inclusive date range, read from the daily rollups and grouped by the given
+     * dimension. Utilization is booked car-days over fleet car-days for the group.
+     */
+    List<ReservationRollup> summarizeReservations(LocalDate from, LocalDate to, RollupDimension groupBy);
 }
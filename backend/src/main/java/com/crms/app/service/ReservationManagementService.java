@@ -1,5 +1,7 @@
 package com.crms.app.service;
 
+import com.crms.app.dto.BatchReservationRequest;
+import com.crms.app.dto.BatchReservationResponse;
 import com.crms.app.dto.ReservationQuoteResponse;
 import com.crms.app.dto.ReservationRequest;
 import com.crms.app.dto.ReservationSummary;
@@ -10,6 +12,8 @@ public interface ReservationManagementService {
 
     ReservationSummary createReservation(ReservationRequest request);
 
+    BatchReservationResponse createReservations(BatchReservationRequest request);
+
     ReservationSummary updateReservation(Long reservationId, ReservationRequest request);
 
     ReservationSummary cancelReservation(Long reservationId);
@@ -0,0 +1,12 @@
+package com.crms.app.service;
+
+import com.crms.app.config.DataGeneratorProperties;
+import com.crms.app.dto.DataGenerationReport;
+
+public interface SyntheticDataGenerator {
+
+    /**
+     * Appends a deterministic synthetic data set (same seed and sizes, same rows) to the current database.
+     */
+    DataGenerationReport generate(DataGeneratorProperties settings);
+}
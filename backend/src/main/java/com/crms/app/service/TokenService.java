@@ -0,0 +1,12 @@
+package com.crms.app.service;
+
+import com.crms.app.dto.AuthenticatedUser;
+import com.crms.app.dto.LoginResponse;
+import com.crms.app.model.User;
+
+public interface TokenService {
+
+    LoginResponse issueToken(User user);
+
+    AuthenticatedUser verify(String token);
+}
@@ -0,0 +1,106 @@
+package com.crms.app.service.impl;
+
+import com.crms.app.config.AuthCacheProperties;
+import com.crms.app.service.AuthenticationCache;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Service;
+
+@Service
+public class AuthenticationCacheImpl implements AuthenticationCache {
+
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+
+    private final AuthCacheProperties properties;
+    private final SecretKeySpec key;
+    private final Map<String, CachedAuthentication> entries;
+
+    public AuthenticationCacheImpl(AuthCacheProperties properties) {
+        this.properties = properties;
+        byte[] secret = new byte[32];
+        new SecureRandom().nextBytes(secret);
+        this.key = new SecretKeySpec(secret, HMAC_ALGORITHM);
+        int maxEntries = properties.getMaxEntries();
+        this.entries = new LinkedHashMap<>(64, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedAuthentication> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    @Override
+    public Authentication get(String username, String password) {
+        if (!properties.isEnabled()) {
+            return null;
+        }
+        String cacheKey = cacheKey(username, password);
+        CachedAuthentication cached;
+        synchronized (entries) {
+            cached = entries.get(cacheKey);
+            if (cached != null && cached.expiresAtMillis() < System.currentTimeMillis()) {
+                entries.remove(cacheKey);
+                cached = null;
+            }
+        }
+        if (cached == null) {
+            return null;
+        }
+        return UsernamePasswordAuthenticationToken.authenticated(
+                cached.authentication().getPrincipal(),
+                null,
+                cached.authentication().getAuthorities());
+    }
+
+    @Override
+    public void put(String username, String password, Authentication authentication) {
+        if (!properties.isEnabled() || authentication == null || !authentication.isAuthenticated()) {
+            return;
+        }
+        CachedAuthentication cached = new CachedAuthentication(
+                normalize(username),
+                authentication,
+                System.currentTimeMillis() + properties.getTtlSeconds() * 1000);
+        String cacheKey = cacheKey(username, password);
+        synchronized (entries) {
+            entries.put(cacheKey, cached);
+        }
+    }
+
+    @Override
+    public void evict(String username) {
+        String normalized = normalize(username);
+        synchronized (entries) {
+            entries.values().removeIf(cached -> cached.username().equals(normalized));
+        }
+    }
+
+    private String cacheKey(String username, String password) {
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(key);
+            mac.update(normalize(username).getBytes(StandardCharsets.UTF_8));
+            mac.update((byte) 0);
+            mac.update(password.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(mac.doFinal());
+        } catch (GeneralSecurityException ex) {
+            throw new IllegalStateException("Failed to hash credentials for the authentication cache.", ex);
+        }
+    }
+
+    private String normalize(String username) {
+        return username == null ? "" : username.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private record CachedAuthentication(String username, Authentication authentication, long expiresAtMillis) {
+    }
+}
@@ -1,6 +1,7 @@
 package com.crms.app.service.impl;
 
 import com.crms.app.dto.LoginRequest;
+import com.crms.app.dto.LoginResponse;
 import com.crms.app.dto.UserRegistrationRequest;
 import com.crms.app.exception.CrmsException;
 import com.crms.app.exception.InvalidCredentialsException;
@@ -10,6 +11,7 @@ import com.crms.app.model.User;
 import com.crms.app.repository.MemberRepository;
 import com.crms.app.repository.UserRepository;
 import com.crms.app.service.AuthenticationService;
+import com.crms.app.service.TokenService;
 import java.util.Locale;
 import java.util.regex.Pattern;
 import org.springframework.stereotype.Service;
@@ -28,15 +30,18 @@ public class AuthenticationServiceImpl implements AuthenticationService {
     private final MemberRepository memberRepository;
     private final PasswordEncoder passwordEncoder;
     private final UserMapper userMapper;
+    private final TokenService tokenService;
 
     public AuthenticationServiceImpl(UserRepository userRepository,
                                      MemberRepository memberRepository,
                                      PasswordEncoder passwordEncoder,
-                                     UserMapper userMapper) {
+                                     UserMapper userMapper,
+                                     TokenService tokenService) {
         this.userRepository = userRepository;
         this.memberRepository = memberRepository;
         this.passwordEncoder = passwordEncoder;
         this.userMapper = userMapper;
+        this.tokenService = tokenService;
     }
 
     @Override
@@ -57,13 +62,14 @@ public class AuthenticationServiceImpl implements AuthenticationService {
     }
 
     @Override
-    public void authenticate(LoginRequest request) {
+    public LoginResponse authenticate(LoginRequest request) {
         String normalizedEmail = normalizeEmail(request.getEmail());
         User user = userRepository.findByEmail(normalizedEmail)
                 .orElseThrow(() -> new InvalidCredentialsException("Invalid email or password."));
         if (!passwordEncoder.matches(request.getPassword(), user.getPassword())) {
             throw new InvalidCredentialsException("Invalid email or password.");
         }
+        return tokenService.issueToken(user);
     }
 
     private String normalizeEmail(String email) {
@@ -0,0 +1,209 @@
+package com.crms.app.service.impl;
+
+import com.crms.app.model.Reservation;
+import com.crms.app.model.ReservationStatus;
+import com.crms.app.repository.ReservationIntervalView;
+import com.crms.app.repository.ReservationRepository;
+import com.crms.app.service.CarAvailabilityIndex;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+@Service
+public class CarAvailabilityIndexImpl implements CarAvailabilityIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(CarAvailabilityIndexImpl.class);
+
+    private final ReservationRepository reservationRepository;
+
+    private volatile Map<Long, CarIntervals> intervalsByCar = new ConcurrentHashMap<>();
+    private volatile Map<Long, Long> carByReservation = new ConcurrentHashMap<>();
+
+    public CarAvailabilityIndexImpl(ReservationRepository reservationRepository) {
+        this.reservationRepository = reservationRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        reload();
+    }
+
+    @Override
+    public boolean isAvailable(Long carId, LocalDate startDate, LocalDate endDate) {
+        return isAvailableExcluding(carId, null, startDate, endDate);
+    }
+
+    @Override
+    public boolean isAvailableExcluding(Long carId, Long reservationId, LocalDate startDate, LocalDate endDate) {
+        CarIntervals intervals = intervalsByCar.get(carId);
+        if (intervals == null) {
+            return true;
+        }
+        return !intervals.overlaps(startDate.toEpochDay(), endDate.toEpochDay(), reservationId);
+    }
+
+    @Override
+    public void recordReservation(Reservation reservation) {
+        Long reservationId = reservation.getId();
+        Long carId = reservation.getCar().getId();
+        long startDay = reservation.getStartDate().toEpochDay();
+        long endDay = reservation.getEndDate().toEpochDay();
+        boolean active = reservation.getStatus() == ReservationStatus.ACTIVE;
+        AfterCommit.run(() -> apply(reservationId, carId, startDay, endDay, active));
+    }
+
+    @Override
+    public synchronized void reload() {
+        List<ReservationIntervalView> views = reservationRepository.findIntervalsByStatus(ReservationStatus.ACTIVE);
+        Map<Long, Long> nextCars = new ConcurrentHashMap<>();
+        Map<Long, List<ReservationIntervalView>> viewsByCar = new HashMap<>();
+        for (ReservationIntervalView view : views) {
+            nextCars.put(view.getId(), view.getCarId());
+            viewsByCar.computeIfAbsent(view.getCarId(), key -> new ArrayList<>()).add(view);
+        }
+        Map<Long, CarIntervals> nextIntervals = new ConcurrentHashMap<>();
+        viewsByCar.forEach((carId, carViews) -> nextIntervals.put(carId, CarIntervals.of(carViews)));
+        intervalsByCar = nextIntervals;
+        carByReservation = nextCars;
+        logger.info("Car availability index loaded: cars={}, reservations={}", nextIntervals.size(), views.size());
+    }
+
+    private synchronized void apply(Long reservationId, Long carId, long startDay, long endDay, boolean active) {
+        Long previousCarId = carByReservation.remove(reservationId);
+        if (previousCarId != null) {
+            intervalsByCar.computeIfPresent(previousCarId, (key, intervals) -> intervals.without(reservationId));
+        }
+        if (active) {
+            carByReservation.put(reservationId, carId);
+            intervalsByCar.merge(carId, CarIntervals.EMPTY.with(reservationId, startDay, endDay), CarIntervals::merge);
+        }
+    }
+
+    /**
+     * Immutable, start-sorted intervals of one car. {@code maxEnds[i]} is the largest end day
+     * among intervals {@code 0..i}, so an overlap probe is a binary search plus a short backward walk.
+     */
+    static final class CarIntervals {
+
+        static final CarIntervals EMPTY = new CarIntervals(new long[0], new long[0], new long[0], new long[0]);
+
+        private final long[] ids;
+        private final long[] starts;
+        private final long[] ends;
+        private final long[] maxEnds;
+
+        private CarIntervals(long[] ids, long[] starts, long[] ends, long[] maxEnds) {
+            this.ids = ids;
+            this.starts = starts;
+            this.ends = ends;
+            this.maxEnds = maxEnds;
+        }
+
+        boolean overlaps(long startDay, long endDay, Long excludedId) {
+            int index = lastStartingOnOrBefore(endDay);
+            for (int i = index; i >= 0 && maxEnds[i] >= startDay; i--) {
+                if (ends[i] >= startDay && (excludedId == null || ids[i] != excludedId)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        CarIntervals with(long id, long startDay, long endDay) {
+            int size = ids.length;
+            int position = lastStartingOnOrBefore(startDay) + 1;
+            long[] nextIds = new long[size + 1];
+            long[] nextStarts = new long[size + 1];
+            long[] nextEnds = new long[size + 1];
+            System.arraycopy(ids, 0, nextIds, 0, position);
+            System.arraycopy(starts, 0, nextStarts, 0, position);
+            System.arraycopy(ends, 0, nextEnds, 0, position);
+            nextIds[position] = id;
+            nextStarts[position] = startDay;
+            nextEnds[position] = endDay;
+            System.arraycopy(ids, position, nextIds, position + 1, size - position);
+            System.arraycopy(starts, position, nextStarts, position + 1, size - position);
+            System.arraycopy(ends, position, nextEnds, position + 1, size - position);
+            return new CarIntervals(nextIds, nextStarts, nextEnds, prefixMax(nextEnds));
+        }
+
+        CarIntervals without(long id) {
+            for (int i = 0; i < ids.length; i++) {
+                if (ids[i] == id) {
+                    if (ids.length == 1) {
+                        return null;
+                    }
+                    long[] nextIds = remove(ids, i);
+                    long[] nextStarts = remove(starts, i);
+                    long[] nextEnds = remove(ends, i);
+                    return new CarIntervals(nextIds, nextStarts, nextEnds, prefixMax(nextEnds));
+                }
+            }
+            return this;
+        }
+
+        CarIntervals merge(CarIntervals other) {
+            CarIntervals result = this;
+            for (int i = 0; i < other.ids.length; i++) {
+                result = result.with(other.ids[i], other.starts[i], other.ends[i]);
+            }
+            return result;
+        }
+
+        static CarIntervals of(List<ReservationIntervalView> views) {
+            List<ReservationIntervalView> sorted = new ArrayList<>(views);
+            sorted.sort(Comparator.comparing(ReservationIntervalView::getStartDate));
+            int size = sorted.size();
+            long[] ids = new long[size];
+            long[] starts = new long[size];
+            long[] ends = new long[size];
+            for (int i = 0; i < size; i++) {
+                ReservationIntervalView view = sorted.get(i);
+                ids[i] = view.getId();
+                starts[i] = view.getStartDate().toEpochDay();
+                ends[i] = view.getEndDate().toEpochDay();
+            }
+            return new CarIntervals(ids, starts, ends, prefixMax(ends));
+        }
+
+        private int lastStartingOnOrBefore(long day) {
+            int low = 0;
+            int high = starts.length - 1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                if (starts[mid] <= day) {
+                    low = mid + 1;
+                } else {
+                    high = mid - 1;
+                }
+            }
+            return high;
+        }
+
+        private static long[] remove(long[] values, int index) {
+            long[] result = Arrays.copyOf(values, values.length - 1);
+            System.arraycopy(values, index + 1, result, index, values.length - index - 1);
+            return result;
+        }
+
+        private static long[] prefixMax(long[] values) {
+            long[] result = new long[values.length];
+            long max = Long.MIN_VALUE;
+            for (int i = 0; i < values.length; i++) {
+                max = Math.max(max, values[i]);
+                result[i] = max;
+            }
+            return result;
+        }
+    }
+}
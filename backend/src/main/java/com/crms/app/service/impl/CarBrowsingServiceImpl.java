@@ -6,12 +6,17 @@ import com.crms.app.exception.ReservationConflictException;
 import com.crms.app.mapper.CarMapper;
 import com.crms.app.model.Car;
 import com.crms.app.model.CarStatus;
+import com.crms.app.model.Reservation;
 import com.crms.app.model.ReservationStatus;
 import com.crms.app.repository.CarRepository;
-import com.crms.app.repository.ReservationRepository;
 import com.crms.app.service.CarBrowsingService;
+import com.crms.app.service.CarSearchCache;
 import jakarta.persistence.EntityNotFoundException;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
 import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
@@ -19,7 +24,10 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.util.StringUtils;
 
 @Service
@@ -31,31 +39,34 @@ public class CarBrowsingServiceImpl implements CarBrowsingService {
 
     private final CarRepository carRepository;
     private final CarMapper carMapper;
-    private final ReservationRepository reservationRepository;
+    private final CarSearchCache searchCache;
+    private final TransactionTemplate readOnlyTransaction;
 
     public CarBrowsingServiceImpl(CarRepository carRepository,
                                   CarMapper carMapper,
-                                  ReservationRepository reservationRepository) {
+                                  CarSearchCache searchCache,
+                                  PlatformTransactionManager transactionManager) {
         this.carRepository = carRepository;
         this.carMapper = carMapper;
-        this.reservationRepository = reservationRepository;
+        this.searchCache = searchCache;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
     }
 
+    /**
+     * Cache hits are served without opening a transaction; only a miss borrows a connection.
+     */
     @Override
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public List<CarResponse> searchCars(CarSearchCriteria criteria) {
-        Specification<Car> specification = buildSpecification(criteria);
-        List<Car> cars = carRepository.findAll(specification, buildPageable(criteria)).getContent();
-        if (criteria == null || criteria.getStartDate() == null || criteria.getEndDate() == null) {
-            return cars.stream()
-                    .map(carMapper::toResponse)
-                    .toList();
+        if (hasDateRange(criteria)) {
+            validateDateRange(criteria.getStartDate(), criteria.getEndDate());
         }
-
-        validateDateRange(criteria.getStartDate(), criteria.getEndDate());
-        return cars.stream()
-                .filter(car -> isAvailable(car.getId(), criteria.getStartDate(), criteria.getEndDate()))
-                .map(carMapper::toResponse)
-                .toList();
+        Pageable page = buildPageable(criteria);
+        return searchCache.search(criteria, page, () -> readOnlyTransaction.execute(status ->
+                carRepository.searchPage(buildSpecification(criteria), page).stream()
+                        .map(carMapper::toResponse)
+                        .toList()));
     }
 
     @Override
@@ -140,16 +151,33 @@ public class CarBrowsingServiceImpl implements CarBrowsingService {
                 predicates.add(builder.notEqual(root.get("status"), CarStatus.UNAVAILABLE));
             }
 
+            if (hasDateRange(criteria)) {
+                predicates.add(builder.not(builder.exists(
+                        overlappingReservations(root, query, builder, criteria.getStartDate(), criteria.getEndDate()))));
+            }
+
             return builder.and(predicates.toArray(new Predicate[0]));
         };
     }
 
-    private boolean isAvailable(Long carId, LocalDate startDate, LocalDate endDate) {
-        return !reservationRepository.existsOverlappingReservation(
-                carId,
-                ReservationStatus.ACTIVE,
-                startDate,
-                endDate);
+    private Subquery<Long> overlappingReservations(Root<Car> root,
+                                                   CriteriaQuery<?> query,
+                                                   CriteriaBuilder builder,
+                                                   LocalDate startDate,
+                                                   LocalDate endDate) {
+        Subquery<Long> subquery = query.subquery(Long.class);
+        Root<Reservation> reservation = subquery.from(Reservation.class);
+        subquery.select(reservation.get("id"))
+                .where(
+                        builder.equal(reservation.get("car"), root),
+                        builder.equal(reservation.get("status"), ReservationStatus.ACTIVE),
+                        builder.lessThanOrEqualTo(reservation.get("startDate"), endDate),
+                        builder.greaterThanOrEqualTo(reservation.get("endDate"), startDate));
+        return subquery;
+    }
+
+    private boolean hasDateRange(CarSearchCriteria criteria) {
+        return criteria != null && criteria.getStartDate() != null && criteria.getEndDate() != null;
     }
 
     private void validateDateRange(LocalDate startDate, LocalDate endDate) {
@@ -10,6 +10,8 @@ import com.crms.app.model.Location;
 import com.crms.app.repository.CarRepository;
 import com.crms.app.repository.LocationRepository;
 import com.crms.app.service.CarManagementService;
+import com.crms.app.service.CarSearchCache;
+import com.crms.app.service.FleetAvailabilityService;
 import jakarta.persistence.EntityNotFoundException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -21,13 +23,19 @@ public class CarManagementServiceImpl implements CarManagementService {
     private final CarRepository carRepository;
     private final CarMapper carMapper;
     private final LocationRepository locationRepository;
+    private final FleetAvailabilityService fleetAvailabilityService;
+    private final CarSearchCache searchCache;
 
     public CarManagementServiceImpl(CarRepository carRepository,
                                     CarMapper carMapper,
-                                    LocationRepository locationRepository) {
+                                    LocationRepository locationRepository,
+                                    FleetAvailabilityService fleetAvailabilityService,
+                                    CarSearchCache searchCache) {
         this.carRepository = carRepository;
         this.carMapper = carMapper;
         this.locationRepository = locationRepository;
+        this.fleetAvailabilityService = fleetAvailabilityService;
+        this.searchCache = searchCache;
     }
 
     @Override
@@ -35,28 +43,40 @@ public class CarManagementServiceImpl implements CarManagementService {
         Car car = carMapper.toEntity(request);
         car.setLocation(findLocation(request.getLocationId()));
         Car saved = carRepository.save(car);
+        fleetAvailabilityService.recordCar(saved);
+        searchCache.evictCar(saved);
         return carMapper.toResponse(saved);
     }
 
     @Override
     public CarResponse updateCar(Long id, CarRequest request) {
         Car car = findCar(id);
+        searchCache.evictCar(car);
         carMapper.updateEntity(request, car);
         car.setLocation(findLocation(request.getLocationId()));
-        return carMapper.toResponse(carRepository.save(car));
+        Car saved = carRepository.save(car);
+        fleetAvailabilityService.recordCar(saved);
+        searchCache.evictCar(saved);
+        return carMapper.toResponse(saved);
     }
 
     @Override
     public void deleteCar(Long id) {
         Car car = findCar(id);
+        searchCache.evictCar(car);
         carRepository.delete(car);
+        fleetAvailabilityService.removeCar(id);
     }
 
     @Override
     public CarResponse updateStatus(Long id, CarStatusUpdateRequest request) {
         Car car = findCar(id);
+        searchCache.evictCar(car);
         car.setStatus(request.getStatus());
-        return carMapper.toResponse(carRepository.save(car));
+        Car saved = carRepository.save(car);
+        fleetAvailabilityService.recordCar(saved);
+        searchCache.evictCar(saved);
+        return carMapper.toResponse(saved);
     }
 
     private Car findCar(Long id) {
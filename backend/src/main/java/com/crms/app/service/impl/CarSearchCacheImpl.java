@@ -0,0 +1,268 @@
+package com.crms.app.service.impl;
+
+import com.crms.app.config.CarSearchCacheProperties;
+import com.crms.app.dto.CarResponse;
+import com.crms.app.dto.CarSearchCriteria;
+import com.crms.app.model.Car;
+import com.crms.app.model.CarStatus;
+import com.crms.app.model.Reservation;
+import com.crms.app.service.CarSearchCache;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiPredicate;
+import java.util.function.Supplier;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+/**
+ * Bounded LRU cache of car search pages keyed by normalized criteria. Pages of the same filters are evicted
+ * together, since adding or removing one car shifts every later page. A search that overlapped an eviction is
+ * not cached, so a result read before a commit cannot outlive the eviction for that commit.
+ */
+@Service
+public class CarSearchCacheImpl implements CarSearchCache {
+
+    public static final String REQUESTS = "crms.search.cache.requests";
+    public static final String HIT_RATIO = "crms.search.cache.hit.ratio";
+    public static final String ENTRIES = "crms.search.cache.entries";
+
+    private final CarSearchCacheProperties properties;
+    private final Map<SearchKey, CachedPage> entries;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private long evictions;
+
+    public CarSearchCacheImpl(CarSearchCacheProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        int maxEntries = properties.getMaxEntries();
+        this.entries = new LinkedHashMap<>(64, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<SearchKey, CachedPage> eldest) {
+                return size() > maxEntries;
+            }
+        };
+        FunctionCounter.builder(REQUESTS, hits, LongAdder::sum)
+                .description("Car searches by result cache outcome")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        FunctionCounter.builder(REQUESTS, misses, LongAdder::sum)
+                .description("Car searches by result cache outcome")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        Gauge.builder(HIT_RATIO, this, CarSearchCacheImpl::hitRatio)
+                .description("Share of car searches served from the result cache since startup")
+                .register(meterRegistry);
+        Gauge.builder(ENTRIES, this, CarSearchCacheImpl::size)
+                .description("Car search pages held in the result cache")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public List<CarResponse> search(CarSearchCriteria criteria, Pageable page, Supplier<List<CarResponse>> search) {
+        if (!properties.isEnabled()) {
+            return search.get();
+        }
+        SearchKey key = new SearchKey(Filters.of(criteria), page.getPageNumber(), page.getPageSize());
+        long ticket;
+        synchronized (entries) {
+            CachedPage cached = entries.get(key);
+            if (cached != null && cached.expiresAtMillis() >= System.currentTimeMillis()) {
+                hits.increment();
+                return cached.results();
+            }
+            if (cached != null) {
+                entries.remove(key);
+            }
+            ticket = evictions;
+        }
+        misses.increment();
+        CachedPage loaded = CachedPage.of(search.get(),
+                System.currentTimeMillis() + properties.getTtlSeconds() * 1000);
+        synchronized (entries) {
+            if (evictions == ticket) {
+                entries.put(key, loaded);
+            }
+        }
+        return loaded.results();
+    }
+
+    @Override
+    public void evictCar(Car car) {
+        CarState state = CarState.of(car);
+        AfterCommit.run(() -> evictGroups((filters, page) ->
+                filters.matches(state) || page.carIds().contains(state.id())));
+    }
+
+    @Override
+    public void evictReservation(Reservation reservation) {
+        CarState state = CarState.of(reservation.getCar());
+        LocalDate startDate = reservation.getStartDate();
+        LocalDate endDate = reservation.getEndDate();
+        AfterCommit.run(() -> evictGroups((filters, page) -> filters.overlaps(startDate, endDate)
+                && (filters.matches(state) || page.carIds().contains(state.id()))));
+    }
+
+    @Override
+    public void evictLocation(Long locationId) {
+        AfterCommit.run(() -> evictGroups((filters, page) ->
+                locationId.equals(filters.locationId()) || page.locationIds().contains(locationId)));
+    }
+
+    @Override
+    public void clear() {
+        synchronized (entries) {
+            evictions++;
+            entries.clear();
+        }
+    }
+
+    private void evictGroups(BiPredicate<Filters, CachedPage> stale) {
+        synchronized (entries) {
+            evictions++;
+            Set<Filters> staleFilters = new HashSet<>();
+            entries.forEach((key, page) -> {
+                if (stale.test(key.filters(), page)) {
+                    staleFilters.add(key.filters());
+                }
+            });
+            if (!staleFilters.isEmpty()) {
+                entries.keySet().removeIf(key -> staleFilters.contains(key.filters()));
+            }
+        }
+    }
+
+    private double hitRatio() {
+        long hitCount = hits.sum();
+        long total = hitCount + misses.sum();
+        return total == 0 ? 0 : (double) hitCount / total;
+    }
+
+    private int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private static String lower(String value) {
+        return StringUtils.hasText(value) ? value.toLowerCase(Locale.ROOT) : null;
+    }
+
+    private static BigDecimal amount(BigDecimal value) {
+        return value == null ? null : value.stripTrailingZeros();
+    }
+
+    private record SearchKey(Filters filters, int page, int size) {
+    }
+
+    private record CachedPage(List<CarResponse> results, Set<Long> carIds, Set<Long> locationIds,
+                              long expiresAtMillis) {
+
+        static CachedPage of(List<CarResponse> results, long expiresAtMillis) {
+            Set<Long> carIds = new HashSet<>();
+            Set<Long> locationIds = new HashSet<>();
+            for (CarResponse car : results) {
+                carIds.add(car.getId());
+                if (car.getLocationId() != null) {
+                    locationIds.add(car.getLocationId());
+                }
+            }
+            return new CachedPage(List.copyOf(results), carIds, locationIds, expiresAtMillis);
+        }
+    }
+
+    /**
+     * The fields a search filters on, with text lower-cased as the search compares it.
+     */
+    private record CarState(Long id, String make, String model, String carType, Long locationId,
+                            Integer modelYear, BigDecimal dailyRate, Integer seats, String transmission,
+                            String fuelType, boolean gpsIncluded, boolean childSeat, CarStatus status) {
+
+        static CarState of(Car car) {
+            return new CarState(
+                    car.getId(),
+                    lower(car.getMake()),
+                    lower(car.getModel()),
+                    lower(car.getCarType()),
+                    car.getLocation() == null ? null : car.getLocation().getId(),
+                    car.getModelYear(),
+                    car.getDailyRate(),
+                    car.getSeats(),
+                    lower(car.getTransmission()),
+                    lower(car.getFuelType()),
+                    car.isGpsIncluded(),
+                    car.isChildSeat(),
+                    car.getStatus());
+        }
+    }
+
+    /**
+     * Search criteria without paging, normalized so equivalent requests share a key. Mirrors the predicates
+     * built by {@link CarBrowsingServiceImpl}: blank text and half-open date ranges are ignored.
+     */
+    private record Filters(String make, String model, String carType, Long locationId, Integer minYear,
+                           Integer maxYear, BigDecimal minDailyRate, BigDecimal maxDailyRate, Integer seats,
+                           String transmission, String fuelType, Boolean gpsIncluded, Boolean childSeat,
+                           CarStatus status, LocalDate startDate, LocalDate endDate) {
+
+        static Filters of(CarSearchCriteria criteria) {
+            if (criteria == null) {
+                return new Filters(null, null, null, null, null, null, null, null, null, null, null, null, null,
+                        null, null, null);
+            }
+            boolean dated = criteria.getStartDate() != null && criteria.getEndDate() != null;
+            return new Filters(
+                    lower(criteria.getMake()),
+                    lower(criteria.getModel()),
+                    lower(criteria.getCarType()),
+                    criteria.getLocationId(),
+                    criteria.getMinYear(),
+                    criteria.getMaxYear(),
+                    amount(criteria.getMinDailyRate()),
+                    amount(criteria.getMaxDailyRate()),
+                    criteria.getSeats(),
+                    lower(criteria.getTransmission()),
+                    lower(criteria.getFuelType()),
+                    criteria.getGpsIncluded(),
+                    criteria.getChildSeat(),
+                    criteria.getStatus(),
+                    dated ? criteria.getStartDate() : null,
+                    dated ? criteria.getEndDate() : null);
+        }
+
+        boolean overlaps(LocalDate from, LocalDate to) {
+            return startDate != null && !from.isAfter(endDate) && !to.isBefore(startDate);
+        }
+
+        boolean matches(CarState car) {
+            return contains(car.make(), make)
+                    && contains(car.model(), model)
+                    && (carType == null || carType.equals(car.carType()))
+                    && (locationId == null || locationId.equals(car.locationId()))
+                    && (minYear == null || car.modelYear() != null && car.modelYear() >= minYear)
+                    && (maxYear == null || car.modelYear() != null && car.modelYear() <= maxYear)
+                    && (minDailyRate == null || car.dailyRate() != null && car.dailyRate().compareTo(minDailyRate) >= 0)
+                    && (maxDailyRate == null || car.dailyRate() != null && car.dailyRate().compareTo(maxDailyRate) <= 0)
+                    && (seats == null || seats.equals(car.seats()))
+                    && (transmission == null || transmission.equals(car.transmission()))
+                    && (fuelType == null || fuelType.equals(car.fuelType()))
+                    && (gpsIncluded == null || gpsIncluded == car.gpsIncluded())
+                    && (childSeat == null || childSeat == car.childSeat())
+                    && (status == null ? car.status() != CarStatus.UNAVAILABLE : status == car.status());
+        }
+
+        private static boolean contains(String value, String fragment) {
+            return fragment == null || value != null && value.contains(fragment);
+        }
+    }
+}
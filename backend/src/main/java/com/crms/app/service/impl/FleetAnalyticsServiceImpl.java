@@ -0,0 +1,733 @@
+package com.crms.app.service.impl;
+
+import com.crms.app.config.ReportingProperties;
+import com.crms.app.dto.FleetUtilizationReport;
+import com.crms.app.dto.FleetUtilizationRow;
+import com.crms.app.dto.LeadTimeBucket;
+import com.crms.app.dto.LeadTimeDistribution;
+import com.crms.app.dto.UtilizationGrouping;
+import com.crms.app.exception.CrmsException;
+import com.crms.app.model.Reservation;
+import com.crms.app.model.ReservationStatus;
+import com.crms.app.model.listener.ReferenceCatalogVersions;
+import com.crms.app.model.listener.ReferenceCatalogVersions.Catalog;
+import com.crms.app.repository.CarLocationView;
+import com.crms.app.repository.CarRepository;
+import com.crms.app.service.FleetAnalyticsService;
+import com.crms.app.service.PricingEngine;
+import com.crms.app.service.impl.ReservationColumns.View;
+import jakarta.annotation.PreDestroy;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.PreparedStatement;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Fleet analytics over a columnar in-memory copy of the reservations table. The snapshot is loaded on first
+ * use; committed reservation changes are then appended to a small delta segment, with the rows they replace
+ * marked as superseded, and folded into the base segment on a background thread once the delta grows past
+ * the compaction threshold. Queries scan both segments with fork/join tasks and never take a lock.
+ */
+@Service
+public class FleetAnalyticsServiceImpl implements FleetAnalyticsService {
+
+    private static final Logger logger = LoggerFactory.getLogger(FleetAnalyticsServiceImpl.class);
+
+    private static final byte CANCELED = (byte) ReservationStatus.CANCELED.ordinal();
+    private static final int MIN_LEAF_ROWS = 16 * 1024;
+    private static final int MAX_LEAD_DAYS = 365;
+    private static final int[] LEAD_TIME_BUCKET_ENDS = {0, 1, 3, 7, 14, 30, 60, 90, 180, MAX_LEAD_DAYS};
+    private static final int[] NO_ROWS = new int[0];
+
+    private static final String LOAD_RESERVATIONS = """
+            select id, car_id, start_date - date '1970-01-01', end_date - date '1970-01-01', status,
+                   round(total_cost * 100), floor(extract(epoch from created_at) / 86400)::int
+            from reservations
+            order by id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final CarRepository carRepository;
+    private final ReferenceCatalogVersions versions;
+    private final ReportingProperties.Analytics settings;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ForkJoinPool pool;
+    private final ThreadPoolExecutor compactor;
+    private final Object loadLock = new Object();
+
+    private volatile Snapshot snapshot;
+    private volatile FleetTable fleet;
+
+    // Writer state, guarded by this.
+    private View base = View.EMPTY;
+    private ReservationColumns delta;
+    private final Map<Long, Integer> deltaRowsById = new HashMap<>();
+    private int[] supersededBase = NO_ROWS;
+    private int[] supersededDelta = NO_ROWS;
+    private List<RowChange> pendingDuringLoad;
+    private List<RowChange> pendingDuringCompaction;
+    private long generation;
+    private boolean compactionScheduled;
+
+    public FleetAnalyticsServiceImpl(JdbcTemplate jdbcTemplate,
+                                     CarRepository carRepository,
+                                     ReferenceCatalogVersions versions,
+                                     ReportingProperties properties,
+                                     PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.carRepository = carRepository;
+        this.versions = versions;
+        this.settings = properties.getAnalytics();
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.pool = new ForkJoinPool(Math.max(1, settings.getParallelism()));
+        this.compactor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "fleet-analytics-compactor");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    @Override
+    public FleetUtilizationReport utilization(LocalDate from, LocalDate to, UtilizationGrouping groupBy) {
+        validateRange(from, to);
+        UtilizationGrouping grouping = groupBy == null ? UtilizationGrouping.BRANCH : groupBy;
+        Snapshot current = snapshot();
+        FleetTable cars = fleet();
+        int fromDay = Math.toIntExact(from.toEpochDay());
+        int toDay = Math.toIntExact(to.toEpochDay());
+        int periodDays = toDay - fromDay + 1;
+        int weekOrigin = Math.toIntExact(from.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY)).toEpochDay());
+        int buckets = grouping == UtilizationGrouping.WEEK ? (toDay - weekOrigin) / 7 + 1 : cars.size();
+
+        UtilizationScan scan = new UtilizationScan(cars, fromDay, toDay, grouping == UtilizationGrouping.WEEK,
+                weekOrigin, buckets);
+        BookedTotals totals = run(current, scan);
+
+        List<FleetUtilizationRow> rows = new ArrayList<>();
+        switch (grouping) {
+            case CAR -> {
+                for (int index = 0; index < cars.size(); index++) {
+                    FleetUtilizationRow row = row(1, totals.bookedDays[index], (long) periodDays,
+                            totals.revenueCents[index]);
+                    row.setCarId(cars.carIds[index]);
+                    row.setLocationId(cars.locationIds[index]);
+                    rows.add(row);
+                }
+            }
+            case BRANCH -> {
+                Map<Long, long[]> byLocation = new TreeMap<>();
+                for (int index = 0; index < cars.size(); index++) {
+                    long[] sums = byLocation.computeIfAbsent(cars.locationIds[index], key -> new long[3]);
+                    sums[0]++;
+                    sums[1] += totals.bookedDays[index];
+                    sums[2] += totals.revenueCents[index];
+                }
+                byLocation.forEach((locationId, sums) -> {
+                    FleetUtilizationRow row = row(sums[0], sums[1], sums[0] * periodDays, sums[2]);
+                    row.setLocationId(locationId);
+                    rows.add(row);
+                });
+            }
+            case WEEK -> {
+                for (int week = 0; week < buckets; week++) {
+                    int weekStart = weekOrigin + week * 7;
+                    int days = Math.min(toDay, weekStart + 6) - Math.max(fromDay, weekStart) + 1;
+                    FleetUtilizationRow row = row(cars.size(), totals.bookedDays[week], (long) cars.size() * days,
+                            totals.revenueCents[week]);
+                    row.setWeekStart(LocalDate.ofEpochDay(weekStart));
+                    rows.add(row);
+                }
+            }
+        }
+
+        long booked = Arrays.stream(totals.bookedDays).sum();
+        long revenueCents = Arrays.stream(totals.revenueCents).sum();
+        long available = (long) cars.size() * periodDays;
+        FleetUtilizationReport report = new FleetUtilizationReport();
+        report.setFrom(from);
+        report.setTo(to);
+        report.setGroupBy(grouping);
+        report.setScannedRows(current.rowCount());
+        report.setBookedCarDays(booked);
+        report.setAvailableCarDays(available);
+        report.setUtilization(ratio(booked, available));
+        report.setRevenue(PricingEngine.toAmount(revenueCents));
+        report.setRevenuePerAvailableCarDay(perCarDay(revenueCents, available));
+        report.setRows(rows);
+        return report;
+    }
+
+    @Override
+    public LeadTimeDistribution leadTimes(LocalDate from, LocalDate to) {
+        validateRange(from, to);
+        Snapshot current = snapshot();
+        long[] histogram = run(current, new LeadTimeScan(
+                Math.toIntExact(from.toEpochDay()), Math.toIntExact(to.toEpochDay())));
+        long bookings = 0;
+        long totalDays = 0;
+        for (int days = 0; days <= MAX_LEAD_DAYS + 1; days++) {
+            bookings += histogram[days];
+        }
+        totalDays = histogram[MAX_LEAD_DAYS + 2];
+
+        List<LeadTimeBucket> buckets = new ArrayList<>();
+        int bucketStart = 0;
+        for (int bucketEnd : LEAD_TIME_BUCKET_ENDS) {
+            buckets.add(bucket(histogram, bucketStart, bucketEnd));
+            bucketStart = bucketEnd + 1;
+        }
+        LeadTimeBucket overflow = new LeadTimeBucket();
+        overflow.setMinDays(MAX_LEAD_DAYS + 1);
+        overflow.setBookings(histogram[MAX_LEAD_DAYS + 1]);
+        buckets.add(overflow);
+
+        LeadTimeDistribution distribution = new LeadTimeDistribution();
+        distribution.setFrom(from);
+        distribution.setTo(to);
+        distribution.setBookings(bookings);
+        distribution.setMeanDays(bookings == 0 ? 0 : (double) totalDays / bookings);
+        distribution.setMedianDays(percentile(histogram, bookings, 0.50));
+        distribution.setP90Days(percentile(histogram, bookings, 0.90));
+        distribution.setP99Days(percentile(histogram, bookings, 0.99));
+        distribution.setBuckets(buckets);
+        return distribution;
+    }
+
+    @Override
+    public void recordReservation(Reservation reservation) {
+        RowChange change = new RowChange(
+                reservation.getId(),
+                Math.toIntExact(reservation.getCar().getId()),
+                Math.toIntExact(reservation.getStartDate().toEpochDay()),
+                Math.toIntExact(reservation.getEndDate().toEpochDay()),
+                (byte) reservation.getStatus().ordinal(),
+                reservation.getTotalCost() == null
+                        ? 0 : reservation.getTotalCost().movePointRight(2).setScale(0, RoundingMode.HALF_UP).longValue(),
+                reservation.getCreatedAt() == null
+                        ? ReservationColumns.UNKNOWN_DAY
+                        : Math.toIntExact(Math.floorDiv(reservation.getCreatedAt().getEpochSecond(), 86_400L)));
+        AfterCommit.run(() -> apply(change));
+    }
+
+    @Override
+    public synchronized void invalidate() {
+        generation++;
+        snapshot = null;
+        fleet = null;
+        resetSegments(View.EMPTY);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        compactor.shutdownNow();
+        pool.shutdownNow();
+    }
+
+    private synchronized void apply(RowChange change) {
+        if (pendingDuringLoad != null) {
+            pendingDuringLoad.add(change);
+            return;
+        }
+        if (snapshot == null) {
+            return;
+        }
+        applyRow(change);
+        if (pendingDuringCompaction != null) {
+            pendingDuringCompaction.add(change);
+        }
+        publish();
+        if (delta.size() >= settings.getCompactionThreshold() && !compactionScheduled) {
+            compactionScheduled = true;
+            compactor.execute(this::compact);
+        }
+    }
+
+    private void applyRow(RowChange change) {
+        Integer previous = deltaRowsById.get(change.id());
+        if (previous != null) {
+            supersededDelta = insertSorted(supersededDelta, previous);
+        } else {
+            int row = base.findSorted(change.id());
+            if (row >= 0) {
+                supersededBase = insertSorted(supersededBase, row);
+            }
+        }
+        int row = delta.append(change.id(), change.carId(), change.startDay(), change.endDay(), change.status(),
+                change.costCents(), change.bookedDay());
+        deltaRowsById.put(change.id(), row);
+    }
+
+    private void publish() {
+        snapshot = new Snapshot(base, supersededBase, delta.view(), supersededDelta);
+    }
+
+    private void resetSegments(View nextBase) {
+        base = nextBase;
+        delta = new ReservationColumns(1024);
+        deltaRowsById.clear();
+        supersededBase = NO_ROWS;
+        supersededDelta = NO_ROWS;
+    }
+
+    /**
+     * Folds the delta segment into a new base segment, keeping rows in id order. The merge runs on captured
+     * segments outside the writer lock; changes that land meanwhile still go to the current delta and are
+     * replayed onto the new base when it is swapped in.
+     */
+    private void compact() {
+        View compactedBase;
+        View deltaView;
+        int[] baseSkips;
+        int[] deltaSkips;
+        long compactGeneration;
+        synchronized (this) {
+            if (snapshot == null) {
+                compactionScheduled = false;
+                return;
+            }
+            compactedBase = base;
+            deltaView = delta.view();
+            baseSkips = supersededBase;
+            deltaSkips = supersededDelta;
+            compactGeneration = generation;
+            pendingDuringCompaction = new ArrayList<>();
+        }
+        View merged = null;
+        try {
+            merged = merge(compactedBase, baseSkips, deltaView, deltaSkips);
+        } finally {
+            synchronized (this) {
+                List<RowChange> replay = pendingDuringCompaction;
+                pendingDuringCompaction = null;
+                compactionScheduled = false;
+                if (merged != null && generation == compactGeneration && snapshot != null) {
+                    resetSegments(merged);
+                    replay.forEach(this::applyRow);
+                    publish();
+                }
+            }
+        }
+    }
+
+    private static View merge(View base, int[] baseSkips, View deltaView, int[] deltaSkips) {
+        Integer[] liveDelta = liveRows(deltaView, deltaSkips).toArray(Integer[]::new);
+        Arrays.sort(liveDelta, (left, right) -> Long.compare(deltaView.ids()[left], deltaView.ids()[right]));
+
+        ReservationColumns merged = new ReservationColumns(base.size() - baseSkips.length + liveDelta.length);
+        int next = 0;
+        int skip = 0;
+        for (int row = 0; row < base.size(); row++) {
+            if (skip < baseSkips.length && baseSkips[skip] == row) {
+                skip++;
+                continue;
+            }
+            while (next < liveDelta.length && deltaView.ids()[liveDelta[next]] < base.ids()[row]) {
+                merged.copyRow(deltaView, liveDelta[next++]);
+            }
+            merged.copyRow(base, row);
+        }
+        while (next < liveDelta.length) {
+            merged.copyRow(deltaView, liveDelta[next++]);
+        }
+        return merged.view();
+    }
+
+    private Snapshot snapshot() {
+        Snapshot current = snapshot;
+        if (current != null) {
+            return current;
+        }
+        synchronized (loadLock) {
+            while (true) {
+                current = snapshot;
+                if (current != null) {
+                    return current;
+                }
+                long loadGeneration;
+                synchronized (this) {
+                    pendingDuringLoad = new ArrayList<>();
+                    loadGeneration = generation;
+                }
+                View loaded;
+                try {
+                    loaded = load();
+                } catch (RuntimeException ex) {
+                    synchronized (this) {
+                        pendingDuringLoad = null;
+                    }
+                    throw ex;
+                }
+                synchronized (this) {
+                    List<RowChange> replay = pendingDuringLoad;
+                    pendingDuringLoad = null;
+                    if (generation != loadGeneration) {
+                        continue;
+                    }
+                    resetSegments(loaded);
+                    replay.forEach(this::applyRow);
+                    publish();
+                    return snapshot;
+                }
+            }
+        }
+    }
+
+    private View load() {
+        long started = System.nanoTime();
+        Long estimate = jdbcTemplate.queryForObject(
+                "select greatest(reltuples, 0)::bigint from pg_class where oid = 'reservations'::regclass", Long.class);
+        ReservationColumns columns = new ReservationColumns((int) Math.min(Integer.MAX_VALUE - 8,
+                estimate == null ? 0 : estimate + estimate / 8));
+        readOnlyTransaction.executeWithoutResult(status -> jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(LOAD_RESERVATIONS);
+            statement.setFetchSize(settings.getFetchSize());
+            return statement;
+        }, (RowCallbackHandler) rs -> {
+            long id = rs.getLong(1);
+            int carId = Math.toIntExact(rs.getLong(2));
+            int startDay = rs.getInt(3);
+            int endDay = rs.getInt(4);
+            byte statusOrdinal = (byte) ReservationStatus.valueOf(rs.getString(5)).ordinal();
+            long costCents = rs.getLong(6);
+            int bookedDay = rs.getInt(7);
+            columns.append(id, carId, startDay, endDay, statusOrdinal, costCents,
+                    rs.wasNull() ? ReservationColumns.UNKNOWN_DAY : bookedDay);
+        }));
+        logger.info("Fleet analytics snapshot loaded: rows={}, elapsedMs={}",
+                columns.size(), (System.nanoTime() - started) / 1_000_000);
+        return columns.view();
+    }
+
+    private FleetTable fleet() {
+        long version = versions.current(Catalog.CARS);
+        FleetTable table = fleet;
+        if (table != null && table.version == version) {
+            return table;
+        }
+        table = FleetTable.of(carRepository.findAllLocationViews(), version);
+        if (versions.current(Catalog.CARS) == version) {
+            fleet = table;
+        }
+        return table;
+    }
+
+    private <A> A run(Snapshot current, Aggregation<A> aggregation) {
+        int leafRows = Math.max(MIN_LEAF_ROWS, current.rowCount() / (pool.getParallelism() * 8));
+        A fromBase = pool.invoke(new ScanTask<>(aggregation, current.base(), current.supersededBase(),
+                0, current.base().size(), leafRows));
+        A fromDelta = pool.invoke(new ScanTask<>(aggregation, current.delta(), current.supersededDelta(),
+                0, current.delta().size(), leafRows));
+        return aggregation.merge(fromBase, fromDelta);
+    }
+
+    private static void validateRange(LocalDate from, LocalDate to) {
+        if (from == null || to == null) {
+            throw new CrmsException("From and to dates are required.");
+        }
+        if (to.isBefore(from)) {
+            throw new CrmsException("To date must be on or after the from date.");
+        }
+    }
+
+    private static FleetUtilizationRow row(long fleetSize, long booked, long available, long revenueCents) {
+        FleetUtilizationRow row = new FleetUtilizationRow();
+        row.setFleetSize(fleetSize);
+        row.setBookedCarDays(booked);
+        row.setAvailableCarDays(available);
+        row.setUtilization(ratio(booked, available));
+        row.setRevenue(PricingEngine.toAmount(revenueCents));
+        row.setRevenuePerAvailableCarDay(perCarDay(revenueCents, available));
+        return row;
+    }
+
+    private static double ratio(long part, long whole) {
+        return whole == 0 ? 0 : (double) part / whole;
+    }
+
+    private static BigDecimal perCarDay(long revenueCents, long availableCarDays) {
+        if (availableCarDays == 0) {
+            return BigDecimal.ZERO.setScale(2);
+        }
+        return PricingEngine.toAmount(revenueCents).divide(BigDecimal.valueOf(availableCarDays), 2,
+                RoundingMode.HALF_UP);
+    }
+
+    private static LeadTimeBucket bucket(long[] histogram, int minDays, int maxDays) {
+        long bookings = 0;
+        for (int days = minDays; days <= maxDays; days++) {
+            bookings += histogram[days];
+        }
+        LeadTimeBucket bucket = new LeadTimeBucket();
+        bucket.setMinDays(minDays);
+        bucket.setMaxDays(maxDays);
+        bucket.setBookings(bookings);
+        return bucket;
+    }
+
+    private static int percentile(long[] histogram, long bookings, double fraction) {
+        if (bookings == 0) {
+            return 0;
+        }
+        long rank = (long) Math.ceil(fraction * bookings);
+        long seen = 0;
+        for (int days = 0; days <= MAX_LEAD_DAYS + 1; days++) {
+            seen += histogram[days];
+            if (seen >= rank) {
+                return days;
+            }
+        }
+        return MAX_LEAD_DAYS + 1;
+    }
+
+    private static List<Integer> liveRows(View columns, int[] superseded) {
+        List<Integer> rows = new ArrayList<>(columns.size());
+        int skip = 0;
+        for (int row = 0; row < columns.size(); row++) {
+            if (skip < superseded.length && superseded[skip] == row) {
+                skip++;
+            } else {
+                rows.add(row);
+            }
+        }
+        return rows;
+    }
+
+    private static int[] insertSorted(int[] rows, int row) {
+        int position = Arrays.binarySearch(rows, row);
+        if (position >= 0) {
+            return rows;
+        }
+        int insertAt = -position - 1;
+        int[] next = new int[rows.length + 1];
+        System.arraycopy(rows, 0, next, 0, insertAt);
+        next[insertAt] = row;
+        System.arraycopy(rows, insertAt, next, insertAt + 1, rows.length - insertAt);
+        return next;
+    }
+
+    private record RowChange(long id, int carId, int startDay, int endDay, byte status, long costCents,
+                             int bookedDay) {
+    }
+
+    private record Snapshot(View base, int[] supersededBase, View delta, int[] supersededDelta) {
+
+        int rowCount() {
+            return base.size() - supersededBase.length + delta.size() - supersededDelta.length;
+        }
+    }
+
+    /**
+     * The current fleet in car id order, with a dense index per car id for the per-car accumulators.
+     */
+    private record FleetTable(long version, long[] carIds, long[] locationIds, int[] indexByCarId) {
+
+        static FleetTable of(List<CarLocationView> views, long version) {
+            List<CarLocationView> sorted = new ArrayList<>(views);
+            sorted.sort((left, right) -> Long.compare(left.getId(), right.getId()));
+            long[] carIds = new long[sorted.size()];
+            long[] locationIds = new long[sorted.size()];
+            int maxId = sorted.isEmpty() ? 0 : Math.toIntExact(sorted.get(sorted.size() - 1).getId());
+            int[] indexByCarId = new int[maxId + 1];
+            Arrays.fill(indexByCarId, -1);
+            for (int index = 0; index < sorted.size(); index++) {
+                CarLocationView view = sorted.get(index);
+                carIds[index] = view.getId();
+                locationIds[index] = view.getLocationId();
+                indexByCarId[Math.toIntExact(view.getId())] = index;
+            }
+            return new FleetTable(version, carIds, locationIds, indexByCarId);
+        }
+
+        int size() {
+            return carIds.length;
+        }
+
+        int indexOf(int carId) {
+            return carId >= 0 && carId < indexByCarId.length ? indexByCarId[carId] : -1;
+        }
+    }
+
+    private interface Aggregation<A> {
+
+        A newAccumulator();
+
+        /**
+         * Adds rows {@code [from, to)} of {@code columns}, all of them live, to {@code accumulator}.
+         */
+        void scan(A accumulator, View columns, int from, int to);
+
+        A merge(A left, A right);
+    }
+
+    /**
+     * Splits a segment into row ranges and scans each one in runs between superseded rows.
+     */
+    private static final class ScanTask<A> extends RecursiveTask<A> {
+
+        private final Aggregation<A> aggregation;
+        private final View columns;
+        private final int[] superseded;
+        private final int from;
+        private final int to;
+        private final int leafRows;
+
+        private ScanTask(Aggregation<A> aggregation, View columns, int[] superseded, int from, int to,
+                         int leafRows) {
+            this.aggregation = aggregation;
+            this.columns = columns;
+            this.superseded = superseded;
+            this.from = from;
+            this.to = to;
+            this.leafRows = leafRows;
+        }
+
+        @Override
+        protected A compute() {
+            if (to - from <= leafRows) {
+                return scanLive();
+            }
+            int middle = (from + to) >>> 1;
+            ScanTask<A> left = new ScanTask<>(aggregation, columns, superseded, from, middle, leafRows);
+            ScanTask<A> right = new ScanTask<>(aggregation, columns, superseded, middle, to, leafRows);
+            left.fork();
+            A rightResult = right.compute();
+            return aggregation.merge(left.join(), rightResult);
+        }
+
+        private A scanLive() {
+            A accumulator = aggregation.newAccumulator();
+            int skip = Arrays.binarySearch(superseded, from);
+            skip = skip >= 0 ? skip : -skip - 1;
+            int runStart = from;
+            while (skip < superseded.length && superseded[skip] < to) {
+                if (superseded[skip] > runStart) {
+                    aggregation.scan(accumulator, columns, runStart, superseded[skip]);
+                }
+                runStart = superseded[skip] + 1;
+                skip++;
+            }
+            if (runStart < to) {
+                aggregation.scan(accumulator, columns, runStart, to);
+            }
+            return accumulator;
+        }
+    }
+
+    private record BookedTotals(long[] bookedDays, long[] revenueCents) {
+    }
+
+    /**
+     * Booked car-days and prorated revenue in the range, per fleet car or per week bucket. A rental occupies
+     * its pick-up day and each following day before return (at least one day), as priced by the engine.
+     */
+    private record UtilizationScan(FleetTable cars, int fromDay, int toDay, boolean byWeek, int weekOrigin,
+                                   int buckets) implements Aggregation<BookedTotals> {
+
+        @Override
+        public BookedTotals newAccumulator() {
+            return new BookedTotals(new long[buckets], new long[buckets]);
+        }
+
+        @Override
+        public void scan(BookedTotals totals, View columns, int from, int to) {
+            int[] carIds = columns.carIds();
+            int[] startDays = columns.startDays();
+            int[] endDays = columns.endDays();
+            byte[] statuses = columns.statuses();
+            long[] costCents = columns.costCents();
+            long[] booked = totals.bookedDays();
+            long[] revenue = totals.revenueCents();
+            for (int row = from; row < to; row++) {
+                int start = startDays[row];
+                int rentalDays = Math.max(1, endDays[row] - start);
+                int last = start + rentalDays - 1;
+                if (last < fromDay || start > toDay || statuses[row] == CANCELED) {
+                    continue;
+                }
+                int car = cars.indexOf(carIds[row]);
+                if (car < 0) {
+                    continue;
+                }
+                int first = Math.max(start, fromDay);
+                int end = Math.min(last, toDay);
+                if (!byWeek) {
+                    booked[car] += end - first + 1;
+                    revenue[car] += costCents[row] * (end - first + 1) / rentalDays;
+                    continue;
+                }
+                for (int week = (first - weekOrigin) / 7; week <= (end - weekOrigin) / 7; week++) {
+                    int weekStart = weekOrigin + week * 7;
+                    int days = Math.min(end, weekStart + 6) - Math.max(first, weekStart) + 1;
+                    booked[week] += days;
+                    revenue[week] += costCents[row] * days / rentalDays;
+                }
+            }
+        }
+
+        @Override
+        public BookedTotals merge(BookedTotals left, BookedTotals right) {
+            for (int bucket = 0; bucket < buckets; bucket++) {
+                left.bookedDays()[bucket] += right.bookedDays()[bucket];
+                left.revenueCents()[bucket] += right.revenueCents()[bucket];
+            }
+            return left;
+        }
+    }
+
+    /**
+     * Histogram of lead days (the last slot collects anything beyond a year) followed by the total lead days.
+     */
+    private record LeadTimeScan(int fromDay, int toDay) implements Aggregation<long[]> {
+
+        @Override
+        public long[] newAccumulator() {
+            return new long[MAX_LEAD_DAYS + 3];
+        }
+
+        @Override
+        public void scan(long[] histogram, View columns, int from, int to) {
+            int[] startDays = columns.startDays();
+            int[] bookedDays = columns.bookedDays();
+            for (int row = from; row < to; row++) {
+                int start = startDays[row];
+                int booked = bookedDays[row];
+                if (start < fromDay || start > toDay || booked == ReservationColumns.UNKNOWN_DAY) {
+                    continue;
+                }
+                int lead = Math.max(0, start - booked);
+                histogram[Math.min(lead, MAX_LEAD_DAYS + 1)]++;
+                histogram[MAX_LEAD_DAYS + 2] += lead;
+            }
+        }
+
+        @Override
+        public long[] merge(long[] left, long[] right) {
+            for (int slot = 0; slot < left.length; slot++) {
+                left[slot] += right[slot];
+            }
+            return left;
+        }
+    }
+}
@@ -0,0 +1,332 @@
+package com.crms.app.service.impl;
+
+import com.crms.app.dto.DailyAvailability;
+import com.crms.app.dto.FleetAvailabilityResponse;
+import com.crms.app.dto.LocationAvailabilityResponse;
+import com.crms.app.exception.CrmsException;
+import com.crms.app.exception.ReservationConflictException;
+import com.crms.app.model.Car;
+import com.crms.app.model.CarStatus;
+import com.crms.app.model.Reservation;
+import com.crms.app.model.ReservationStatus;
+import com.crms.app.repository.CarLocationView;
+import com.crms.app.repository.CarRepository;
+import com.crms.app.repository.ReservationIntervalView;
+import com.crms.app.repository.ReservationRepository;
+import com.crms.app.service.FleetAvailabilityService;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+@Service
+public class FleetAvailabilityServiceImpl implements FleetAvailabilityService {
+
+    private static final Logger logger = LoggerFactory.getLogger(FleetAvailabilityServiceImpl.class);
+
+    private static final int HORIZON_DAYS = 730;
+    private static final int WORDS = (HORIZON_DAYS + 63) / 64;
+
+    private final CarRepository carRepository;
+    private final ReservationRepository reservationRepository;
+
+    // Replaced wholesale by reload(); all mutations hold the monitor so none can land on a map being replaced.
+    private volatile Map<Long, CarCalendar> calendars = new ConcurrentHashMap<>();
+    private volatile Map<Long, Long> carByReservation = new ConcurrentHashMap<>();
+    private volatile long originDay = LocalDate.now().toEpochDay();
+
+    public FleetAvailabilityServiceImpl(CarRepository carRepository,
+                                        ReservationRepository reservationRepository) {
+        this.carRepository = carRepository;
+        this.reservationRepository = reservationRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        reload();
+    }
+
+    @Override
+    public FleetAvailabilityResponse findFreeCars(Long locationId, LocalDate startDate, LocalDate endDate) {
+        validateRange(startDate, endDate);
+        long fromDay = startDate.toEpochDay();
+        long toDay = endDate.toEpochDay();
+        List<Long> freeCarIds = new ArrayList<>();
+        calendars.forEach((carId, calendar) -> {
+            if (calendar.matches(locationId) && !calendar.isBusy(fromDay, toDay)) {
+                freeCarIds.add(carId);
+            }
+        });
+        freeCarIds.sort(null);
+
+        FleetAvailabilityResponse response = new FleetAvailabilityResponse();
+        response.setStartDate(startDate);
+        response.setEndDate(endDate);
+        response.setLocationId(locationId);
+        response.setFreeCarIds(freeCarIds);
+        return response;
+    }
+
+    @Override
+    public List<LocationAvailabilityResponse> countFreeCarsByLocation(Long locationId,
+                                                                      LocalDate startDate,
+                                                                      LocalDate endDate) {
+        validateRange(startDate, endDate);
+        long fromDay = startDate.toEpochDay();
+        long toDay = endDate.toEpochDay();
+        int dayCount = (int) (toDay - fromDay + 1);
+        Map<Long, int[]> busyByLocation = new TreeMap<>();
+        Map<Long, Integer> totalsByLocation = new TreeMap<>();
+        for (CarCalendar calendar : calendars.values()) {
+            if (calendar.locationId == null || !calendar.matches(locationId)) {
+                continue;
+            }
+            totalsByLocation.merge(calendar.locationId, 1, Integer::sum);
+            calendar.addBusyDays(busyByLocation.computeIfAbsent(calendar.locationId, key -> new int[dayCount]),
+                    fromDay, toDay);
+        }
+
+        List<LocationAvailabilityResponse> responses = new ArrayList<>();
+        totalsByLocation.forEach((id, total) -> {
+            int[] busy = busyByLocation.get(id);
+            List<DailyAvailability> days = new ArrayList<>(dayCount);
+            for (int i = 0; i < dayCount; i++) {
+                DailyAvailability day = new DailyAvailability();
+                day.setDate(startDate.plusDays(i));
+                day.setFreeCars(total - busy[i]);
+                days.add(day);
+            }
+            LocationAvailabilityResponse response = new LocationAvailabilityResponse();
+            response.setLocationId(id);
+            response.setTotalCars(total);
+            response.setDays(days);
+            responses.add(response);
+        });
+        return responses;
+    }
+
+    @Override
+    public void recordReservation(Reservation reservation) {
+        Long reservationId = reservation.getId();
+        Long carId = reservation.getCar().getId();
+        long startDay = reservation.getStartDate().toEpochDay();
+        long endDay = reservation.getEndDate().toEpochDay();
+        boolean active = reservation.getStatus() == ReservationStatus.ACTIVE;
+        AfterCommit.run(() -> applyReservation(reservationId, carId, startDay, endDay, active));
+    }
+
+    @Override
+    public void recordCar(Car car) {
+        Long carId = car.getId();
+        Long locationId = car.getLocation() == null ? null : car.getLocation().getId();
+        boolean bookable = car.getStatus() != CarStatus.UNAVAILABLE;
+        AfterCommit.run(() -> applyCar(carId, locationId, bookable));
+    }
+
+    @Override
+    public void removeCar(Long carId) {
+        AfterCommit.run(() -> applyCarRemoval(carId));
+    }
+
+    @Override
+    public synchronized void reload() {
+        long origin = LocalDate.now().toEpochDay();
+        Map<Long, CarCalendar> next = new ConcurrentHashMap<>();
+        for (CarLocationView car : carRepository.findAllLocationViews()) {
+            next.put(car.getId(), CarCalendar.empty(car.getLocationId(), car.getStatus() != CarStatus.UNAVAILABLE, origin));
+        }
+        Map<Long, Long> nextCars = new ConcurrentHashMap<>();
+        Map<Long, List<Interval>> intervalsByCar = new HashMap<>();
+        for (ReservationIntervalView view : reservationRepository.findIntervalsByStatus(ReservationStatus.ACTIVE)) {
+            if (view.getEndDate().toEpochDay() < origin) {
+                continue;
+            }
+            nextCars.put(view.getId(), view.getCarId());
+            intervalsByCar.computeIfAbsent(view.getCarId(), key -> new ArrayList<>())
+                    .add(new Interval(view.getId(), view.getStartDate().toEpochDay(), view.getEndDate().toEpochDay()));
+        }
+        intervalsByCar.forEach((carId, intervals) -> next.computeIfPresent(carId,
+                (key, calendar) -> calendar.withIntervals(intervals)));
+
+        originDay = origin;
+        calendars = next;
+        carByReservation = nextCars;
+        logger.info("Fleet availability calendar loaded: cars={}, reservations={}, horizonDays={}",
+                next.size(), nextCars.size(), HORIZON_DAYS);
+    }
+
+    private synchronized void applyCar(Long carId, Long locationId, boolean bookable) {
+        calendars.compute(carId, (key, calendar) -> calendar == null
+                ? CarCalendar.empty(locationId, bookable, originDay)
+                : calendar.withCar(locationId, bookable));
+    }
+
+    private synchronized void applyCarRemoval(Long carId) {
+        calendars.remove(carId);
+    }
+
+    private synchronized void applyReservation(Long reservationId, Long carId, long startDay, long endDay, boolean active) {
+        Long previousCarId = carByReservation.remove(reservationId);
+        if (previousCarId != null) {
+            calendars.computeIfPresent(previousCarId, (key, calendar) -> calendar.withoutInterval(reservationId));
+        }
+        if (active && endDay >= originDay) {
+            carByReservation.put(reservationId, carId);
+            calendars.computeIfPresent(carId,
+                    (key, calendar) -> calendar.withInterval(new Interval(reservationId, startDay, endDay)));
+        }
+    }
+
+    private void validateRange(LocalDate startDate, LocalDate endDate) {
+        if (startDate == null || endDate == null) {
+            throw new CrmsException("Start date and end date are required.");
+        }
+        if (endDate.isBefore(startDate)) {
+            throw new ReservationConflictException("End date must be on or after the start date.");
+        }
+        long origin = rollForward();
+        if (startDate.toEpochDay() < origin || endDate.toEpochDay() >= origin + HORIZON_DAYS) {
+            throw new CrmsException("Availability is tracked from today up to " + HORIZON_DAYS + " days ahead.");
+        }
+    }
+
+    private long rollForward() {
+        long today = LocalDate.now().toEpochDay();
+        if (today != originDay) {
+            synchronized (this) {
+                if (today != originDay) {
+                    calendars.replaceAll((carId, calendar) -> calendar.rebased(today));
+                    originDay = today;
+                }
+            }
+        }
+        return today;
+    }
+
+    private record Interval(long reservationId, long startDay, long endDay) {
+    }
+
+    /**
+     * Immutable day-granular calendar of one car: bit {@code i} of {@code words} is set when the car
+     * is booked on {@code origin + i}. Range checks and per-day counts work a 64-day word at a time.
+     */
+    static final class CarCalendar {
+
+        private final Long locationId;
+        private final boolean bookable;
+        private final long origin;
+        private final List<Interval> intervals;
+        private final long[] words;
+
+        private CarCalendar(Long locationId, boolean bookable, long origin, List<Interval> intervals) {
+            this.locationId = locationId;
+            this.bookable = bookable;
+            this.origin = origin;
+            this.intervals = intervals;
+            this.words = new long[WORDS];
+            for (Interval interval : intervals) {
+                int from = (int) Math.max(0, interval.startDay() - origin);
+                int to = (int) Math.min(HORIZON_DAYS - 1, interval.endDay() - origin);
+                if (from <= to) {
+                    setRange(words, from, to);
+                }
+            }
+        }
+
+        static CarCalendar empty(Long locationId, boolean bookable, long origin) {
+            return new CarCalendar(locationId, bookable, origin, List.of());
+        }
+
+        boolean matches(Long requestedLocationId) {
+            return bookable && (requestedLocationId == null || Objects.equals(locationId, requestedLocationId));
+        }
+
+        boolean isBusy(long fromDay, long toDay) {
+            int from = (int) Math.max(0, fromDay - origin);
+            int to = (int) Math.min(HORIZON_DAYS - 1, toDay - origin);
+            if (from > to) {
+                return false;
+            }
+            int fromWord = from >>> 6;
+            int toWord = to >>> 6;
+            long busy = 0L;
+            for (int w = fromWord; w <= toWord; w++) {
+                busy |= words[w] & wordMask(w, fromWord, toWord, from, to);
+            }
+            return busy != 0L;
+        }
+
+        void addBusyDays(int[] busyCounts, long fromDay, long toDay) {
+            int from = (int) Math.max(0, fromDay - origin);
+            int to = (int) Math.min(HORIZON_DAYS - 1, toDay - origin);
+            int shift = (int) (fromDay - origin);
+            int fromWord = from >>> 6;
+            int toWord = to >>> 6;
+            for (int w = fromWord; w <= toWord && from <= to; w++) {
+                long bits = words[w] & wordMask(w, fromWord, toWord, from, to);
+                while (bits != 0L) {
+                    busyCounts[(w << 6) + Long.numberOfTrailingZeros(bits) - shift]++;
+                    bits &= bits - 1;
+                }
+            }
+        }
+
+        CarCalendar withCar(Long nextLocationId, boolean nextBookable) {
+            return new CarCalendar(nextLocationId, nextBookable, origin, intervals);
+        }
+
+        CarCalendar withInterval(Interval interval) {
+            List<Interval> next = new ArrayList<>(intervals);
+            next.add(interval);
+            return new CarCalendar(locationId, bookable, origin, List.copyOf(next));
+        }
+
+        CarCalendar withIntervals(List<Interval> added) {
+            List<Interval> next = new ArrayList<>(intervals);
+            next.addAll(added);
+            return new CarCalendar(locationId, bookable, origin, List.copyOf(next));
+        }
+
+        CarCalendar withoutInterval(long reservationId) {
+            List<Interval> next = intervals.stream()
+                    .filter(interval -> interval.reservationId() != reservationId)
+                    .toList();
+            return new CarCalendar(locationId, bookable, origin, next);
+        }
+
+        CarCalendar rebased(long nextOrigin) {
+            List<Interval> next = intervals.stream()
+                    .filter(interval -> interval.endDay() >= nextOrigin)
+                    .toList();
+            return new CarCalendar(locationId, bookable, nextOrigin, next);
+        }
+
+        private static long wordMask(int word, int fromWord, int toWord, int from, int to) {
+            long mask = -1L;
+            if (word == fromWord) {
+                mask &= -1L << (from & 63);
+            }
+            if (word == toWord) {
+                mask &= -1L >>> (63 - (to & 63));
+            }
+            return mask;
+        }
+
+        private static void setRange(long[] words, int from, int to) {
+            int fromWord = from >>> 6;
+            int toWord = to >>> 6;
+            for (int w = fromWord; w <= toWord; w++) {
+                words[w] |= wordMask(w, fromWord, toWord, from, to);
+            }
+        }
+    }
+}
@@ -7,7 +7,9 @@ import com.crms.app.exception.ResourceNotFoundException;
 import com.crms.app.mapper.LocationMapper;
 import com.crms.app.model.Location;
 import com.crms.app.repository.LocationRepository;
+import com.crms.app.service.CarSearchCache;
 import com.crms.app.service.LocationManagementService;
+import com.crms.app.service.ReferenceCatalogCache;
 import java.util.List;
 import java.util.Locale;
 import org.springframework.stereotype.Service;
@@ -20,19 +22,23 @@ public class LocationManagementServiceImpl implements LocationManagementService
 
     private final LocationRepository locationRepository;
     private final LocationMapper locationMapper;
+    private final ReferenceCatalogCache catalogCache;
+    private final CarSearchCache searchCache;
 
     public LocationManagementServiceImpl(LocationRepository locationRepository,
-                                         LocationMapper locationMapper) {
+                                         LocationMapper locationMapper,
+                                         ReferenceCatalogCache catalogCache,
+                                         CarSearchCache searchCache) {
         this.locationRepository = locationRepository;
         this.locationMapper = locationMapper;
+        this.catalogCache = catalogCache;
+        this.searchCache = searchCache;
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<LocationResponse> listLocations() {
-        return locationRepository.findAll().stream()
-                .map(locationMapper::toResponse)
-                .toList();
+        return catalogCache.locations().getResponses();
     }
 
     @Override
@@ -62,6 +68,7 @@ public class LocationManagementServiceImpl implements LocationManagementService
             throw new CrmsException("Location code already exists: " + nextCode);
         }
         applyRequest(location, request);
+        searchCache.evictLocation(id);
         return locationMapper.toResponse(locationRepository.save(location));
     }
 
@@ -69,6 +76,7 @@ public class LocationManagementServiceImpl implements LocationManagementService
     public void deleteLocation(Long id) {
         Location location = findLocation(id);
         locationRepository.delete(location);
+        searchCache.evictLocation(id);
     }
 
     private Location findLocation(Long id) {
@@ -1,14 +1,15 @@
 package com.crms.app.service.impl;
 
 import com.crms.app.dto.MemberResponse;
+import com.crms.app.dto.ReservationPage;
 import com.crms.app.dto.ReservationSummary;
 import com.crms.app.exception.ResourceNotFoundException;
 import com.crms.app.mapper.MemberMapper;
 import com.crms.app.mapper.ReservationMapper;
 import com.crms.app.model.Member;
-import com.crms.app.model.Reservation;
 import com.crms.app.repository.MemberRepository;
 import com.crms.app.repository.ReservationRepository;
+import com.crms.app.repository.ReservationSummaryView;
 import com.crms.app.service.MemberManagementService;
 import java.util.List;
 import org.springframework.stereotype.Service;
@@ -22,15 +23,18 @@ public class MemberManagementServiceImpl implements MemberManagementService {
     private final ReservationRepository reservationRepository;
     private final MemberMapper memberMapper;
     private final ReservationMapper reservationMapper;
+    private final ReservationPageAssembler pageAssembler;
 
     public MemberManagementServiceImpl(MemberRepository memberRepository,
                                        ReservationRepository reservationRepository,
                                        MemberMapper memberMapper,
-                                       ReservationMapper reservationMapper) {
+                                       ReservationMapper reservationMapper,
+                                       ReservationPageAssembler pageAssembler) {
         this.memberRepository = memberRepository;
         this.reservationRepository = reservationRepository;
         this.memberMapper = memberMapper;
         this.reservationMapper = reservationMapper;
+        this.pageAssembler = pageAssembler;
     }
 
     @Override
@@ -49,10 +53,21 @@ public class MemberManagementServiceImpl implements MemberManagementService {
     @Override
     public List<ReservationSummary> listMemberReservations(Long memberId) {
         findMember(memberId);
-        List<Reservation> reservations = reservationRepository.findAllByMemberIdOrderByStartDateDesc(memberId);
-        return reservations.stream()
-                .map(reservationMapper::toSummary)
-                .toList();
+        return reservationMapper.toSummaries(
+                reservationRepository.findSummariesByMemberId(memberId),
+                reservationRepository.findServiceIdsByMemberId(memberId),
+                reservationRepository.findEquipmentIdsByMemberId(memberId));
+    }
+
+    @Override
+    public ReservationPage pageMemberReservations(Long memberId, String cursor, Integer limit) {
+        findMember(memberId);
+        ReservationCursor after = ReservationCursor.decode(cursor);
+        List<ReservationSummaryView> views = after == null
+                ? reservationRepository.findMemberSummaryPage(memberId, ReservationCursor.fetchLimit(limit))
+                : reservationRepository.findMemberSummaryPageAfter(
+                        memberId, after.startDate(), after.id(), ReservationCursor.fetchLimit(limit));
+        return pageAssembler.toPage(views, limit);
     }
 
     private Member findMember(Long id) {
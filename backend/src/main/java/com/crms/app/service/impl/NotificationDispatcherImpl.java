@@ -0,0 +1,172 @@
+package com.crms.app.service.impl;
+
+import com.crms.app.config.NotificationProperties;
+import com.crms.app.model.NotificationOutbox;
+import com.crms.app.model.NotificationStatus;
+import com.crms.app.repository.NotificationOutboxRepository;
+import com.crms.app.service.NotificationDispatcher;
+import jakarta.annotation.PreDestroy;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Service
+public class NotificationDispatcherImpl implements NotificationDispatcher {
+
+    private static final Logger logger = LoggerFactory.getLogger(NotificationDispatcherImpl.class);
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final NotificationOutboxRepository outboxRepository;
+    private final JavaMailSender mailSender;
+    private final NotificationProperties.Outbox settings;
+    private final TransactionTemplate transactionTemplate;
+    private final ThreadPoolExecutor executor;
+    private final AtomicBoolean drainRequested = new AtomicBoolean();
+
+    public NotificationDispatcherImpl(NotificationOutboxRepository outboxRepository,
+                                      JavaMailSender mailSender,
+                                      NotificationProperties properties,
+                                      PlatformTransactionManager transactionManager) {
+        this.outboxRepository = outboxRepository;
+        this.mailSender = mailSender;
+        this.settings = properties.getOutbox();
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                settings.getWorkers(),
+                settings.getWorkers(),
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(settings.getQueueCapacity()),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "notification-dispatch-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    @Scheduled(fixedDelayString = "${crms.notification.outbox.poll-interval-ms:2000}")
+    public void poll() {
+        if (settings.isDispatcherEnabled()) {
+            drainInBackground();
+        }
+    }
+
+    @Override
+    public void requestDispatch() {
+        if (!settings.isDispatcherEnabled() || !drainRequested.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            executor.execute(() -> {
+                drainRequested.set(false);
+                drainInBackground();
+            });
+        } catch (RejectedExecutionException ex) {
+            drainRequested.set(false);
+        }
+    }
+
+    @Override
+    public int dispatchDue() {
+        List<NotificationOutbox> claimed = claim(settings.getBatchSize());
+        claimed.forEach(this::deliver);
+        return claimed.size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private void drainInBackground() {
+        while (true) {
+            int capacity = Math.min(settings.getBatchSize(), executor.getQueue().remainingCapacity());
+            if (capacity == 0) {
+                return;
+            }
+            List<NotificationOutbox> claimed = claim(capacity);
+            for (NotificationOutbox entry : claimed) {
+                try {
+                    executor.execute(() -> deliver(entry));
+                } catch (RejectedExecutionException ex) {
+                    logger.debug("Notification dispatch queue full, entry {} waits for its lease to expire", entry.getId());
+                }
+            }
+            if (claimed.size() < capacity) {
+                return;
+            }
+        }
+    }
+
+    private List<NotificationOutbox> claim(int limit) {
+        List<NotificationOutbox> claimed = transactionTemplate.execute(status -> {
+            Instant now = Instant.now();
+            List<NotificationOutbox> due = outboxRepository.findDueForUpdate(now, limit);
+            Instant leaseUntil = now.plusMillis(settings.getLeaseMs());
+            due.forEach(entry -> entry.setNextAttemptAt(leaseUntil));
+            return due;
+        });
+        return claimed == null ? List.of() : claimed;
+    }
+
+    private void deliver(NotificationOutbox entry) {
+        SimpleMailMessage message = new SimpleMailMessage();
+        message.setTo(entry.getRecipientEmail());
+        message.setFrom(entry.getSender());
+        message.setSubject(entry.getSubject());
+        message.setText(entry.getBody());
+        try {
+            mailSender.send(message);
+            markSent(entry.getId());
+        } catch (RuntimeException ex) {
+            markFailed(entry.getId(), ex);
+        }
+    }
+
+    private void markSent(Long entryId) {
+        transactionTemplate.executeWithoutResult(status -> outboxRepository.findById(entryId).ifPresent(entry -> {
+            entry.setAttempts(entry.getAttempts() + 1);
+            entry.setStatus(NotificationStatus.SENT);
+            entry.setSentAt(Instant.now());
+            entry.setLastError(null);
+        }));
+    }
+
+    private void markFailed(Long entryId, RuntimeException failure) {
+        transactionTemplate.executeWithoutResult(status -> outboxRepository.findById(entryId).ifPresent(entry -> {
+            int attempts = entry.getAttempts() + 1;
+            entry.setAttempts(attempts);
+            entry.setLastError(truncate(String.valueOf(failure.getMessage())));
+            if (attempts >= settings.getMaxAttempts()) {
+                entry.setStatus(NotificationStatus.DEAD);
+                logger.warn("Notification moved to dead letter: id={}, reservation={}, attempts={}, error={}",
+                        entry.getId(), entry.getReservationNumber(), attempts, entry.getLastError());
+            } else {
+                entry.setNextAttemptAt(Instant.now().plusMillis(backoffMillis(attempts)));
+            }
+        }));
+    }
+
+    private long backoffMillis(int attempts) {
+        long delay = settings.getInitialBackoffMs() << Math.min(attempts - 1, 20);
+        return Math.min(delay, settings.getMaxBackoffMs());
+    }
+
+    private static String truncate(String value) {
+        return value.length() <= MAX_ERROR_LENGTH ? value : value.substring(0, MAX_ERROR_LENGTH);
+    }
+}
@@ -4,26 +4,35 @@ import com.crms.app.config.NotificationProperties;
 import com.crms.app.dto.NotificationPayload;
 import com.crms.app.model.Car;
 import com.crms.app.model.Location;
+import com.crms.app.model.NotificationOutbox;
+import com.crms.app.model.NotificationStatus;
 import com.crms.app.model.Reservation;
+import com.crms.app.repository.NotificationOutboxRepository;
+import com.crms.app.service.NotificationDispatcher;
 import com.crms.app.service.NotificationService;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.mail.SimpleMailMessage;
-import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 
 @Service
+@Transactional
 public class NotificationServiceImpl implements NotificationService {
 
     private static final Logger logger = LoggerFactory.getLogger(NotificationServiceImpl.class);
-    private final JavaMailSender mailSender;
+    private final NotificationOutboxRepository outboxRepository;
+    private final NotificationDispatcher notificationDispatcher;
     private final NotificationProperties properties;
 
-    public NotificationServiceImpl(JavaMailSender mailSender, NotificationProperties properties) {
-        this.mailSender = mailSender;
+    public NotificationServiceImpl(NotificationOutboxRepository outboxRepository,
+                                   NotificationDispatcher notificationDispatcher,
+                                   NotificationProperties properties) {
+        this.outboxRepository = outboxRepository;
+        this.notificationDispatcher = notificationDispatcher;
         this.properties = properties;
     }
 
@@ -53,12 +62,19 @@ public class NotificationServiceImpl implements NotificationService {
             return;
         }
 
-        SimpleMailMessage message = new SimpleMailMessage();
-        message.setTo(payload.getRecipientEmail());
-        message.setFrom(properties.getFrom());
-        message.setSubject(buildSubject(payload));
-        message.setText(buildBody(payload));
-        mailSender.send(message);
+        Instant now = Instant.now();
+        NotificationOutbox entry = new NotificationOutbox();
+        entry.setEventType(payload.getEventType());
+        entry.setReservationNumber(payload.getReservationNumber());
+        entry.setRecipientEmail(payload.getRecipientEmail());
+        entry.setSender(properties.getFrom());
+        entry.setSubject(buildSubject(payload));
+        entry.setBody(buildBody(payload));
+        entry.setStatus(NotificationStatus.PENDING);
+        entry.setCreatedAt(now);
+        entry.setNextAttemptAt(now);
+        outboxRepository.save(entry);
+        AfterCommit.run(notificationDispatcher::requestDispatch);
     }
 
     private void logNotification(NotificationPayload payload, String reason) {
@@ -0,0 +1,203 @@
+package com.crms.app.service.impl;
+
+import com.crms.app.config.ReportingProperties;
+import jakarta.annotation.PreDestroy;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.DeflaterOutputStream;
+import org.apache.pdfbox.cos.COSName;
+import org.apache.pdfbox.cos.COSStream;
+import org.apache.pdfbox.io.MemoryUsageSetting;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDResources;
+import org.apache.pdfbox.pdmodel.common.PDStream;
+import org.apache.pdfbox.pdmodel.font.PDType1Font;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StreamUtils;
+
+/**
+ * Writes line-per-row PDF reports. Lines are pulled from the caller's iterator in chunks of pages; each chunk's
+ * content streams are built and Flate-compressed on a shared render pool, and the caller appends the finished
+ * pages in order. At most a few chunks per export are in flight, and page content spills to a PDFBox scratch
+ * file past the configured main-memory budget, so heap use does not grow with the row count.
+ */
+@Component
+public class PdfReportWriter {
+
+    static final int LINES_PER_PAGE = 50;
+
+    private static final int PAGE_MARGIN = 50;
+    private static final int START_Y = 750;
+    private static final int LINE_HEIGHT = 14;
+    private static final int OUTPUT_BUFFER_SIZE = 64 * 1024;
+    private static final COSName BODY_FONT = COSName.getPDFName("F1");
+    private static final COSName TITLE_FONT = COSName.getPDFName("F2");
+
+    private final ReportingProperties.Pdf settings;
+    private final ThreadPoolExecutor executor;
+
+    public PdfReportWriter(ReportingProperties properties) {
+        this.settings = properties.getPdf();
+        int threads = Math.max(1, settings.getRenderThreads());
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                threads,
+                threads,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "pdf-render-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    /**
+     * Writes the title (bold), the header and every line to {@code output}, which is left open.
+     */
+    public void write(String title, String header, Iterator<String> lines, OutputStream output) throws IOException {
+        int linesPerChunk = LINES_PER_PAGE * Math.max(1, settings.getPagesPerChunk());
+        int maxInFlight = Math.max(2, executor.getMaximumPoolSize() * 2);
+        Deque<Future<byte[][]>> inFlight = new ArrayDeque<>();
+        try (PDDocument document = new PDDocument(MemoryUsageSetting.setupMixed(settings.getMaxMainMemoryBytes()))) {
+            PDResources resources = new PDResources();
+            resources.put(BODY_FONT, PDType1Font.HELVETICA);
+            resources.put(TITLE_FONT, PDType1Font.HELVETICA_BOLD);
+
+            List<String> chunk = new ArrayList<>(linesPerChunk);
+            chunk.add(title);
+            chunk.add(header);
+            boolean titleChunk = true;
+            while (lines.hasNext()) {
+                chunk.add(lines.next());
+                if (chunk.size() == linesPerChunk) {
+                    inFlight.addLast(submit(chunk, titleChunk));
+                    titleChunk = false;
+                    chunk = new ArrayList<>(linesPerChunk);
+                    if (inFlight.size() >= maxInFlight) {
+                        appendPages(document, resources, inFlight.removeFirst());
+                    }
+                }
+            }
+            if (!chunk.isEmpty()) {
+                inFlight.addLast(submit(chunk, titleChunk));
+            }
+            while (!inFlight.isEmpty()) {
+                appendPages(document, resources, inFlight.removeFirst());
+            }
+
+            OutputStream target = new BufferedOutputStream(StreamUtils.nonClosing(output), OUTPUT_BUFFER_SIZE);
+            document.save(target);
+            target.flush();
+        } finally {
+            inFlight.forEach(future -> future.cancel(true));
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private Future<byte[][]> submit(List<String> chunk, boolean titleChunk) {
+        return executor.submit(() -> renderPages(chunk, titleChunk));
+    }
+
+    private static void appendPages(PDDocument document, PDResources resources, Future<byte[][]> rendered)
+            throws IOException {
+        byte[][] pages;
+        try {
+            pages = rendered.get();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while rendering PDF pages");
+        } catch (ExecutionException ex) {
+            throw new IOException("Failed to render PDF pages", ex.getCause());
+        }
+        for (byte[] content : pages) {
+            COSStream stream = document.getDocument().createCOSStream();
+            stream.setItem(COSName.FILTER, COSName.FLATE_DECODE);
+            try (OutputStream raw = stream.createRawOutputStream()) {
+                raw.write(content);
+            }
+            PDPage page = new PDPage();
+            page.setResources(resources);
+            page.setContents(new PDStream(stream));
+            document.addPage(page);
+        }
+    }
+
+    /**
+     * Builds the Flate-compressed content stream of each page in the chunk without touching any PDFBox object,
+     * so chunks can be rendered concurrently.
+     */
+    static byte[][] renderPages(List<String> lines, boolean titleChunk) throws IOException {
+        int pageCount = (lines.size() + LINES_PER_PAGE - 1) / LINES_PER_PAGE;
+        byte[][] pages = new byte[pageCount][];
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(16 * 1024);
+        for (int page = 0; page < pageCount; page++) {
+            compressed.reset();
+            try (OutputStream content = new DeflaterOutputStream(compressed)) {
+                int from = page * LINES_PER_PAGE;
+                int to = Math.min(lines.size(), from + LINES_PER_PAGE);
+                writeAscii(content, "BT\n" + LINE_HEIGHT + " TL\n" + PAGE_MARGIN + " " + START_Y + " Td\n");
+                for (int index = from; index < to; index++) {
+                    if (index > from) {
+                        writeAscii(content, "T*\n");
+                    }
+                    if (titleChunk && index == 0) {
+                        writeAscii(content, "/F2 12 Tf\n");
+                    } else if (index == from || (titleChunk && index == 1)) {
+                        writeAscii(content, "/F1 10 Tf\n");
+                    }
+                    writeText(content, lines.get(index));
+                }
+                writeAscii(content, "ET\n");
+            }
+            pages[page] = compressed.toByteArray();
+        }
+        return pages;
+    }
+
+    private static void writeAscii(OutputStream output, String operators) throws IOException {
+        for (int i = 0; i < operators.length(); i++) {
+            output.write(operators.charAt(i));
+        }
+    }
+
+    /**
+     * Writes a {@code Tj} string operand. Report text is ASCII, which WinAnsiEncoding maps to the same codes;
+     * anything else is replaced with '?'.
+     */
+    private static void writeText(OutputStream output, String text) throws IOException {
+        output.write('(');
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '(' || c == ')' || c == '\\') {
+                output.write('\\');
+                output.write(c);
+            } else if (c < 32 || c > 126) {
+                output.write('?');
+            } else {
+                output.write(c);
+            }
+        }
+        writeAscii(output, ") Tj\n");
+    }
+}
@@ -0,0 +1,189 @@
+package com.crms.app.service.impl;
+
+import com.crms.app.exception.ResourceNotFoundException;
+import com.crms.app.model.AdditionalService;
+import com.crms.app.model.Equipment;
+import com.crms.app.model.listener.ReferenceCatalogVersions;
+import com.crms.app.model.listener.ReferenceCatalogVersions.Catalog;
+import com.crms.app.repository.CarRateView;
+import com.crms.app.repository.CarRepository;
+import com.crms.app.service.CatalogSnapshot;
+import com.crms.app.service.PricingEngine;
+import com.crms.app.service.ReferenceCatalogCache;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import org.springframework.stereotype.Service;
+
+/**
+ * Prices quotes from sorted id/cents tables. Car rates are reloaded only when a car is added or its daily rate
+ * changes; add-on tables are rebuilt whenever the reference catalog cache hands out a new snapshot.
+ */
+@Service
+public class PricingEngineImpl implements PricingEngine {
+
+    private final CarRepository carRepository;
+    private final ReferenceCatalogCache catalogCache;
+    private final ReferenceCatalogVersions versions;
+    private volatile PriceTable carRates;
+    private volatile PriceTable serviceRates;
+    private volatile PriceTable equipmentRates;
+
+    public PricingEngineImpl(CarRepository carRepository,
+                             ReferenceCatalogCache catalogCache,
+                             ReferenceCatalogVersions versions) {
+        this.carRepository = carRepository;
+        this.catalogCache = catalogCache;
+        this.versions = versions;
+    }
+
+    @Override
+    public long quote(long carId, long days, List<Long> serviceIds, List<Long> equipmentIds) {
+        long carCents = carRates().cents(carId);
+        if (carCents < 0) {
+            throw new ResourceNotFoundException("Car not found: " + carId);
+        }
+        long addOnCents = sum(serviceRates(), serviceIds) + sum(equipmentRates(), equipmentIds);
+        return (carCents + addOnCents) * days;
+    }
+
+    private PriceTable carRates() {
+        if (versions.isChangedInCurrentTransaction(Catalog.CAR_RATES)) {
+            return loadCarRates(-1);
+        }
+        long version = versions.current(Catalog.CAR_RATES);
+        PriceTable table = carRates;
+        if (table != null && table.version == version) {
+            return table;
+        }
+        synchronized (this) {
+            version = versions.current(Catalog.CAR_RATES);
+            table = carRates;
+            if (table != null && table.version == version) {
+                return table;
+            }
+            table = loadCarRates(version);
+            if (versions.current(Catalog.CAR_RATES) == version) {
+                carRates = table;
+            }
+            return table;
+        }
+    }
+
+    private PriceTable loadCarRates(long version) {
+        List<CarRateView> rates = carRepository.findAllRates();
+        long[] ids = new long[rates.size()];
+        long[] cents = new long[rates.size()];
+        int index = 0;
+        for (CarRateView rate : rates) {
+            ids[index] = rate.getId();
+            cents[index] = toCents(rate.getDailyRate());
+            index++;
+        }
+        return PriceTable.sorted(ids, cents, version, null);
+    }
+
+    private PriceTable serviceRates() {
+        CatalogSnapshot<AdditionalService, ?> snapshot = catalogCache.services();
+        PriceTable table = serviceRates;
+        if (table == null || table.source != snapshot) {
+            table = fromSnapshot(snapshot, AdditionalService::getDailyPrice);
+            serviceRates = table;
+        }
+        return table;
+    }
+
+    private PriceTable equipmentRates() {
+        CatalogSnapshot<Equipment, ?> snapshot = catalogCache.equipment();
+        PriceTable table = equipmentRates;
+        if (table == null || table.source != snapshot) {
+            table = fromSnapshot(snapshot, Equipment::getDailyPrice);
+            equipmentRates = table;
+        }
+        return table;
+    }
+
+    private static <E> PriceTable fromSnapshot(CatalogSnapshot<E, ?> snapshot, Function<E, BigDecimal> price) {
+        Map<Long, E> entities = snapshot.getEntities();
+        long[] ids = new long[entities.size()];
+        long[] cents = new long[entities.size()];
+        int index = 0;
+        for (Map.Entry<Long, E> entry : entities.entrySet()) {
+            ids[index] = entry.getKey();
+            cents[index] = toCents(price.apply(entry.getValue()));
+            index++;
+        }
+        return PriceTable.sorted(ids, cents, -1, snapshot);
+    }
+
+    private static long sum(PriceTable table, List<Long> ids) {
+        if (ids == null) {
+            return 0;
+        }
+        long total = 0;
+        int size = ids.size();
+        for (int i = 0; i < size; i++) {
+            Long id = ids.get(i);
+            if (id == null || seenBefore(ids, i, id)) {
+                continue;
+            }
+            long cents = table.cents(id);
+            if (cents >= 0) {
+                total += cents;
+            }
+        }
+        return total;
+    }
+
+    // Selections are a handful of ids, so a quadratic duplicate check beats allocating a set.
+    private static boolean seenBefore(List<Long> ids, int index, Long id) {
+        for (int i = 0; i < index; i++) {
+            if (id.equals(ids.get(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static long toCents(BigDecimal amount) {
+        return amount.setScale(2, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    private static final class PriceTable {
+
+        private final long[] ids;
+        private final long[] cents;
+        private final long version;
+        private final Object source;
+
+        private PriceTable(long[] ids, long[] cents, long version, Object source) {
+            this.ids = ids;
+            this.cents = cents;
+            this.version = version;
+            this.source = source;
+        }
+
+        static PriceTable sorted(long[] ids, long[] cents, long version, Object source) {
+            Integer[] order = new Integer[ids.length];
+            for (int i = 0; i < order.length; i++) {
+                order[i] = i;
+            }
+            Arrays.sort(order, (left, right) -> Long.compare(ids[left], ids[right]));
+            long[] sortedIds = new long[ids.length];
+            long[] sortedCents = new long[ids.length];
+            for (int i = 0; i < order.length; i++) {
+                sortedIds[i] = ids[order[i]];
+                sortedCents[i] = cents[order[i]];
+            }
+            return new PriceTable(sortedIds, sortedCents, version, source);
+        }
+
+        long cents(long id) {
+            int index = Arrays.binarySearch(ids, id);
+            return index < 0 ? -1 : cents[index];
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package com.crms.app.service.impl;
+
+import com.crms.app.dto.AdditionalServiceResponse;
+import com.crms.app.dto.EquipmentResponse;
+import com.crms.app.dto.LocationResponse;
+import com.crms.app.mapper.AdditionalServiceMapper;
+import com.crms.app.mapper.EquipmentMapper;
+import com.crms.app.mapper.LocationMapper;
+import com.crms.app.model.AdditionalService;
+import com.crms.app.model.Equipment;
+import com.crms.app.model.Location;
+import com.crms.app.model.listener.ReferenceCatalogVersions;
+import com.crms.app.model.listener.ReferenceCatalogVersions.Catalog;
+import com.crms.app.repository.EquipmentRepository;
+import com.crms.app.repository.LocationRepository;
+import com.crms.app.repository.ServiceRepository;
+import com.crms.app.service.CatalogSnapshot;
+import com.crms.app.service.ReferenceCatalogCache;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.util.DigestUtils;
+
+@Service
+public class ReferenceCatalogCacheImpl implements ReferenceCatalogCache {
+
+    private static final Sort BY_ID = Sort.by("id");
+
+    private final ReferenceCatalogVersions versions;
+    private final ObjectMapper objectMapper;
+    private final Slot<Location, LocationResponse> locations;
+    private final Slot<AdditionalService, AdditionalServiceResponse> services;
+    private final Slot<Equipment, EquipmentResponse> equipment;
+
+    public ReferenceCatalogCacheImpl(ReferenceCatalogVersions versions,
+                                     LocationRepository locationRepository,
+                                     ServiceRepository serviceRepository,
+                                     EquipmentRepository equipmentRepository,
+                                     LocationMapper locationMapper,
+                                     AdditionalServiceMapper serviceMapper,
+                                     EquipmentMapper equipmentMapper,
+                                     ObjectMapper objectMapper) {
+        this.versions = versions;
+        this.objectMapper = objectMapper;
+        this.locations = new Slot<>(Catalog.LOCATIONS, () -> locationRepository.findAll(BY_ID),
+                ReferenceCatalogCacheImpl::copyOf, Location::getId, locationMapper::toResponse);
+        this.services = new Slot<>(Catalog.SERVICES, () -> serviceRepository.findAll(BY_ID),
+                ReferenceCatalogCacheImpl::copyOf, AdditionalService::getId, serviceMapper::toResponse);
+        this.equipment = new Slot<>(Catalog.EQUIPMENT, () -> equipmentRepository.findAll(BY_ID),
+                ReferenceCatalogCacheImpl::copyOf, Equipment::getId, equipmentMapper::toResponse);
+    }
+
+    @Override
+    public CatalogSnapshot<Location, LocationResponse> locations() {
+        return locations.get();
+    }
+
+    @Override
+    public CatalogSnapshot<AdditionalService, AdditionalServiceResponse> services() {
+        return services.get();
+    }
+
+    @Override
+    public CatalogSnapshot<Equipment, EquipmentResponse> equipment() {
+        return equipment.get();
+    }
+
+    private final class Slot<E, R> {
+
+        private final Catalog catalog;
+        private final Supplier<List<E>> loader;
+        private final UnaryOperator<E> detacher;
+        private final Function<E, Long> idGetter;
+        private final Function<E, R> mapper;
+        private volatile Entry<E, R> entry;
+
+        private Slot(Catalog catalog,
+                     Supplier<List<E>> loader,
+                     UnaryOperator<E> detacher,
+                     Function<E, Long> idGetter,
+                     Function<E, R> mapper) {
+            this.catalog = catalog;
+            this.loader = loader;
+            this.detacher = detacher;
+            this.idGetter = idGetter;
+            this.mapper = mapper;
+        }
+
+        CatalogSnapshot<E, R> get() {
+            // A transaction that has written this catalog must see its own uncommitted rows.
+            if (versions.isChangedInCurrentTransaction(catalog)) {
+                return build(loader.get());
+            }
+            long version = versions.current(catalog);
+            Entry<E, R> cached = entry;
+            if (cached != null && cached.version() == version) {
+                return cached.snapshot();
+            }
+            synchronized (this) {
+                version = versions.current(catalog);
+                cached = entry;
+                if (cached != null && cached.version() == version) {
+                    return cached.snapshot();
+                }
+                // Cache copies so the shared instances are never attached to (or modified through) a caller's session.
+                CatalogSnapshot<E, R> snapshot = build(loader.get().stream().map(detacher).toList());
+                if (versions.current(catalog) == version) {
+                    entry = new Entry<>(version, snapshot);
+                }
+                return snapshot;
+            }
+        }
+
+        private CatalogSnapshot<E, R> build(List<E> rows) {
+            Map<Long, E> byId = new LinkedHashMap<>();
+            for (E row : rows) {
+                byId.put(idGetter.apply(row), row);
+            }
+            List<R> responses = rows.stream().map(mapper).toList();
+            byte[] json;
+            try {
+                json = objectMapper.writeValueAsBytes(responses);
+            } catch (JsonProcessingException ex) {
+                throw new IllegalStateException("Failed to serialize " + catalog + " catalog.", ex);
+            }
+            return new CatalogSnapshot<>(byId, responses, json, DigestUtils.md5DigestAsHex(json));
+        }
+    }
+
+    private static Location copyOf(Location location) {
+        Location copy = new Location();
+        copy.setId(location.getId());
+        copy.setCode(location.getCode());
+        copy.setName(location.getName());
+        copy.setAddress(location.getAddress());
+        copy.setPhone(location.getPhone());
+        return copy;
+    }
+
+    private static AdditionalService copyOf(AdditionalService service) {
+        AdditionalService copy = new AdditionalService();
+        copy.setId(service.getId());
+        copy.setName(service.getName());
+        copy.setDailyPrice(service.getDailyPrice());
+        return copy;
+    }
+
+    private static Equipment copyOf(Equipment equipment) {
+        Equipment copy = new Equipment();
+        copy.setId(equipment.getId());
+        copy.setName(equipment.getName());
+        copy.setDailyPrice(equipment.getDailyPrice());
+        return copy;
+    }
+
+    private record Entry<E, R>(long version, CatalogSnapshot<E, R> snapshot) {
+    }
+}
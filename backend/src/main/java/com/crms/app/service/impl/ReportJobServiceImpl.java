@@ -0,0 +1,254 @@
+package com.crms.app.service.impl;
+
+import com.crms.app.config.ReportingProperties;
+import com.crms.app.dto.ReportDownload;
+import com.crms.app.dto.ReportFormat;
+import com.crms.app.dto.ReportJobRequest;
+import com.crms.app.dto.ReportJobResponse;
+import com.crms.app.dto.ReportJobState;
+import com.crms.app.exception.CrmsException;
+import com.crms.app.exception.ReportQueueFullException;
+import com.crms.app.exception.ResourceNotFoundException;
+import com.crms.app.model.ReservationStatus;
+import com.crms.app.model.listener.ReferenceCatalogVersions;
+import com.crms.app.model.listener.ReferenceCatalogVersions.Catalog;
+import com.crms.app.service.ReportJobService;
+import com.crms.app.service.ReportingService;
+import jakarta.annotation.PreDestroy;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * Runs report exports on a small dedicated pool and keeps finished files in a local directory. Jobs are keyed
+ * by format, status filter and the reservation data version, so repeated requests for the same report share
+ * one job (and its file) until the reservations change. The job registry lives in memory; files left over
+ * from a previous run are removed at startup.
+ */
+@Service
+public class ReportJobServiceImpl implements ReportJobService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReportJobServiceImpl.class);
+    private static final String FILE_PREFIX = "report-";
+    private static final int OUTPUT_BUFFER_SIZE = 64 * 1024;
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final ReportingService reportingService;
+    private final ReferenceCatalogVersions versions;
+    private final ReportingProperties.Jobs settings;
+    private final Path directory;
+    private final ThreadPoolExecutor executor;
+    private final Map<String, Job> jobs = new ConcurrentHashMap<>();
+    private final Map<JobKey, Job> jobsByKey = new ConcurrentHashMap<>();
+
+    public ReportJobServiceImpl(ReportingService reportingService,
+                                ReferenceCatalogVersions versions,
+                                ReportingProperties properties) {
+        this.reportingService = reportingService;
+        this.versions = versions;
+        this.settings = properties.getJobs();
+        this.directory = Paths.get(settings.getDirectory()).toAbsolutePath();
+        prepareDirectory();
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                Math.max(1, settings.getWorkers()),
+                Math.max(1, settings.getWorkers()),
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, settings.getQueueCapacity())),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "report-job-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    @Override
+    public synchronized ReportJobResponse submit(ReportJobRequest request) {
+        JobKey key = new JobKey(request.getFormat(), request.getStatus(), versions.current(Catalog.RESERVATIONS));
+        Job existing = jobsByKey.get(key);
+        if (existing != null) {
+            return toResponse(existing);
+        }
+        Job job = new Job(UUID.randomUUID().toString(), key);
+        // Registered before it can run, so a job that fails at once still clears its own key.
+        jobs.put(job.id, job);
+        jobsByKey.put(key, job);
+        try {
+            executor.execute(() -> run(job));
+        } catch (RejectedExecutionException ex) {
+            jobsByKey.remove(key, job);
+            jobs.remove(job.id);
+            throw new ReportQueueFullException("Too many report jobs are queued, try again later.");
+        }
+        return toResponse(job);
+    }
+
+    @Override
+    public ReportJobResponse getJob(String jobId) {
+        return toResponse(findJob(jobId));
+    }
+
+    @Override
+    public ReportDownload getDownload(String jobId) {
+        Job job = findJob(jobId);
+        Path file = job.file;
+        if (job.state != ReportJobState.COMPLETED || file == null) {
+            throw new CrmsException("Report job " + jobId + " has not completed.");
+        }
+        ReportDownload download = new ReportDownload();
+        download.setFileName("reservations." + job.key.format().getFileExtension());
+        download.setContentType(job.key.format().getContentType());
+        download.setFile(file);
+        return download;
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${crms.reporting.jobs.purge-interval-ms:60000}")
+    public int purgeExpired() {
+        Instant cutoff = Instant.now().minusMillis(settings.getRetentionMs());
+        int purged = 0;
+        for (Job job : jobs.values()) {
+            Instant completedAt = job.completedAt;
+            if (completedAt == null || completedAt.isAfter(cutoff)) {
+                continue;
+            }
+            jobsByKey.remove(job.key, job);
+            jobs.remove(job.id);
+            if (job.file != null) {
+                deleteQuietly(job.file);
+            }
+            purged++;
+        }
+        return purged;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void run(Job job) {
+        job.startedAt = Instant.now();
+        job.state = ReportJobState.RUNNING;
+        ReportFormat format = job.key.format();
+        ReservationStatus status = job.key.status();
+        Path partial = directory.resolve(FILE_PREFIX + job.id + ".part");
+        try {
+            job.totalRows = reportingService.countReservations(status);
+            try (OutputStream output = new BufferedOutputStream(Files.newOutputStream(partial), OUTPUT_BUFFER_SIZE)) {
+                if (format == ReportFormat.PDF) {
+                    reportingService.exportReservationsPdf(status, output, job.rowsWritten::set);
+                } else {
+                    reportingService.exportReservationsCsv(status, output, job.rowsWritten::set);
+                }
+            }
+            Path file = directory.resolve(FILE_PREFIX + job.id + "." + format.getFileExtension());
+            Files.move(partial, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            job.file = file;
+            job.completedAt = Instant.now();
+            job.state = ReportJobState.COMPLETED;
+        } catch (Exception ex) {
+            logger.warn("Report job {} ({} {}) failed", job.id, format, status, ex);
+            deleteQuietly(partial);
+            String message = ex.getMessage() == null ? ex.getClass().getSimpleName() : ex.getMessage();
+            job.error = message.length() > MAX_ERROR_LENGTH ? message.substring(0, MAX_ERROR_LENGTH) : message;
+            job.completedAt = Instant.now();
+            job.state = ReportJobState.FAILED;
+            jobsByKey.remove(job.key, job);
+        }
+    }
+
+    private Job findJob(String jobId) {
+        Job job = jobs.get(jobId);
+        if (job == null) {
+            throw new ResourceNotFoundException("Report job not found: " + jobId);
+        }
+        return job;
+    }
+
+    private ReportJobResponse toResponse(Job job) {
+        ReportJobResponse response = new ReportJobResponse();
+        response.setId(job.id);
+        response.setFormat(job.key.format());
+        response.setStatus(job.key.status());
+        response.setState(job.state);
+        long rowsWritten = job.rowsWritten.get();
+        Long totalRows = job.totalRows;
+        response.setRowsWritten(rowsWritten);
+        response.setTotalRows(totalRows);
+        if (job.state == ReportJobState.COMPLETED) {
+            response.setProgressPercent(100);
+        } else if (totalRows != null) {
+            response.setProgressPercent(totalRows == 0 ? 0 : (int) Math.min(99, rowsWritten * 100 / totalRows));
+        }
+        response.setCreatedAt(job.createdAt);
+        response.setStartedAt(job.startedAt);
+        response.setCompletedAt(job.completedAt);
+        response.setError(job.error);
+        return response;
+    }
+
+    private void prepareDirectory() {
+        try {
+            Files.createDirectories(directory);
+            try (DirectoryStream<Path> leftovers = Files.newDirectoryStream(directory, FILE_PREFIX + "*")) {
+                for (Path leftover : leftovers) {
+                    deleteQuietly(leftover);
+                }
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Cannot prepare report directory " + directory, ex);
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException ex) {
+            logger.warn("Could not delete report file {}", file, ex);
+        }
+    }
+
+    private record JobKey(ReportFormat format, ReservationStatus status, long dataVersion) {
+    }
+
+    private static final class Job {
+
+        private final String id;
+        private final JobKey key;
+        private final Instant createdAt = Instant.now();
+        private final AtomicLong rowsWritten = new AtomicLong();
+        private volatile ReportJobState state = ReportJobState.QUEUED;
+        private volatile Long totalRows;
+        private volatile Instant startedAt;
+        private volatile Instant completedAt;
+        private volatile Path file;
+        private volatile String error;
+
+        private Job(String id, JobKey key) {
+            this.id = id;
+            this.key = key;
+        }
+    }
+}
@@ -1,20 +1,37 @@
 package com.crms.app.service.impl;
 
+import com.crms.app.dto.ReservationPage;
+import com.crms.app.dto.ReservationRollup;
 import com.crms.app.dto.ReservationSummary;
+import com.crms.app.dto.RollupDimension;
+import com.crms.app.exception.CrmsException;
 import com.crms.app.mapper.ReservationMapper;
-import com.crms.app.model.Reservation;
 import com.crms.app.model.ReservationStatus;
+import com.crms.app.repository.CarRepository;
+import com.crms.app.repository.FleetSizeView;
+import com.crms.app.repository.ReservationExportRow;
 import com.crms.app.repository.ReservationRepository;
+import com.crms.app.repository.ReservationRollupRepository;
+import com.crms.app.repository.ReservationRollupView;
+import com.crms.app.repository.ReservationSummaryView;
 import com.crms.app.service.ReportingService;
-import java.io.ByteArrayOutputStream;
-import java.io.Closeable;
+import java.io.BufferedWriter;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.math.BigDecimal;
 import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
-import org.apache.pdfbox.pdmodel.PDDocument;
-import org.apache.pdfbox.pdmodel.PDPage;
-import org.apache.pdfbox.pdmodel.PDPageContentStream;
-import org.apache.pdfbox.pdmodel.font.PDType1Font;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.LongConsumer;
+import java.util.stream.Stream;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -22,83 +39,191 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional(readOnly = true)
 public class ReportingServiceImpl implements ReportingService {
 
-    private static final float PAGE_MARGIN = 50f;
-    private static final float START_Y = 750f;
-    private static final float LINE_HEIGHT = 14f;
+    private static final int CSV_BUFFER_SIZE = 64 * 1024;
+    private static final String PDF_HEADER = "reservationNumber | status | startDate | endDate | totalCost | memberId"
+            + " | carId | pickupLocationId | dropoffLocationId";
 
     private final ReservationRepository reservationRepository;
     private final ReservationMapper reservationMapper;
+    private final PdfReportWriter pdfReportWriter;
+    private final ReservationRollupRepository rollupRepository;
+    private final CarRepository carRepository;
+    private final ReservationPageAssembler pageAssembler;
 
     public ReportingServiceImpl(ReservationRepository reservationRepository,
-                                ReservationMapper reservationMapper) {
+                                ReservationMapper reservationMapper,
+                                PdfReportWriter pdfReportWriter,
+                                ReservationRollupRepository rollupRepository,
+                                CarRepository carRepository,
+                                ReservationPageAssembler pageAssembler) {
         this.reservationRepository = reservationRepository;
         this.reservationMapper = reservationMapper;
+        this.pdfReportWriter = pdfReportWriter;
+        this.rollupRepository = rollupRepository;
+        this.carRepository = carRepository;
+        this.pageAssembler = pageAssembler;
     }
 
     @Override
     public List<ReservationSummary> listReservations(ReservationStatus status) {
-        List<Reservation> reservations = status == null
-                ? reservationRepository.findAllByOrderByStartDateDesc()
-                : reservationRepository.findAllByStatusOrderByStartDateDesc(status);
-        return reservations.stream()
-                .map(reservationMapper::toSummary)
-                .toList();
+        return reservationMapper.toSummaries(
+                reservationRepository.findSummaries(status),
+                reservationRepository.findServiceIds(status),
+                reservationRepository.findEquipmentIds(status));
     }
 
     @Override
-    public byte[] exportReservationsCsv(ReservationStatus status) {
-        List<ReservationSummary> reservations = listReservations(status);
-        StringBuilder builder = new StringBuilder();
-        builder.append("reservationNumber,status,startDate,endDate,totalCost,memberId,carId,pickupLocationId,dropoffLocationId");
-        for (ReservationSummary summary : reservations) {
-            builder.append('\n')
-                    .append(escapeCsv(summary.getReservationNumber())).append(',')
-                    .append(escapeCsv(summary.getStatus())).append(',')
-                    .append(escapeCsv(summary.getStartDate())).append(',')
-                    .append(escapeCsv(summary.getEndDate())).append(',')
-                    .append(escapeCsv(summary.getTotalCost())).append(',')
-                    .append(escapeCsv(summary.getMemberId())).append(',')
-                    .append(escapeCsv(summary.getCarId())).append(',')
-                    .append(escapeCsv(summary.getPickupLocationId())).append(',')
-                    .append(escapeCsv(summary.getDropoffLocationId()));
+    public ReservationPage pageReservations(ReservationStatus status, String cursor, Integer limit) {
+        ReservationCursor after = ReservationCursor.decode(cursor);
+        List<ReservationSummaryView> views = after == null
+                ? reservationRepository.findSummaryPage(status, ReservationCursor.fetchLimit(limit))
+                : reservationRepository.findSummaryPageAfter(
+                        status, after.startDate(), after.id(), ReservationCursor.fetchLimit(limit));
+        return pageAssembler.toPage(views, limit);
+    }
+
+    @Override
+    public long countReservations(ReservationStatus status) {
+        return reservationRepository.countForExport(status);
+    }
+
+    @Override
+    public void exportReservationsCsv(ReservationStatus status, OutputStream output) throws IOException {
+        exportReservationsCsv(status, output, rows -> { });
+    }
+
+    @Override
+    public void exportReservationsCsv(ReservationStatus status, OutputStream output, LongConsumer progress)
+            throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8), CSV_BUFFER_SIZE);
+        writer.write("reservationNumber,status,startDate,endDate,totalCost,memberId,carId,pickupLocationId,dropoffLocationId");
+        try (Stream<ReservationExportRow> rows = reservationRepository.streamExportRows(status)) {
+            Iterator<ReservationExportRow> iterator = rows.iterator();
+            long written = 0;
+            while (iterator.hasNext()) {
+                ReservationExportRow row = iterator.next();
+                writer.write('\n');
+                writer.write(escapeCsv(row.getReservationNumber()));
+                writer.write(',');
+                writer.write(escapeCsv(row.getStatus()));
+                writer.write(',');
+                writer.write(escapeCsv(row.getStartDate()));
+                writer.write(',');
+                writer.write(escapeCsv(row.getEndDate()));
+                writer.write(',');
+                writer.write(escapeCsv(row.getTotalCost()));
+                writer.write(',');
+                writer.write(escapeCsv(row.getMemberId()));
+                writer.write(',');
+                writer.write(escapeCsv(row.getCarId()));
+                writer.write(',');
+                writer.write(escapeCsv(row.getPickupLocationId()));
+                writer.write(',');
+                writer.write(escapeCsv(row.getDropoffLocationId()));
+                progress.accept(++written);
+            }
         }
-        return builder.toString().getBytes(StandardCharsets.UTF_8);
+        writer.flush();
     }
 
     @Override
-    public byte[] exportReservationsPdf(ReservationStatus status) {
-        List<ReservationSummary> reservations = listReservations(status);
-        try (PDDocument document = new PDDocument();
-             ByteArrayOutputStream output = new ByteArrayOutputStream()) {
-            PdfWriter writer = new PdfWriter(document);
-            String title = status == null
-                    ? "Reservation Report (All)"
-                    : "Reservation Report (" + status + ")";
-            writer.writeLine(title, PDType1Font.HELVETICA_BOLD, 12);
-            writer.writeLine("reservationNumber | status | startDate | endDate | totalCost | memberId | carId | pickupLocationId | dropoffLocationId",
-                    PDType1Font.HELVETICA, 10);
-            for (ReservationSummary summary : reservations) {
-                writer.writeLine(formatReservationLine(summary), PDType1Font.HELVETICA, 10);
+    public void exportReservationsPdf(ReservationStatus status, OutputStream output) throws IOException {
+        exportReservationsPdf(status, output, rows -> { });
+    }
+
+    @Override
+    public void exportReservationsPdf(ReservationStatus status, OutputStream output, LongConsumer progress)
+            throws IOException {
+        String title = status == null
+                ? "Reservation Report (All)"
+                : "Reservation Report (" + status + ")";
+        try (Stream<ReservationExportRow> rows = reservationRepository.streamExportRows(status)) {
+            AtomicLong written = new AtomicLong();
+            Iterator<String> lines = rows
+                    .peek(row -> progress.accept(written.incrementAndGet()))
+                    .map(this::formatReservationLine)
+                    .iterator();
+            pdfReportWriter.write(title, PDF_HEADER, lines, output);
+        }
+    }
+
+    @Override
+    public List<ReservationRollup> summarizeReservations(LocalDate from, LocalDate to, RollupDimension groupBy) {
+        if (from == null || to == null) {
+            throw new CrmsException("From and to dates are required.");
+        }
+        if (to.isBefore(from)) {
+            throw new CrmsException("To date must be on or after the from date.");
+        }
+        long periodDays = ChronoUnit.DAYS.between(from, to) + 1;
+        return switch (groupBy == null ? RollupDimension.DAY : groupBy) {
+            case DAY -> {
+                long fleetSize = carRepository.count();
+                yield rollupRepository.summarizeByDay(from, to).stream()
+                        .map(view -> {
+                            ReservationRollup rollup = toRollup(view, fleetSize, 1);
+                            rollup.setDay(view.getDay());
+                            return rollup;
+                        })
+                        .toList();
+            }
+            case LOCATION -> {
+                Map<Long, Long> fleet = fleetSizes(carRepository.countByLocation(), FleetSizeView::getLocationId);
+                yield rollupRepository.summarizeByLocation(from, to).stream()
+                        .map(view -> {
+                            ReservationRollup rollup =
+                                    toRollup(view, fleet.getOrDefault(view.getLocationId(), 0L), periodDays);
+                            rollup.setLocationId(view.getLocationId());
+                            return rollup;
+                        })
+                        .toList();
             }
-            writer.close();
-            document.save(output);
-            return output.toByteArray();
-        } catch (IOException ex) {
-            throw new IllegalStateException("Failed to generate reservation PDF report.", ex);
+            case CAR_TYPE -> {
+                Map<String, Long> fleet = fleetSizes(carRepository.countByCarType(), FleetSizeView::getCarType);
+                yield rollupRepository.summarizeByCarType(from, to).stream()
+                        .map(view -> {
+                            ReservationRollup rollup =
+                                    toRollup(view, fleet.getOrDefault(view.getCarType(), 0L), periodDays);
+                            rollup.setCarType(view.getCarType());
+                            return rollup;
+                        })
+                        .toList();
+            }
+        };
+    }
+
+    private static <K> Map<K, Long> fleetSizes(List<FleetSizeView> views, Function<FleetSizeView, K> key) {
+        Map<K, Long> sizes = new HashMap<>();
+        for (FleetSizeView view : views) {
+            sizes.put(key.apply(view), view.getCars());
         }
+        return sizes;
+    }
+
+    private static ReservationRollup toRollup(ReservationRollupView view, long fleetSize, long periodDays) {
+        ReservationRollup rollup = new ReservationRollup();
+        rollup.setReservations(view.getReservations());
+        rollup.setCompletions(view.getCompletions());
+        rollup.setCancellations(view.getCancellations());
+        rollup.setBookedDays(view.getBookedDays());
+        rollup.setRevenue(view.getRevenue() == null ? BigDecimal.ZERO : view.getRevenue());
+        rollup.setAddOnRevenue(view.getAddOnRevenue() == null ? BigDecimal.ZERO : view.getAddOnRevenue());
+        rollup.setFleetSize(fleetSize);
+        rollup.setUtilization(fleetSize == 0 ? 0 : (double) rollup.getBookedDays() / (fleetSize * periodDays));
+        return rollup;
     }
 
-    private String formatReservationLine(ReservationSummary summary) {
+    private String formatReservationLine(ReservationExportRow row) {
         return String.join(" | ",
-                safeText(summary.getReservationNumber()),
-                safeText(summary.getStatus()),
-                safeText(summary.getStartDate()),
-                safeText(summary.getEndDate()),
-                safeText(summary.getTotalCost()),
-                safeText(summary.getMemberId()),
-                safeText(summary.getCarId()),
-                safeText(summary.getPickupLocationId()),
-                safeText(summary.getDropoffLocationId()));
+                safeText(row.getReservationNumber()),
+                safeText(row.getStatus()),
+                safeText(row.getStartDate()),
+                safeText(row.getEndDate()),
+                safeText(row.getTotalCost()),
+                safeText(row.getMemberId()),
+                safeText(row.getCarId()),
+                safeText(row.getPickupLocationId()),
+                safeText(row.getDropoffLocationId()));
     }
 
     private String escapeCsv(Object value) {
@@ -113,48 +238,4 @@ public class ReportingServiceImpl implements ReportingService {
     private String safeText(Object value) {
         return value == null ? "" : value.toString();
     }
-
-    private static class PdfWriter implements Closeable {
-
-        private final PDDocument document;
-        private PDPage page;
-        private PDPageContentStream contentStream;
-        private float y;
-
-        private PdfWriter(PDDocument document) throws IOException {
-            this.document = document;
-            startPage();
-        }
-
-        private void writeLine(String text, PDType1Font font, int fontSize) throws IOException {
-            if (y <= PAGE_MARGIN) {
-                startPage();
-            }
-            contentStream.beginText();
-            contentStream.setFont(font, fontSize);
-            contentStream.newLineAtOffset(PAGE_MARGIN, y);
-            contentStream.showText(text);
-            contentStream.endText();
-            y -= LINE_HEIGHT;
-        }
-
-        private void startPage() throws IOException {
-            closeContentStream();
-            page = new PDPage();
-            document.addPage(page);
-            contentStream = new PDPageContentStream(document, page);
-            y = START_Y;
-        }
-
-        private void closeContentStream() throws IOException {
-            if (contentStream != null) {
-                contentStream.close();
-            }
-        }
-
-        @Override
-        public void close() throws IOException {
-            closeContentStream();
-        }
-    }
 }
@@ -0,0 +1,90 @@
+package com.crms.app.service.impl;
+
+import com.crms.app.model.AdditionalService;
+import com.crms.app.model.Equipment;
+import com.crms.app.model.Reservation;
+import com.crms.app.model.listener.ReferenceCatalogVersions;
+import com.crms.app.model.listener.ReferenceCatalogVersions.Catalog;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ReservationBatchWriter {
+
+    private static final String INSERT_RESERVATION = """
+            insert into reservations (reservation_number, member_id, car_id, pickup_location_id,
+                dropoff_location_id, start_date, end_date, total_cost, car_type, add_on_cost, status, created_at)
+            values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+    private static final String INSERT_SERVICE =
+            "insert into reservation_services (reservation_id, service_id) values (?, ?)";
+    private static final String INSERT_EQUIPMENT =
+            "insert into reservation_equipments (reservation_id, equipment_id) values (?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ReferenceCatalogVersions versions;
+
+    public ReservationBatchWriter(JdbcTemplate jdbcTemplate, ReferenceCatalogVersions versions) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.versions = versions;
+    }
+
+    public void insert(List<Reservation> reservations) {
+        if (reservations.isEmpty()) {
+            return;
+        }
+        versions.changed(Catalog.RESERVATIONS);
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(INSERT_RESERVATION, new String[] {"id"})) {
+                for (Reservation reservation : reservations) {
+                    statement.setString(1, reservation.getReservationNumber());
+                    statement.setLong(2, reservation.getMember().getId());
+                    statement.setLong(3, reservation.getCar().getId());
+                    statement.setLong(4, reservation.getPickupLocation().getId());
+                    statement.setLong(5, reservation.getDropoffLocation().getId());
+                    statement.setDate(6, Date.valueOf(reservation.getStartDate()));
+                    statement.setDate(7, Date.valueOf(reservation.getEndDate()));
+                    statement.setBigDecimal(8, reservation.getTotalCost());
+                    statement.setString(9, reservation.getCarType());
+                    statement.setBigDecimal(10, reservation.getAddOnCost());
+                    statement.setString(11, reservation.getStatus().name());
+                    statement.setTimestamp(12, reservation.getCreatedAt() == null
+                            ? null : Timestamp.from(reservation.getCreatedAt()));
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+                try (ResultSet keys = statement.getGeneratedKeys()) {
+                    int index = 0;
+                    while (keys.next()) {
+                        reservations.get(index++).setId(keys.getLong(1));
+                    }
+                }
+            }
+            return null;
+        });
+
+        List<Object[]> serviceRows = new ArrayList<>();
+        List<Object[]> equipmentRows = new ArrayList<>();
+        for (Reservation reservation : reservations) {
+            for (AdditionalService service : reservation.getAdditionalServices()) {
+                serviceRows.add(new Object[] {reservation.getId(), service.getId()});
+            }
+            for (Equipment equipment : reservation.getEquipments()) {
+                equipmentRows.add(new Object[] {reservation.getId(), equipment.getId()});
+            }
+        }
+        if (!serviceRows.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_SERVICE, serviceRows);
+        }
+        if (!equipmentRows.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_EQUIPMENT, equipmentRows);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.crms.app.service.impl;
+
+import java.util.Arrays;
+
+/**
+ * Append-only column store of reservation rows for the fleet analytics scans. A single writer appends; readers
+ * work from a {@link View}, which captures the arrays and row count at the time it was taken and is unaffected
+ * by later appends (growing the store copies into new arrays and leaves the old ones to existing views).
+ */
+final class ReservationColumns {
+
+    static final int UNKNOWN_DAY = Integer.MIN_VALUE;
+
+    private long[] ids;
+    private int[] carIds;
+    private int[] startDays;
+    private int[] endDays;
+    private byte[] statuses;
+    private long[] costCents;
+    private int[] bookedDays;
+    private int size;
+
+    ReservationColumns(int capacity) {
+        int initial = Math.max(16, capacity);
+        ids = new long[initial];
+        carIds = new int[initial];
+        startDays = new int[initial];
+        endDays = new int[initial];
+        statuses = new byte[initial];
+        costCents = new long[initial];
+        bookedDays = new int[initial];
+    }
+
+    int size() {
+        return size;
+    }
+
+    int append(long id, int carId, int startDay, int endDay, byte status, long cents, int bookedDay) {
+        if (size == ids.length) {
+            grow();
+        }
+        int row = size;
+        ids[row] = id;
+        carIds[row] = carId;
+        startDays[row] = startDay;
+        endDays[row] = endDay;
+        statuses[row] = status;
+        costCents[row] = cents;
+        bookedDays[row] = bookedDay;
+        size++;
+        return row;
+    }
+
+    void copyRow(View source, int row) {
+        append(source.ids[row], source.carIds[row], source.startDays[row], source.endDays[row],
+                source.statuses[row], source.costCents[row], source.bookedDays[row]);
+    }
+
+    View view() {
+        return new View(ids, carIds, startDays, endDays, statuses, costCents, bookedDays, size);
+    }
+
+    private void grow() {
+        int capacity = ids.length + (ids.length >> 1);
+        ids = Arrays.copyOf(ids, capacity);
+        carIds = Arrays.copyOf(carIds, capacity);
+        startDays = Arrays.copyOf(startDays, capacity);
+        endDays = Arrays.copyOf(endDays, capacity);
+        statuses = Arrays.copyOf(statuses, capacity);
+        costCents = Arrays.copyOf(costCents, capacity);
+        bookedDays = Arrays.copyOf(bookedDays, capacity);
+    }
+
+    record View(long[] ids, int[] carIds, int[] startDays, int[] endDays, byte[] statuses, long[] costCents,
+                int[] bookedDays, int size) {
+
+        static final View EMPTY = new ReservationColumns(0).view();
+
+        /**
+         * Row holding {@code id}, or a negative value; only valid when rows were appended in id order.
+         */
+        int findSorted(long id) {
+            return Arrays.binarySearch(ids, 0, size, id);
+        }
+    }
+}
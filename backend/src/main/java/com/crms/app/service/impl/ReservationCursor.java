@@ -0,0 +1,61 @@
+package com.crms.app.service.impl;
+
+import com.crms.app.dto.ReservationPage;
+import com.crms.app.dto.ReservationSummary;
+import com.crms.app.exception.CrmsException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Base64;
+import java.util.List;
+import org.springframework.data.domain.Limit;
+
+record ReservationCursor(LocalDate startDate, Long id) {
+
+    static final int DEFAULT_PAGE_SIZE = 50;
+    static final int MAX_PAGE_SIZE = 200;
+
+    static ReservationCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = decoded.indexOf(':');
+            return new ReservationCursor(
+                    LocalDate.ofEpochDay(Long.parseLong(decoded.substring(0, separator))),
+                    Long.parseLong(decoded.substring(separator + 1)));
+        } catch (RuntimeException ex) {
+            throw new CrmsException("Invalid cursor.");
+        }
+    }
+
+    static Limit fetchLimit(Integer pageSize) {
+        return Limit.of(pageSize(pageSize) + 1);
+    }
+
+    static ReservationPage page(List<ReservationSummary> fetched, Integer pageSize) {
+        int size = pageSize(pageSize);
+        ReservationPage page = new ReservationPage();
+        if (fetched.size() > size) {
+            List<ReservationSummary> items = fetched.subList(0, size);
+            ReservationSummary last = items.get(size - 1);
+            page.setItems(items);
+            page.setNextCursor(encode(last.getStartDate(), last.getId()));
+        } else {
+            page.setItems(fetched);
+        }
+        return page;
+    }
+
+    private static int pageSize(Integer pageSize) {
+        if (pageSize == null || pageSize < 1) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        return Math.min(pageSize, MAX_PAGE_SIZE);
+    }
+
+    private static String encode(LocalDate startDate, Long id) {
+        String raw = startDate.toEpochDay() + ":" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -1,9 +1,15 @@
 package com.crms.app.service.impl;
 
+import com.crms.app.config.ServiceMetricsAspect;
+import com.crms.app.dto.BatchReservationItemResult;
+import com.crms.app.dto.BatchReservationMode;
+import com.crms.app.dto.BatchReservationRequest;
+import com.crms.app.dto.BatchReservationResponse;
 import com.crms.app.dto.ReservationQuoteResponse;
 import com.crms.app.dto.ReservationRequest;
 import com.crms.app.dto.ReservationSummary;
 import com.crms.app.exception.CarUnavailableException;
+import com.crms.app.exception.CrmsException;
 import com.crms.app.exception.ResourceNotFoundException;
 import com.crms.app.exception.ReservationConflictException;
 import com.crms.app.mapper.ReservationMapper;
@@ -16,20 +22,36 @@ import com.crms.app.model.Member;
 import com.crms.app.model.Reservation;
 import com.crms.app.model.ReservationStatus;
 import com.crms.app.repository.CarRepository;
-import com.crms.app.repository.EquipmentRepository;
-import com.crms.app.repository.LocationRepository;
+import com.crms.app.repository.MemberLicenseView;
 import com.crms.app.repository.MemberRepository;
+import com.crms.app.repository.ReservationIntervalView;
 import com.crms.app.repository.ReservationRepository;
-import com.crms.app.repository.ServiceRepository;
+import com.crms.app.service.CarAvailabilityIndex;
+import com.crms.app.service.CarSearchCache;
+import com.crms.app.service.CatalogSnapshot;
+import com.crms.app.service.FleetAnalyticsService;
+import com.crms.app.service.FleetAvailabilityService;
 import com.crms.app.service.ReservationManagementService;
 import com.crms.app.service.NotificationService;
+import com.crms.app.service.PricingEngine;
+import com.crms.app.service.ReferenceCatalogCache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.SQLException;
+import java.time.Instant;
 import java.time.LocalDate;
-import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.CollectionUtils;
@@ -39,44 +61,74 @@ import org.springframework.util.StringUtils;
 @Transactional
 public class ReservationManagementServiceImpl implements ReservationManagementService {
 
+    private static final String EXCLUSION_VIOLATION = "23P01";
+    private static final String BATCH_CREATED = "CREATED";
+    private static final String BATCH_REJECTED = "REJECTED";
+    private static final String BATCH_SKIPPED = "SKIPPED";
+
     private final ReservationRepository reservationRepository;
     private final CarRepository carRepository;
     private final MemberRepository memberRepository;
-    private final LocationRepository locationRepository;
-    private final ServiceRepository serviceRepository;
-    private final EquipmentRepository equipmentRepository;
+    private final ReferenceCatalogCache catalogCache;
+    private final PricingEngine pricingEngine;
     private final ReservationMapper reservationMapper;
     private final NotificationService notificationService;
+    private final CarAvailabilityIndex carAvailabilityIndex;
+    private final FleetAvailabilityService fleetAvailabilityService;
+    private final FleetAnalyticsService fleetAnalyticsService;
+    private final CarSearchCache searchCache;
+    private final ReservationBatchWriter reservationBatchWriter;
+    private final ReservationRollupWriter rollupWriter;
+    private final Counter batchConflicts;
 
     public ReservationManagementServiceImpl(ReservationRepository reservationRepository,
                                             CarRepository carRepository,
                                             MemberRepository memberRepository,
-                                            LocationRepository locationRepository,
-                                            ServiceRepository serviceRepository,
-                                            EquipmentRepository equipmentRepository,
+                                            ReferenceCatalogCache catalogCache,
+                                            PricingEngine pricingEngine,
                                             ReservationMapper reservationMapper,
-                                            NotificationService notificationService) {
+                                            NotificationService notificationService,
+                                            CarAvailabilityIndex carAvailabilityIndex,
+                                            FleetAvailabilityService fleetAvailabilityService,
+                                            FleetAnalyticsService fleetAnalyticsService,
+                                            CarSearchCache searchCache,
+                                            ReservationBatchWriter reservationBatchWriter,
+                                            ReservationRollupWriter rollupWriter,
+                                            MeterRegistry meterRegistry) {
         this.reservationRepository = reservationRepository;
         this.carRepository = carRepository;
         this.memberRepository = memberRepository;
-        this.locationRepository = locationRepository;
-        this.serviceRepository = serviceRepository;
-        this.equipmentRepository = equipmentRepository;
+        this.catalogCache = catalogCache;
+        this.pricingEngine = pricingEngine;
         this.reservationMapper = reservationMapper;
         this.notificationService = notificationService;
+        this.carAvailabilityIndex = carAvailabilityIndex;
+        this.fleetAvailabilityService = fleetAvailabilityService;
+        this.fleetAnalyticsService = fleetAnalyticsService;
+        this.searchCache = searchCache;
+        this.reservationBatchWriter = reservationBatchWriter;
+        this.rollupWriter = rollupWriter;
+        this.batchConflicts = ServiceMetricsAspect.bookingConflicts(meterRegistry, "createReservations.item");
     }
 
     @Override
+    @Transactional(readOnly = true)
     public ReservationQuoteResponse quoteReservation(ReservationRequest request) {
         validateDates(request.getStartDate(), request.getEndDate());
-        Member member = findMember(request.getMemberId());
-        ensureMemberHasLicense(member);
-        Car car = findCar(request.getCarId());
-        ensureCarAvailable(car, request.getStartDate(), request.getEndDate());
+        MemberLicenseView license = memberRepository.findLicenseById(request.getMemberId())
+                .orElseThrow(() -> new ResourceNotFoundException("Member not found: " + request.getMemberId()));
+        ensureLicenseValid(license.getDrivingLicenseNumber(), license.getDrivingLicenseExpiry());
+        CarStatus carStatus = carRepository.findStatusById(request.getCarId())
+                .orElseThrow(() -> new ResourceNotFoundException("Car not found: " + request.getCarId()));
+        ensureCarIndexedAvailable(request.getCarId(), carStatus, request.getStartDate(), request.getEndDate());
+        findLocation(request.getPickupLocationId());
+        findLocation(request.getDropoffLocationId());
 
-        Reservation reservation = buildReservation(request, member, car);
-        reservation.setTotalCost(calculateTotalCost(reservation));
-        return reservationMapper.toQuoteResponse(reservation);
+        List<Long> serviceIds = knownIds(catalogCache.services(), request.getAdditionalServiceIds());
+        List<Long> equipmentIds = knownIds(catalogCache.equipment(), request.getEquipmentIds());
+        BigDecimal totalCost = pricingEngine.quoteAmount(request.getCarId(), request.getStartDate(),
+                request.getEndDate(), serviceIds, equipmentIds);
+        return reservationMapper.toQuoteResponse(request, serviceIds, equipmentIds, totalCost);
     }
 
     @Override
@@ -84,28 +136,124 @@ public class ReservationManagementServiceImpl implements ReservationManagementSe
         validateDates(request.getStartDate(), request.getEndDate());
         Member member = findMember(request.getMemberId());
         ensureMemberHasLicense(member);
-        Car car = findCar(request.getCarId());
+        Car car = findCarForUpdate(request.getCarId());
         ensureCarAvailable(car, request.getStartDate(), request.getEndDate());
 
         Reservation reservation = buildReservation(request, member, car);
         reservation.setReservationNumber(UUID.randomUUID().toString());
-        reservation.setTotalCost(calculateTotalCost(reservation));
+        priceBooking(reservation, car);
 
-        Reservation saved = reservationRepository.save(reservation);
+        Reservation saved = saveBooking(reservation);
+        recordAvailability(saved);
         notificationService.sendReservationNotification(saved, "CREATED");
+        rollupWriter.recordCreated(saved);
         return reservationMapper.toSummary(saved);
     }
 
+    @Override
+    public BatchReservationResponse createReservations(BatchReservationRequest request) {
+        BatchReservationMode mode = request.getMode() == null ? BatchReservationMode.ALL_OR_NOTHING : request.getMode();
+        List<ReservationRequest> items = request.getItems();
+
+        Map<Long, Member> members = indexById(memberRepository.findAllById(
+                collectIds(items, ReservationRequest::getMemberId)), Member::getId);
+        Map<Long, Car> cars = indexById(carRepository.findAllByIdForUpdate(
+                collectIds(items, ReservationRequest::getCarId)), Car::getId);
+        Map<Long, Location> locations = catalogCache.locations().getEntities();
+        Map<Long, AdditionalService> services = catalogCache.services().getEntities();
+        Map<Long, Equipment> equipment = catalogCache.equipment().getEntities();
+        Map<Long, List<long[]>> bookedByCar = loadBookedIntervals(items, cars.keySet());
+
+        Reservation[] reservations = new Reservation[items.size()];
+        List<BatchReservationItemResult> results = new ArrayList<>(items.size());
+        int rejected = 0;
+        for (int index = 0; index < items.size(); index++) {
+            ReservationRequest item = items.get(index);
+            BatchReservationItemResult result = new BatchReservationItemResult();
+            result.setIndex(index);
+            try {
+                Reservation reservation = buildBatchReservation(item, members, cars, locations, services, equipment);
+                long startDay = item.getStartDate().toEpochDay();
+                long endDay = item.getEndDate().toEpochDay();
+                List<long[]> booked = bookedByCar.computeIfAbsent(item.getCarId(), key -> new ArrayList<>());
+                for (long[] interval : booked) {
+                    if (interval[0] <= endDay && interval[1] >= startDay) {
+                        throw new CarUnavailableException("Car is not available for the selected dates.");
+                    }
+                }
+                booked.add(new long[] {startDay, endDay});
+                reservations[index] = reservation;
+            } catch (CrmsException ex) {
+                if (ex instanceof CarUnavailableException) {
+                    batchConflicts.increment();
+                }
+                result.setStatus(BATCH_REJECTED);
+                result.setMessage(ex.getMessage());
+                rejected++;
+            }
+            results.add(result);
+        }
+
+        List<Reservation> accepted = new ArrayList<>();
+        for (Reservation reservation : reservations) {
+            if (reservation != null) {
+                accepted.add(reservation);
+            }
+        }
+        if (mode == BatchReservationMode.ALL_OR_NOTHING && rejected > 0) {
+            for (BatchReservationItemResult result : results) {
+                if (result.getStatus() == null) {
+                    result.setStatus(BATCH_SKIPPED);
+                    result.setMessage("Batch rejected because other items failed.");
+                }
+            }
+            accepted = List.of();
+        } else {
+            try {
+                reservationBatchWriter.insert(accepted);
+            } catch (DataIntegrityViolationException ex) {
+                if (isExclusionViolation(ex)) {
+                    throw new CarUnavailableException("Car is not available for the selected dates.");
+                }
+                throw ex;
+            }
+            for (int index = 0; index < reservations.length; index++) {
+                if (reservations[index] != null) {
+                    recordAvailability(reservations[index]);
+                    results.get(index).setStatus(BATCH_CREATED);
+                    results.get(index).setReservation(reservationMapper.toSummary(reservations[index]));
+                }
+            }
+            accepted.forEach(reservation -> notificationService.sendReservationNotification(reservation, "CREATED"));
+            rollupWriter.recordCreated(accepted);
+        }
+
+        BatchReservationResponse response = new BatchReservationResponse();
+        response.setMode(mode);
+        response.setRequestedCount(items.size());
+        response.setCreatedCount(accepted.size());
+        response.setRejectedCount(rejected);
+        response.setResults(results);
+        return response;
+    }
+
     @Override
     public ReservationSummary updateReservation(Long reservationId, ReservationRequest request) {
         validateDates(request.getStartDate(), request.getEndDate());
         Reservation reservation = findReservation(reservationId);
         ensureModifiable(reservation);
+        ReservationRollupWriter.Contribution before = rollupWriter.snapshot(reservation);
+        searchCache.evictReservation(reservation);
         Member member = findMember(request.getMemberId());
         ensureMemberHasLicense(member);
-        Car car = findCar(request.getCarId());
+        Car car = findCarForUpdate(request.getCarId());
 
-        boolean availabilityConflict = reservationRepository.existsOverlappingReservationExcludingId(
+        boolean availabilityConflict = !carAvailabilityIndex.isAvailableExcluding(
+                car.getId(),
+                reservation.getId(),
+                request.getStartDate(),
+                request.getEndDate())
+                || reservationRepository.existsOverlappingReservationExcludingId(
                 car.getId(),
                 reservation.getId(),
                 ReservationStatus.ACTIVE,
@@ -123,10 +271,12 @@ public class ReservationManagementServiceImpl implements ReservationManagementSe
         reservation.setEndDate(request.getEndDate());
         reservation.setAdditionalServices(resolveServices(request.getAdditionalServiceIds()));
         reservation.setEquipments(resolveEquipment(request.getEquipmentIds()));
-        reservation.setTotalCost(calculateTotalCost(reservation));
+        priceBooking(reservation, car);
 
-        Reservation saved = reservationRepository.save(reservation);
+        Reservation saved = saveBooking(reservation);
+        recordAvailability(saved);
         notificationService.sendReservationNotification(saved, "UPDATED");
+        rollupWriter.recordChange(before, saved);
         return reservationMapper.toSummary(saved);
     }
 
@@ -134,9 +284,12 @@ public class ReservationManagementServiceImpl implements ReservationManagementSe
     public ReservationSummary cancelReservation(Long reservationId) {
         Reservation reservation = findReservation(reservationId);
         ensureModifiable(reservation);
+        ReservationRollupWriter.Contribution before = rollupWriter.snapshot(reservation);
         reservation.setStatus(ReservationStatus.CANCELED);
         Reservation saved = reservationRepository.save(reservation);
+        recordAvailability(saved);
         notificationService.sendReservationNotification(saved, "CANCELED");
+        rollupWriter.recordChange(before, saved);
         return reservationMapper.toSummary(saved);
     }
 
@@ -144,8 +297,11 @@ public class ReservationManagementServiceImpl implements ReservationManagementSe
     public ReservationSummary completeReservation(Long reservationId) {
         Reservation reservation = findReservation(reservationId);
         ensureCompletable(reservation);
+        ReservationRollupWriter.Contribution before = rollupWriter.snapshot(reservation);
         reservation.setStatus(ReservationStatus.COMPLETED);
         Reservation saved = reservationRepository.save(reservation);
+        recordAvailability(saved);
+        rollupWriter.recordChange(before, saved);
         return reservationMapper.toSummary(saved);
     }
 
@@ -177,10 +333,14 @@ public class ReservationManagementServiceImpl implements ReservationManagementSe
         }
     }
 
-    private void ensureCarAvailable(Car car, LocalDate startDate, LocalDate endDate) {
-        if (car.getStatus() == CarStatus.UNAVAILABLE) {
+    private void ensureCarIndexedAvailable(Long carId, CarStatus status, LocalDate startDate, LocalDate endDate) {
+        if (status == CarStatus.UNAVAILABLE || !carAvailabilityIndex.isAvailable(carId, startDate, endDate)) {
             throw new CarUnavailableException("Car is not available for the selected dates.");
         }
+    }
+
+    private void ensureCarAvailable(Car car, LocalDate startDate, LocalDate endDate) {
+        ensureCarIndexedAvailable(car.getId(), car.getStatus(), startDate, endDate);
         boolean conflict = reservationRepository.existsOverlappingReservation(
                 car.getId(),
                 ReservationStatus.ACTIVE,
@@ -191,18 +351,142 @@ public class ReservationManagementServiceImpl implements ReservationManagementSe
         }
     }
 
+    private Reservation saveBooking(Reservation reservation) {
+        try {
+            return reservationRepository.saveAndFlush(reservation);
+        } catch (DataIntegrityViolationException ex) {
+            if (isExclusionViolation(ex)) {
+                throw new CarUnavailableException("Car is not available for the selected dates.");
+            }
+            throw ex;
+        }
+    }
+
+    private boolean isExclusionViolation(DataIntegrityViolationException ex) {
+        return ex.getMostSpecificCause() instanceof SQLException sqlException
+                && EXCLUSION_VIOLATION.equals(sqlException.getSQLState());
+    }
+
+    private Reservation buildBatchReservation(ReservationRequest item,
+                                              Map<Long, Member> members,
+                                              Map<Long, Car> cars,
+                                              Map<Long, Location> locations,
+                                              Map<Long, AdditionalService> services,
+                                              Map<Long, Equipment> equipment) {
+        validateDates(item.getStartDate(), item.getEndDate());
+        Member member = requireLoaded(members, item.getMemberId(), "Member");
+        ensureMemberHasLicense(member);
+        Car car = requireLoaded(cars, item.getCarId(), "Car");
+        if (car.getStatus() == CarStatus.UNAVAILABLE) {
+            throw new CarUnavailableException("Car is not available for the selected dates.");
+        }
+
+        Reservation reservation = new Reservation();
+        reservation.setReservationNumber(UUID.randomUUID().toString());
+        reservation.setMember(member);
+        reservation.setCar(car);
+        reservation.setPickupLocation(requireLoaded(locations, item.getPickupLocationId(), "Location"));
+        reservation.setDropoffLocation(requireLoaded(locations, item.getDropoffLocationId(), "Location"));
+        reservation.setStartDate(item.getStartDate());
+        reservation.setEndDate(item.getEndDate());
+        reservation.setAdditionalServices(pickLoaded(services, item.getAdditionalServiceIds()));
+        reservation.setEquipments(pickLoaded(equipment, item.getEquipmentIds()));
+        priceBooking(reservation, car);
+        reservation.setCreatedAt(Instant.now());
+        return reservation;
+    }
+
+    private Map<Long, List<long[]>> loadBookedIntervals(List<ReservationRequest> items, Set<Long> carIds) {
+        Map<Long, List<long[]>> bookedByCar = new HashMap<>();
+        LocalDate from = null;
+        LocalDate to = null;
+        for (ReservationRequest item : items) {
+            if (item.getStartDate() == null || item.getEndDate() == null) {
+                continue;
+            }
+            from = from == null || item.getStartDate().isBefore(from) ? item.getStartDate() : from;
+            to = to == null || item.getEndDate().isAfter(to) ? item.getEndDate() : to;
+        }
+        if (carIds.isEmpty() || from == null) {
+            return bookedByCar;
+        }
+        for (ReservationIntervalView view : reservationRepository.findIntervalsForCars(
+                carIds, ReservationStatus.ACTIVE, from, to)) {
+            bookedByCar.computeIfAbsent(view.getCarId(), key -> new ArrayList<>())
+                    .add(new long[] {view.getStartDate().toEpochDay(), view.getEndDate().toEpochDay()});
+        }
+        return bookedByCar;
+    }
+
+    private static <T> T requireLoaded(Map<Long, T> loaded, Long id, String label) {
+        T entity = loaded.get(id);
+        if (entity == null) {
+            throw new ResourceNotFoundException(label + " not found: " + id);
+        }
+        return entity;
+    }
+
+    private static <T> Set<T> pickLoaded(Map<Long, T> loaded, List<Long> ids) {
+        Set<T> picked = new HashSet<>();
+        if (!CollectionUtils.isEmpty(ids)) {
+            for (Long id : ids) {
+                T entity = loaded.get(id);
+                if (entity != null) {
+                    picked.add(entity);
+                }
+            }
+        }
+        return picked;
+    }
+
+    private static List<Long> knownIds(CatalogSnapshot<?, ?> catalog, List<Long> ids) {
+        if (CollectionUtils.isEmpty(ids)) {
+            return List.of();
+        }
+        return ids.stream()
+                .filter(id -> id != null && catalog.getEntities().containsKey(id))
+                .distinct()
+                .toList();
+    }
+
+    private static Set<Long> collectIds(List<ReservationRequest> items, Function<ReservationRequest, Long> getter) {
+        Set<Long> ids = new HashSet<>();
+        for (ReservationRequest item : items) {
+            Long id = getter.apply(item);
+            if (id != null) {
+                ids.add(id);
+            }
+        }
+        return ids;
+    }
+
+    private static <T> Map<Long, T> indexById(List<T> entities, Function<T, Long> idGetter) {
+        Map<Long, T> byId = new HashMap<>();
+        for (T entity : entities) {
+            byId.put(idGetter.apply(entity), entity);
+        }
+        return byId;
+    }
+
+    private void recordAvailability(Reservation reservation) {
+        carAvailabilityIndex.recordReservation(reservation);
+        fleetAvailabilityService.recordReservation(reservation);
+        fleetAnalyticsService.recordReservation(reservation);
+        searchCache.evictReservation(reservation);
+    }
+
     private Member findMember(Long memberId) {
         return memberRepository.findById(memberId)
                 .orElseThrow(() -> new ResourceNotFoundException("Member not found: " + memberId));
     }
 
-    private Car findCar(Long carId) {
-        return carRepository.findById(carId)
+    private Car findCarForUpdate(Long carId) {
+        return carRepository.findByIdForUpdate(carId)
                 .orElseThrow(() -> new ResourceNotFoundException("Car not found: " + carId));
     }
 
     private Location findLocation(Long locationId) {
-        return locationRepository.findById(locationId)
+        return catalogCache.locations().find(locationId)
                 .orElseThrow(() -> new ResourceNotFoundException("Location not found: " + locationId));
     }
 
@@ -210,20 +494,24 @@ public class ReservationManagementServiceImpl implements ReservationManagementSe
         if (CollectionUtils.isEmpty(serviceIds)) {
             return new HashSet<>();
         }
-        return new HashSet<>(serviceRepository.findAllById(serviceIds));
+        return new HashSet<>(catalogCache.services().findAll(serviceIds));
     }
 
     private Set<Equipment> resolveEquipment(List<Long> equipmentIds) {
         if (CollectionUtils.isEmpty(equipmentIds)) {
             return new HashSet<>();
         }
-        return new HashSet<>(equipmentRepository.findAllById(equipmentIds));
+        return new HashSet<>(catalogCache.equipment().findAll(equipmentIds));
     }
 
     private void ensureMemberHasLicense(Member member) {
-        if (!StringUtils.hasText(member.getDrivingLicenseNumber())
-                || member.getDrivingLicenseExpiry() == null
-                || member.getDrivingLicenseExpiry().isBefore(LocalDate.now())) {
+        ensureLicenseValid(member.getDrivingLicenseNumber(), member.getDrivingLicenseExpiry());
+    }
+
+    private void ensureLicenseValid(String licenseNumber, LocalDate licenseExpiry) {
+        if (!StringUtils.hasText(licenseNumber)
+                || licenseExpiry == null
+                || licenseExpiry.isBefore(LocalDate.now())) {
             throw new ReservationConflictException("Valid license required.");
         }
     }
@@ -243,26 +531,30 @@ public class ReservationManagementServiceImpl implements ReservationManagementSe
         reservation.setEndDate(request.getEndDate());
         reservation.setAdditionalServices(resolveServices(request.getAdditionalServiceIds()));
         reservation.setEquipments(resolveEquipment(request.getEquipmentIds()));
+        reservation.setCreatedAt(Instant.now());
         return reservation;
     }
 
-    private BigDecimal calculateTotalCost(Reservation reservation) {
-        long rentalDays = Math.max(1, ChronoUnit.DAYS.between(
-                reservation.getStartDate(),
-                reservation.getEndDate()));
-        BigDecimal days = BigDecimal.valueOf(rentalDays);
-        BigDecimal carCost = reservation.getCar().getDailyRate().multiply(days);
-        BigDecimal addOnCost = sumAddOnCosts(reservation).multiply(days);
-        return carCost.add(addOnCost);
-    }
-
-    private BigDecimal sumAddOnCosts(Reservation reservation) {
-        BigDecimal serviceCost = reservation.getAdditionalServices().stream()
-                .map(AdditionalService::getDailyPrice)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-        BigDecimal equipmentCost = reservation.getEquipments().stream()
-                .map(Equipment::getDailyPrice)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-        return serviceCost.add(equipmentCost);
+    /**
+     * Prices the booking from the locked car's own rate and the selected add-ons, and stores the car type
+     * and add-on charge it was made with so rollup adjustments on later changes subtract exactly what was
+     * added. The engine's cached rate table only serves quotes.
+     */
+    private static void priceBooking(Reservation reservation, Car car) {
+        long addOnDailyCents = 0;
+        for (AdditionalService service : reservation.getAdditionalServices()) {
+            addOnDailyCents += toCents(service.getDailyPrice());
+        }
+        for (Equipment equipment : reservation.getEquipments()) {
+            addOnDailyCents += toCents(equipment.getDailyPrice());
+        }
+        long days = PricingEngine.rentalDays(reservation.getStartDate(), reservation.getEndDate());
+        reservation.setTotalCost(PricingEngine.toAmount((toCents(car.getDailyRate()) + addOnDailyCents) * days));
+        reservation.setCarType(car.getCarType());
+        reservation.setAddOnCost(PricingEngine.toAmount(addOnDailyCents * days));
+    }
+
+    private static long toCents(BigDecimal amount) {
+        return amount.setScale(2, RoundingMode.HALF_UP).unscaledValue().longValueExact();
     }
 }
@@ -0,0 +1,38 @@
+package com.crms.app.service.impl;
+
+import com.crms.app.dto.ReservationPage;
+import com.crms.app.dto.ReservationSummary;
+import com.crms.app.mapper.ReservationMapper;
+import com.crms.app.repository.ReservationRepository;
+import com.crms.app.repository.ReservationSummaryView;
+import java.util.List;
+import org.springframework.stereotype.Component;
+
+/**
+ * Builds a keyset page from fetched summary rows, loading the add-on ids for the whole page in two queries.
+ */
+@Component
+public class ReservationPageAssembler {
+
+    private final ReservationRepository reservationRepository;
+    private final ReservationMapper reservationMapper;
+
+    public ReservationPageAssembler(ReservationRepository reservationRepository, ReservationMapper reservationMapper) {
+        this.reservationRepository = reservationRepository;
+        this.reservationMapper = reservationMapper;
+    }
+
+    public ReservationPage toPage(List<ReservationSummaryView> fetched, Integer limit) {
+        return ReservationCursor.page(toSummaries(fetched), limit);
+    }
+
+    private List<ReservationSummary> toSummaries(List<ReservationSummaryView> views) {
+        if (views.isEmpty()) {
+            return List.of();
+        }
+        List<Long> ids = views.stream().map(ReservationSummaryView::getId).toList();
+        return reservationMapper.toSummaries(views,
+                reservationRepository.findServiceIdsByReservationIds(ids),
+                reservationRepository.findEquipmentIdsByReservationIds(ids));
+    }
+}
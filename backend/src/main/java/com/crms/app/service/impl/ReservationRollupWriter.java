@@ -0,0 +1,238 @@
+package com.crms.app.service.impl;
+
+import com.crms.app.model.Reservation;
+import com.crms.app.model.ReservationStatus;
+import com.crms.app.service.PricingEngine;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Keeps {@code reservation_daily_rollups} in step with reservation changes. Callers take a snapshot of a
+ * reservation before changing it and record the change afterwards; only the difference is written, as one
+ * batch of upserts in key order so concurrent bookings lock shared rows in the same order.
+ */
+@Component
+public class ReservationRollupWriter {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReservationRollupWriter.class);
+
+    private static final int RESERVATIONS = 0;
+    private static final int COMPLETIONS = 1;
+    private static final int CANCELLATIONS = 2;
+    private static final int BOOKED_DAYS = 3;
+    private static final int REVENUE_CENTS = 4;
+    private static final int ADD_ON_CENTS = 5;
+    private static final int COLUMNS = 6;
+    private static final Comparator<Key> KEY_ORDER = Comparator.comparing(Key::day)
+            .thenComparingLong(Key::locationId)
+            .thenComparing(Key::carType);
+
+    private static final String UPSERT = """
+            insert into reservation_daily_rollups as r (day, location_id, car_type, reservations, completions,
+                cancellations, booked_days, revenue, add_on_revenue)
+            values (?, ?, ?, ?, ?, ?, ?, ?, ?)
+            on conflict (day, location_id, car_type) do update set
+                reservations = r.reservations + excluded.reservations,
+                completions = r.completions + excluded.completions,
+                cancellations = r.cancellations + excluded.cancellations,
+                booked_days = r.booked_days + excluded.booked_days,
+                revenue = r.revenue + excluded.revenue,
+                add_on_revenue = r.add_on_revenue + excluded.add_on_revenue
+            """;
+
+    private static final String REBUILD = """
+            insert into reservation_daily_rollups (day, location_id, car_type, reservations, completions,
+                cancellations, booked_days, revenue, add_on_revenue)
+            select day, location_id, car_type, sum(reservations), sum(completions), sum(cancellations),
+                   sum(booked_days), sum(revenue), sum(add_on_revenue)
+            from (
+                select r.start_date as day, r.pickup_location_id as location_id, r.car_type as car_type,
+                       1 as reservations,
+                       case when r.status = 'COMPLETED' then 1 else 0 end as completions,
+                       case when r.status = 'CANCELED' then 1 else 0 end as cancellations,
+                       0 as booked_days,
+                       case when r.status = 'CANCELED' then 0 else r.total_cost end as revenue,
+                       case when r.status = 'CANCELED' then 0 else coalesce(r.add_on_cost, 0) end as add_on_revenue
+                from reservations r
+                union all
+                select r.start_date + d.offset_days, r.pickup_location_id, r.car_type, 0, 0, 0, 1, 0, 0
+                from reservations r
+                cross join lateral generate_series(0, greatest(1, r.end_date - r.start_date) - 1)
+                    as d(offset_days)
+                where r.status <> 'CANCELED'
+            ) contributions
+            group by day, location_id, car_type
+            """;
+
+    // Reservations written before car_type and add_on_cost were stored take today's values once.
+    private static final String BACKFILL_BOOKING_TERMS = """
+            update reservations r set
+                car_type = coalesce(r.car_type, (select c.car_type from cars c where c.id = r.car_id)),
+                add_on_cost = coalesce(r.add_on_cost, greatest(1, r.end_date - r.start_date) * (
+                    coalesce((select sum(a.daily_price) from reservation_services rs
+                              join additional_services a on a.id = rs.service_id
+                              where rs.reservation_id = r.id), 0)
+                    + coalesce((select sum(q.daily_price) from reservation_equipments re
+                                join equipment q on q.id = re.equipment_id
+                                where re.reservation_id = r.id), 0)))
+            where r.car_type is null or r.add_on_cost is null
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public ReservationRollupWriter(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Backfills the rollups once for databases that held reservations before the table existed.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.execute("lock table reservation_daily_rollups in exclusive mode");
+            backfillBookingTerms();
+            Boolean empty = jdbcTemplate.queryForObject(
+                    "select not exists (select 1 from reservation_daily_rollups)", Boolean.class);
+            Boolean hasReservations = jdbcTemplate.queryForObject(
+                    "select exists (select 1 from reservations)", Boolean.class);
+            if (Boolean.TRUE.equals(empty) && Boolean.TRUE.equals(hasReservations)) {
+                logger.info("Reservation rollups empty, rebuilding from reservations");
+                rebuild();
+            }
+        });
+    }
+
+    public Contribution snapshot(Reservation reservation) {
+        Contribution contribution = new Contribution();
+        contribution.add(reservation, 1);
+        return contribution;
+    }
+
+    public void recordCreated(Reservation reservation) {
+        recordChange(new Contribution(), reservation);
+    }
+
+    public void recordCreated(List<Reservation> reservations) {
+        Contribution contribution = new Contribution();
+        reservations.forEach(reservation -> contribution.add(reservation, 1));
+        write(contribution);
+    }
+
+    public void recordChange(Contribution before, Reservation after) {
+        Contribution delta = new Contribution();
+        before.rows.forEach((key, values) -> delta.merge(key, values, -1));
+        delta.add(after, 1);
+        write(delta);
+    }
+
+    /**
+     * Recomputes every rollup row from the reservations table. Must run inside a transaction; concurrent
+     * bookings wait on the table lock and apply their change on top of the rebuilt rows.
+     */
+    public void rebuild() {
+        jdbcTemplate.execute("lock table reservation_daily_rollups in exclusive mode");
+        backfillBookingTerms();
+        jdbcTemplate.update("delete from reservation_daily_rollups");
+        int rows = jdbcTemplate.update(REBUILD);
+        logger.info("Reservation rollups rebuilt: rows={}", rows);
+    }
+
+    private void backfillBookingTerms() {
+        int updated = jdbcTemplate.update(BACKFILL_BOOKING_TERMS);
+        if (updated > 0) {
+            logger.info("Backfilled stored car type and add-on cost: reservations={}", updated);
+        }
+    }
+
+    private void write(Contribution contribution) {
+        List<Object[]> batch = new ArrayList<>(contribution.rows.size());
+        contribution.rows.forEach((key, values) -> {
+            if (isZero(values)) {
+                return;
+            }
+            batch.add(new Object[] {
+                    key.day(), key.locationId(), key.carType(),
+                    values[RESERVATIONS], values[COMPLETIONS], values[CANCELLATIONS], values[BOOKED_DAYS],
+                    PricingEngine.toAmount(values[REVENUE_CENTS]), PricingEngine.toAmount(values[ADD_ON_CENTS])
+            });
+        });
+        if (!batch.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPSERT, batch);
+        }
+    }
+
+    private static boolean isZero(long[] values) {
+        for (long value : values) {
+            if (value != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static long toCents(BigDecimal amount) {
+        return amount == null ? 0 : amount.movePointRight(2).longValueExact();
+    }
+
+    private record Key(LocalDate day, long locationId, String carType) {
+    }
+
+    /**
+     * The rollup rows one reservation contributes to, as counts and cent amounts per key.
+     */
+    public static final class Contribution {
+
+        private final Map<Key, long[]> rows = new TreeMap<>(KEY_ORDER);
+
+        private Contribution() {
+        }
+
+        private void add(Reservation reservation, int sign) {
+            LocalDate start = reservation.getStartDate();
+            long locationId = reservation.getPickupLocation().getId();
+            String carType = reservation.getCarType();
+            long[] pickup = row(new Key(start, locationId, carType));
+            pickup[RESERVATIONS] += sign;
+            if (reservation.getStatus() == ReservationStatus.COMPLETED) {
+                pickup[COMPLETIONS] += sign;
+            }
+            if (reservation.getStatus() == ReservationStatus.CANCELED) {
+                pickup[CANCELLATIONS] += sign;
+                return;
+            }
+            long days = PricingEngine.rentalDays(start, reservation.getEndDate());
+            pickup[REVENUE_CENTS] += sign * toCents(reservation.getTotalCost());
+            pickup[ADD_ON_CENTS] += sign * toCents(reservation.getAddOnCost());
+            for (long offset = 0; offset < days; offset++) {
+                row(new Key(start.plusDays(offset), locationId, carType))[BOOKED_DAYS] += sign;
+            }
+        }
+
+        private void merge(Key key, long[] values, int sign) {
+            long[] row = row(key);
+            for (int column = 0; column < COLUMNS; column++) {
+                row[column] += sign * values[column];
+            }
+        }
+
+        private long[] row(Key key) {
+            return rows.computeIfAbsent(key, ignored -> new long[COLUMNS]);
+        }
+    }
+}
@@ -12,6 +12,7 @@ import com.crms.app.model.AdditionalService;
 import com.crms.app.model.Equipment;
 import com.crms.app.repository.EquipmentRepository;
 import com.crms.app.repository.ServiceRepository;
+import com.crms.app.service.ReferenceCatalogCache;
 import com.crms.app.service.ServiceSelectionService;
 import java.util.List;
 import java.util.Locale;
@@ -27,23 +28,24 @@ public class ServiceSelectionServiceImpl implements ServiceSelectionService {
     private final EquipmentRepository equipmentRepository;
     private final AdditionalServiceMapper serviceMapper;
     private final EquipmentMapper equipmentMapper;
+    private final ReferenceCatalogCache catalogCache;
 
     public ServiceSelectionServiceImpl(ServiceRepository serviceRepository,
                                        EquipmentRepository equipmentRepository,
                                        AdditionalServiceMapper serviceMapper,
-                                       EquipmentMapper equipmentMapper) {
+                                       EquipmentMapper equipmentMapper,
+                                       ReferenceCatalogCache catalogCache) {
         this.serviceRepository = serviceRepository;
         this.equipmentRepository = equipmentRepository;
         this.serviceMapper = serviceMapper;
         this.equipmentMapper = equipmentMapper;
+        this.catalogCache = catalogCache;
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<AdditionalServiceResponse> listServices() {
-        return serviceRepository.findAll().stream()
-                .map(serviceMapper::toResponse)
-                .toList();
+        return catalogCache.services().getResponses();
     }
 
     @Override
@@ -86,9 +88,7 @@ public class ServiceSelectionServiceImpl implements ServiceSelectionService {
     @Override
     @Transactional(readOnly = true)
     public List<EquipmentResponse> listEquipment() {
-        return equipmentRepository.findAll().stream()
-                .map(equipmentMapper::toResponse)
-                .toList();
+        return catalogCache.equipment().getResponses();
     }
 
     @Override
@@ -0,0 +1,610 @@
+package com.crms.app.service.impl;
+
+import com.crms.app.config.DataGeneratorProperties;
+import com.crms.app.dto.DataGenerationReport;
+import com.crms.app.model.listener.ReferenceCatalogVersions;
+import com.crms.app.model.listener.ReferenceCatalogVersions.Catalog;
+import com.crms.app.service.CarAvailabilityIndex;
+import com.crms.app.service.CarSearchCache;
+import com.crms.app.service.FleetAnalyticsService;
+import com.crms.app.service.FleetAvailabilityService;
+import com.crms.app.service.SyntheticDataGenerator;
+import java.io.IOException;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.SplittableRandom;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Streams generated rows into PostgreSQL with {@code COPY ... FROM STDIN}; nothing but the car price and
+ * location arrays is held in memory. Every row is derived from {@code (seed, table, row index)}, and
+ * reservation join rows are produced by replaying the per-car reservation timelines, so the same settings
+ * always produce the same data set on top of whatever ids the database already holds.
+ */
+@Service
+public class SyntheticDataGeneratorImpl implements SyntheticDataGenerator {
+
+    private static final Logger logger = LoggerFactory.getLogger(SyntheticDataGeneratorImpl.class);
+
+    static final String MEMBER_PASSWORD = "Password123";
+
+    private static final long SALT_LOCATIONS = 1;
+    private static final long SALT_CARS = 2;
+    private static final long SALT_MEMBERS = 3;
+    private static final long SALT_RESERVATIONS = 4;
+
+    private static final int MIN_HISTORY_DAYS = 730;
+    private static final int DAYS_PER_RESERVATION = 7;
+    private static final int MAX_RENTAL_DAYS = 28;
+    private static final double MEAN_LEAD_DAYS = 14.0;
+    private static final long MAX_LEAD_DAYS = 365;
+    private static final int FLUSH_CHARS = 64 * 1024;
+
+    private static final String[] CITIES = {
+            "Istanbul", "Ankara", "Izmir", "Antalya", "Bursa", "Adana", "Konya", "Trabzon", "Eskisehir", "Kayseri",
+            "Gaziantep", "Mersin", "Samsun", "Denizli", "Mugla", "Diyarbakir", "Erzurum", "Van", "Canakkale", "Edirne"
+    };
+    private static final String[] BRANCH_KINDS = {"Airport", "Downtown", "Central", "Harbour", "Station"};
+    private static final String[] FIRST_NAMES = {
+            "Ahmet", "Ayse", "Mehmet", "Fatma", "Mustafa", "Emine", "Ali", "Zeynep", "Hasan", "Elif",
+            "Murat", "Merve", "Can", "Deniz", "Ece", "Burak", "Selin", "Emre", "Irem", "Kerem"
+    };
+    private static final String[] LAST_NAMES = {
+            "Yilmaz", "Kaya", "Demir", "Sahin", "Celik", "Yildiz", "Aydin", "Ozturk", "Arslan", "Dogan",
+            "Kilic", "Aslan", "Cetin", "Kara", "Koc", "Kurt", "Ozdemir", "Polat", "Erdogan", "Tekin"
+    };
+    private static final String[] FUELS = {"Petrol", "Diesel", "Hybrid", "Electric"};
+    // Ordered from economy to premium; cars are drawn with a bias towards the front of the list.
+    private static final CarModel[] CAR_MODELS = {
+            new CarModel("Fiat", "Egea", "Sedan", 5, 3500, 5000),
+            new CarModel("Renault", "Clio", "Hatchback", 5, 3500, 5000),
+            new CarModel("Toyota", "Corolla", "Sedan", 5, 4500, 6500),
+            new CarModel("Hyundai", "i20", "Hatchback", 5, 4000, 5500),
+            new CarModel("Peugeot", "3008", "SUV", 5, 7500, 10500),
+            new CarModel("Volkswagen", "Passat", "Sedan", 5, 7000, 9500),
+            new CarModel("Hyundai", "Tucson", "SUV", 5, 8000, 11000),
+            new CarModel("Ford", "Transit", "Van", 9, 10000, 14000),
+            new CarModel("Mercedes", "Vito", "Van", 8, 12000, 16000),
+            new CarModel("BMW", "320i", "Sedan", 5, 11000, 15000),
+            new CarModel("Tesla", "Model 3", "Sedan", 5, 13000, 17000)
+    };
+    private static final AddOn[] SERVICES = {
+            new AddOn("GPS Navigation", 1200, 0.22),
+            new AddOn("Child Seat", 900, 0.10),
+            new AddOn("Roadside Assistance", 1500, 0.18),
+            new AddOn("Full Insurance", 2500, 0.30),
+            new AddOn("Additional Driver", 1000, 0.12),
+            new AddOn("Toll Pass", 600, 0.08)
+    };
+    private static final AddOn[] EQUIPMENT = {
+            new AddOn("Snow Chains", 800, 0.04),
+            new AddOn("WiFi Hotspot", 1000, 0.09),
+            new AddOn("Roof Box", 1400, 0.03),
+            new AddOn("Bike Rack", 1100, 0.02)
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PasswordEncoder passwordEncoder;
+    private final ReferenceCatalogVersions catalogVersions;
+    private final CarAvailabilityIndex carAvailabilityIndex;
+    private final FleetAvailabilityService fleetAvailabilityService;
+    private final ReservationRollupWriter rollupWriter;
+    private final FleetAnalyticsService fleetAnalyticsService;
+    private final CarSearchCache searchCache;
+
+    public SyntheticDataGeneratorImpl(JdbcTemplate jdbcTemplate,
+                                      PasswordEncoder passwordEncoder,
+                                      ReferenceCatalogVersions catalogVersions,
+                                      CarAvailabilityIndex carAvailabilityIndex,
+                                      FleetAvailabilityService fleetAvailabilityService,
+                                      ReservationRollupWriter rollupWriter,
+                                      FleetAnalyticsService fleetAnalyticsService,
+                                      CarSearchCache searchCache) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.passwordEncoder = passwordEncoder;
+        this.catalogVersions = catalogVersions;
+        this.carAvailabilityIndex = carAvailabilityIndex;
+        this.fleetAvailabilityService = fleetAvailabilityService;
+        this.rollupWriter = rollupWriter;
+        this.fleetAnalyticsService = fleetAnalyticsService;
+        this.searchCache = searchCache;
+    }
+
+    @Override
+    @Transactional
+    public DataGenerationReport generate(DataGeneratorProperties settings) {
+        if (settings.getLocations() < 1 || settings.getCars() < 1 || settings.getMembers() < 1
+                || settings.getReservations() < 0 || settings.getHorizonDays() < 0) {
+            throw new IllegalArgumentException("Data generator needs at least one location, car and member");
+        }
+        long started = System.nanoTime();
+        jdbcTemplate.execute("lock table users, locations, cars, reservations in share row exclusive mode");
+
+        Plan plan = new Plan(settings,
+                nextId("locations"), nextId("cars"), nextId("users"), nextId("reservations"),
+                LocalDate.now().toEpochDay(),
+                loadAddOns("additional_services", SERVICES),
+                loadAddOns("equipment", EQUIPMENT));
+
+        DataGenerationReport report = new DataGenerationReport();
+        report.setSeed(settings.getSeed());
+        report.setLocations(copy("copy locations (id, code, name, address, phone) from stdin",
+                new LocationRows(plan)));
+        CarRows cars = new CarRows(plan);
+        report.setCars(copy("""
+                copy cars (id, make, model, model_year, barcode, license_plate, vin, car_type, mileage, seats,
+                    daily_rate, transmission, fuel_type, gps_included, child_seat, air_conditioning, status,
+                    description, location_id) from stdin
+                """, cars));
+        String passwordHash = passwordEncoder.encode(MEMBER_PASSWORD);
+        report.setMembers(copy("copy users (id, email, password, full_name, phone, address, role) from stdin",
+                new UserRows(plan, passwordHash)));
+        copy("copy members (id, driving_license_number, driving_license_expiry) from stdin", new MemberRows(plan));
+        report.setReservations(copy("""
+                copy reservations (id, reservation_number, member_id, car_id, pickup_location_id,
+                    dropoff_location_id, start_date, end_date, total_cost, car_type, add_on_cost, status,
+                    created_at) from stdin
+                """, new ReservationRows(plan, cars, RowKind.RESERVATION)));
+        report.setServiceLinks(copy("copy reservation_services (reservation_id, service_id) from stdin",
+                new ReservationRows(plan, cars, RowKind.SERVICE)));
+        report.setEquipmentLinks(copy("copy reservation_equipments (reservation_id, equipment_id) from stdin",
+                new ReservationRows(plan, cars, RowKind.EQUIPMENT)));
+
+        for (String table : List.of("locations", "cars", "users", "reservations")) {
+            jdbcTemplate.execute("select setval(pg_get_serial_sequence('" + table + "', 'id'), "
+                    + "(select max(id) from " + table + "))");
+        }
+        rollupWriter.rebuild();
+        jdbcTemplate.execute("analyze users, members, locations, cars, reservations, "
+                + "reservation_services, reservation_equipments, reservation_daily_rollups");
+
+        for (Catalog catalog : Catalog.values()) {
+            catalogVersions.changed(catalog);
+        }
+        AfterCommit.run(() -> {
+            carAvailabilityIndex.reload();
+            fleetAvailabilityService.reload();
+            fleetAnalyticsService.invalidate();
+            searchCache.clear();
+        });
+        report.setElapsedMillis((System.nanoTime() - started) / 1_000_000);
+        logger.info("Synthetic data generated: seed={}, locations={}, cars={}, members={}, reservations={}",
+                settings.getSeed(), report.getLocations(), report.getCars(), report.getMembers(),
+                report.getReservations());
+        return report;
+    }
+
+    private long nextId(String table) {
+        Long max = jdbcTemplate.queryForObject("select coalesce(max(id), 0) from " + table, Long.class);
+        return max == null ? 1 : max + 1;
+    }
+
+    private PricedAddOn[] loadAddOns(String table, AddOn[] addOns) {
+        PricedAddOn[] priced = new PricedAddOn[addOns.length];
+        for (int i = 0; i < addOns.length; i++) {
+            AddOn addOn = addOns[i];
+            jdbcTemplate.update("insert into " + table + " (name, daily_price) values (?, ?) "
+                    + "on conflict (name) do nothing", addOn.name(), BigDecimal.valueOf(addOn.cents(), 2));
+            priced[i] = jdbcTemplate.queryForObject("select id, daily_price from " + table + " where name = ?",
+                    (rs, rowNum) -> new PricedAddOn(rs.getLong(1),
+                            rs.getBigDecimal(2).movePointRight(2).longValueExact(), addOn.probability()),
+                    addOn.name());
+        }
+        return priced;
+    }
+
+    private long copy(String sql, Reader rows) {
+        Long count = jdbcTemplate.execute((ConnectionCallback<Long>) connection -> {
+            CopyManager copyManager = connection.unwrap(PGConnection.class).getCopyAPI();
+            try {
+                return copyManager.copyIn(sql, rows);
+            } catch (IOException ex) {
+                throw new IllegalStateException("Streaming generated rows failed", ex);
+            }
+        });
+        return count == null ? 0 : count;
+    }
+
+    static SplittableRandom random(long seed, long salt, long index) {
+        return new SplittableRandom(seed * 0x9E3779B97F4A7C15L + salt * 0xBF58476D1CE4E5B9L + index);
+    }
+
+    private static void appendCents(StringBuilder row, long cents) {
+        row.append(cents / 100).append('.');
+        long fraction = cents % 100;
+        if (fraction < 10) {
+            row.append('0');
+        }
+        row.append(fraction);
+    }
+
+    private record CarModel(String make, String model, String type, int seats, int minCents, int maxCents) {
+    }
+
+    private record AddOn(String name, long cents, double probability) {
+    }
+
+    private record PricedAddOn(long id, long cents, double probability) {
+    }
+
+    private enum RowKind {
+        RESERVATION,
+        SERVICE,
+        EQUIPMENT
+    }
+
+    private static final class Plan {
+
+        private final long seed;
+        private final int locations;
+        private final int cars;
+        private final int members;
+        private final long reservations;
+        private final long firstLocationId;
+        private final long firstCarId;
+        private final long firstMemberId;
+        private final long firstReservationId;
+        private final long today;
+        private final long timelineEnd;
+        private final PricedAddOn[] services;
+        private final PricedAddOn[] equipment;
+
+        private Plan(DataGeneratorProperties settings, long firstLocationId, long firstCarId, long firstMemberId,
+                     long firstReservationId, long today, PricedAddOn[] services, PricedAddOn[] equipment) {
+            this.seed = settings.getSeed();
+            this.locations = settings.getLocations();
+            this.cars = settings.getCars();
+            this.members = settings.getMembers();
+            this.reservations = settings.getReservations();
+            this.firstLocationId = firstLocationId;
+            this.firstCarId = firstCarId;
+            this.firstMemberId = firstMemberId;
+            this.firstReservationId = firstReservationId;
+            this.today = today;
+            this.timelineEnd = today + settings.getHorizonDays();
+            this.services = services;
+            this.equipment = equipment;
+        }
+    }
+
+    /**
+     * Feeds COPY text-format rows to the driver, generating them a buffer at a time.
+     */
+    private abstract static class CopyRows extends Reader {
+
+        private final StringBuilder buffer = new StringBuilder(FLUSH_CHARS + 1024);
+        private int position;
+        private boolean exhausted;
+
+        /**
+         * Appends the next row (terminated by a newline) and returns {@code true}, or returns {@code false}
+         * once all rows have been produced.
+         */
+        protected abstract boolean appendRow(StringBuilder row);
+
+        @Override
+        public int read(char[] target, int offset, int length) {
+            if (position == buffer.length()) {
+                buffer.setLength(0);
+                position = 0;
+                while (!exhausted && buffer.length() < FLUSH_CHARS) {
+                    exhausted = !appendRow(buffer);
+                }
+                if (buffer.length() == 0) {
+                    return -1;
+                }
+            }
+            int count = Math.min(length, buffer.length() - position);
+            buffer.getChars(position, position + count, target, offset);
+            position += count;
+            return count;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+    private static final class LocationRows extends CopyRows {
+
+        private final Plan plan;
+        private int index;
+
+        private LocationRows(Plan plan) {
+            this.plan = plan;
+        }
+
+        @Override
+        protected boolean appendRow(StringBuilder row) {
+            if (index == plan.locations) {
+                return false;
+            }
+            SplittableRandom random = random(plan.seed, SALT_LOCATIONS, index);
+            long id = plan.firstLocationId + index;
+            String city = CITIES[random.nextInt(CITIES.length)];
+            String kind = BRANCH_KINDS[random.nextInt(BRANCH_KINDS.length)];
+            row.append(id).append('\t')
+                    .append("GEN-").append(id).append('\t')
+                    .append(city).append(' ').append(kind).append(" Branch ").append(id).append('\t')
+                    .append(kind).append(" Street No:").append(1 + random.nextInt(200)).append(", ").append(city).append('\t')
+                    .append("+90 ").append(200 + random.nextInt(300)).append(' ').append(100 + random.nextInt(900))
+                    .append(' ').append(1000 + random.nextInt(9000)).append('\n');
+            index++;
+            return true;
+        }
+    }
+
+    /**
+     * Car rows; keeps each car's daily rate, type and location so reservations can be priced and placed.
+     */
+    private static final class CarRows extends CopyRows {
+
+        private final Plan plan;
+        private final long[] rateCents;
+        private final String[] carTypes;
+        private final int[] locationIndex;
+        private int index;
+
+        private CarRows(Plan plan) {
+            this.plan = plan;
+            this.rateCents = new long[plan.cars];
+            this.carTypes = new String[plan.cars];
+            this.locationIndex = new int[plan.cars];
+        }
+
+        @Override
+        protected boolean appendRow(StringBuilder row) {
+            if (index == plan.cars) {
+                return false;
+            }
+            SplittableRandom random = random(plan.seed, SALT_CARS, index);
+            long id = plan.firstCarId + index;
+            CarModel model = CAR_MODELS[(int) (CAR_MODELS.length * Math.pow(random.nextDouble(), 1.6))];
+            long rate = (model.minCents() + random.nextInt(model.maxCents() - model.minCents() + 1)) / 50 * 50;
+            // Busy branches (the low indexes) hold a larger share of the fleet.
+            int location = (int) (plan.locations * Math.pow(random.nextDouble(), 1.4));
+            int modelYear = LocalDate.ofEpochDay(plan.today).getYear() - random.nextInt(8);
+            int roll = random.nextInt(100);
+            String status = roll < 93 ? "AVAILABLE" : roll < 97 ? "MAINTENANCE" : "UNAVAILABLE";
+            String fuel = model.make().equals("Tesla") ? "Electric" : FUELS[random.nextInt(FUELS.length - 1)];
+            rateCents[index] = rate;
+            carTypes[index] = model.type();
+            locationIndex[index] = location;
+
+            row.append(id).append('\t')
+                    .append(model.make()).append('\t')
+                    .append(model.model()).append('\t')
+                    .append(modelYear).append('\t')
+                    .append("GEN-BC-").append(id).append('\t')
+                    .append("GEN-").append(id).append('\t')
+                    .append("GENVIN").append(String.format("%011d", id)).append('\t')
+                    .append(model.type()).append('\t')
+                    .append(random.nextInt(5_000, 180_000)).append('\t')
+                    .append(model.seats()).append('\t');
+            appendCents(row, rate);
+            row.append('\t')
+                    .append(random.nextInt(100) < 70 ? "Automatic" : "Manual").append('\t')
+                    .append(fuel).append('\t')
+                    .append(random.nextBoolean() ? 't' : 'f').append('\t')
+                    .append(random.nextInt(100) < 30 ? 't' : 'f').append('\t')
+                    .append(random.nextInt(100) < 95 ? 't' : 'f').append('\t')
+                    .append(status).append('\t')
+                    .append("Generated ").append(model.make()).append(' ').append(model.model()).append('\t')
+                    .append(plan.firstLocationId + location).append('\n');
+            index++;
+            return true;
+        }
+    }
+
+    private static final class UserRows extends CopyRows {
+
+        private final Plan plan;
+        private final String passwordHash;
+        private int index;
+
+        private UserRows(Plan plan, String passwordHash) {
+            this.plan = plan;
+            this.passwordHash = passwordHash;
+        }
+
+        @Override
+        protected boolean appendRow(StringBuilder row) {
+            if (index == plan.members) {
+                return false;
+            }
+            SplittableRandom random = random(plan.seed, SALT_MEMBERS, index);
+            long id = plan.firstMemberId + index;
+            row.append(id).append('\t')
+                    .append("member").append(id).append("@gen.crms.local").append('\t')
+                    .append(passwordHash).append('\t')
+                    .append(FIRST_NAMES[random.nextInt(FIRST_NAMES.length)]).append(' ')
+                    .append(LAST_NAMES[random.nextInt(LAST_NAMES.length)]).append('\t')
+                    .append("+90 5").append(10 + random.nextInt(60)).append(' ')
+                    .append(100 + random.nextInt(900)).append(' ').append(1000 + random.nextInt(9000)).append('\t')
+                    .append(CITIES[random.nextInt(CITIES.length)]).append('\t')
+                    .append("MEMBER").append('\n');
+            index++;
+            return true;
+        }
+    }
+
+    private static final class MemberRows extends CopyRows {
+
+        private final Plan plan;
+        private int index;
+
+        private MemberRows(Plan plan) {
+            this.plan = plan;
+        }
+
+        @Override
+        protected boolean appendRow(StringBuilder row) {
+            if (index == plan.members) {
+                return false;
+            }
+            SplittableRandom random = random(plan.seed, SALT_MEMBERS ^ 0x5A, index);
+            long id = plan.firstMemberId + index;
+            // Roughly one member in twenty carries an expired license.
+            long expiry = random.nextInt(100) < 5
+                    ? plan.today - 1 - random.nextInt(720)
+                    : plan.today + 30 + random.nextInt(3650);
+            row.append(id).append('\t')
+                    .append("DL-GEN-").append(id).append('\t')
+                    .append(LocalDate.ofEpochDay(expiry)).append('\n');
+            index++;
+            return true;
+        }
+    }
+
+    /**
+     * Walks every car's reservation timeline and emits either the reservations or one of their join tables.
+     * Each car's timeline is split into equal slots holding one non-overlapping reservation each, and all
+     * random draws are made regardless of {@link RowKind} so the three passes agree on every reservation.
+     */
+    private static final class ReservationRows extends CopyRows {
+
+        private final Plan plan;
+        private final CarRows cars;
+        private final RowKind kind;
+        private final long perCar;
+        private final long remainder;
+        private final long timelineStart;
+        private final double slotDays;
+        private final long[] linkIds = new long[Math.max(SERVICES.length, EQUIPMENT.length)];
+
+        private int carIndex = -1;
+        private long carReservations;
+        private long slot;
+        private SplittableRandom random;
+        private long reservationId;
+
+        private ReservationRows(Plan plan, CarRows cars, RowKind kind) {
+            this.plan = plan;
+            this.cars = cars;
+            this.kind = kind;
+            this.perCar = plan.reservations / plan.cars;
+            this.remainder = plan.reservations % plan.cars;
+            long slots = perCar + (remainder > 0 ? 1 : 0);
+            long timelineDays = Math.max(MIN_HISTORY_DAYS + plan.timelineEnd - plan.today,
+                    slots * DAYS_PER_RESERVATION);
+            this.timelineStart = plan.timelineEnd - timelineDays;
+            this.slotDays = slots == 0 ? 0 : (double) timelineDays / slots;
+            this.reservationId = plan.firstReservationId;
+        }
+
+        @Override
+        protected boolean appendRow(StringBuilder row) {
+            while (true) {
+                while (slot == carReservations) {
+                    if (++carIndex == plan.cars) {
+                        return false;
+                    }
+                    carReservations = perCar + (carIndex < remainder ? 1 : 0);
+                    slot = 0;
+                    random = random(plan.seed, SALT_RESERVATIONS, carIndex);
+                }
+                if (nextReservation(row)) {
+                    return true;
+                }
+            }
+        }
+
+        private boolean nextReservation(StringBuilder row) {
+            long slotStart = timelineStart + (long) (slot * slotDays);
+            long slotEnd = timelineStart + (long) ((slot + 1) * slotDays);
+            slot++;
+            long id = reservationId++;
+
+            // Rental lengths are roughly exponential, and a little longer through the summer season.
+            int month = LocalDate.ofEpochDay(slotStart).getMonthValue();
+            double meanDays = month >= 6 && month <= 8 ? 4.5 : 3.0;
+            long maxDays = Math.min(MAX_RENTAL_DAYS, slotEnd - slotStart - 1);
+            long days = Math.min(maxDays, 1 + (long) (-Math.log(1 - random.nextDouble()) * meanDays));
+            long startDay = slotStart + random.nextLong(slotEnd - slotStart - days);
+            long endDay = startDay + days;
+
+            // A small group of frequent renters accounts for a large share of the bookings.
+            long member = plan.firstMemberId + (long) (plan.members * Math.pow(random.nextDouble(), 2));
+            long pickup = plan.firstLocationId + cars.locationIndex[carIndex];
+            long dropoff = random.nextInt(100) < 88 ? pickup : plan.firstLocationId + random.nextInt(plan.locations);
+            int statusRoll = random.nextInt(100);
+            String status;
+            if (endDay < plan.today) {
+                status = statusRoll < 7 ? "CANCELED" : "COMPLETED";
+            } else if (startDay > plan.today) {
+                status = statusRoll < 10 ? "CANCELED" : "ACTIVE";
+            } else {
+                status = "ACTIVE";
+            }
+
+            long addOnCents = 0;
+            int services = 0;
+            for (PricedAddOn service : plan.services) {
+                if (random.nextDouble() < service.probability()) {
+                    addOnCents += service.cents();
+                    if (kind == RowKind.SERVICE) {
+                        linkIds[services++] = service.id();
+                    }
+                }
+            }
+            int equipment = 0;
+            for (PricedAddOn item : plan.equipment) {
+                if (random.nextDouble() < item.probability()) {
+                    addOnCents += item.cents();
+                    if (kind == RowKind.EQUIPMENT) {
+                        linkIds[equipment++] = item.id();
+                    }
+                }
+            }
+
+            // Most bookings are made a week or two ahead; none is made after pick-up or in the future.
+            long leadDays = Math.min(MAX_LEAD_DAYS, (long) (-Math.log(1 - random.nextDouble()) * MEAN_LEAD_DAYS));
+            long bookedDay = Math.min(startDay - leadDays, plan.today);
+            int bookedSecond = random.nextInt(86_400);
+
+            switch (kind) {
+                case RESERVATION -> {
+                    row.append(id).append('\t')
+                            .append("RES-GEN-").append(id).append('\t')
+                            .append(member).append('\t')
+                            .append(plan.firstCarId + carIndex).append('\t')
+                            .append(pickup).append('\t')
+                            .append(dropoff).append('\t')
+                            .append(LocalDate.ofEpochDay(startDay)).append('\t')
+                            .append(LocalDate.ofEpochDay(endDay)).append('\t');
+                    appendCents(row, (cars.rateCents[carIndex] + addOnCents) * Math.max(1, days));
+                    row.append('\t').append(cars.carTypes[carIndex]).append('\t');
+                    appendCents(row, addOnCents * Math.max(1, days));
+                    row.append('\t').append(status).append('\t')
+                            .append(Instant.ofEpochSecond(bookedDay * 86_400 + bookedSecond)).append('\n');
+                    return true;
+                }
+                case SERVICE -> {
+                    appendLinks(row, id, services);
+                    return services > 0;
+                }
+                default -> {
+                    appendLinks(row, id, equipment);
+                    return equipment > 0;
+                }
+            }
+        }
+
+        private void appendLinks(StringBuilder row, long reservationId, int count) {
+            for (int i = 0; i < count; i++) {
+                row.append(reservationId).append('\t').append(linkIds[i]).append('\n');
+            }
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.crms.app.service.impl;
+
+import com.crms.app.config.TokenProperties;
+import com.crms.app.dto.AuthenticatedUser;
+import com.crms.app.dto.LoginResponse;
+import com.crms.app.model.User;
+import com.crms.app.model.UserRole;
+import com.crms.app.service.TokenService;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Instant;
+import java.util.Base64;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+@Service
+public class TokenServiceImpl implements TokenService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TokenServiceImpl.class);
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+    private static final String VERSION = "v1";
+
+    private final TokenProperties properties;
+    private final SecretKeySpec key;
+
+    public TokenServiceImpl(TokenProperties properties) {
+        this.properties = properties;
+        byte[] secret;
+        if (StringUtils.hasText(properties.getSecret())) {
+            secret = properties.getSecret().getBytes(StandardCharsets.UTF_8);
+        } else {
+            secret = new byte[32];
+            new SecureRandom().nextBytes(secret);
+            logger.warn("crms.security.token.secret is not set; tokens are signed with a random key "
+                    + "and will not be accepted by other instances or after a restart.");
+        }
+        this.key = new SecretKeySpec(secret, HMAC_ALGORITHM);
+    }
+
+    @Override
+    public LoginResponse issueToken(User user) {
+        Instant expiresAt = Instant.now().plusSeconds(properties.getTtlSeconds());
+        String payload = String.join(":",
+                VERSION,
+                String.valueOf(user.getId()),
+                user.getRole().name(),
+                String.valueOf(expiresAt.getEpochSecond()),
+                user.getEmail());
+        String encodedPayload = encode(payload.getBytes(StandardCharsets.UTF_8));
+
+        LoginResponse response = new LoginResponse();
+        response.setToken(encodedPayload + "." + encode(sign(encodedPayload)));
+        response.setTokenType("Bearer");
+        response.setExpiresAt(expiresAt);
+        response.setUserId(user.getId());
+        response.setRole(user.getRole().name());
+        return response;
+    }
+
+    @Override
+    public AuthenticatedUser verify(String token) {
+        if (!StringUtils.hasText(token)) {
+            return null;
+        }
+        int separator = token.indexOf('.');
+        if (separator <= 0 || separator == token.length() - 1) {
+            return null;
+        }
+        String encodedPayload = token.substring(0, separator);
+        try {
+            byte[] signature = Base64.getUrlDecoder().decode(token.substring(separator + 1));
+            if (!MessageDigest.isEqual(signature, sign(encodedPayload))) {
+                return null;
+            }
+            String[] claims = new String(Base64.getUrlDecoder().decode(encodedPayload), StandardCharsets.UTF_8)
+                    .split(":", 5);
+            if (claims.length != 5 || !VERSION.equals(claims[0])) {
+                return null;
+            }
+            if (Long.parseLong(claims[3]) <= Instant.now().getEpochSecond()) {
+                return null;
+            }
+            AuthenticatedUser user = new AuthenticatedUser();
+            user.setId(Long.parseLong(claims[1]));
+            user.setRole(UserRole.valueOf(claims[2]));
+            user.setEmail(claims[4]);
+            return user;
+        } catch (IllegalArgumentException ex) {
+            return null;
+        }
+    }
+
+    private byte[] sign(String encodedPayload) {
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(key);
+            return mac.doFinal(encodedPayload.getBytes(StandardCharsets.US_ASCII));
+        } catch (GeneralSecurityException ex) {
+            throw new IllegalStateException("Failed to sign authentication token.", ex);
+        }
+    }
+
+    private static String encode(byte[] value) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value);
+    }
+}
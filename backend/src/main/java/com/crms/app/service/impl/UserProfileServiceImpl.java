@@ -1,6 +1,7 @@
 package com.crms.app.service.impl;
 
 import com.crms.app.dto.AuthProfileResponse;
+import com.crms.app.dto.AuthenticatedUser;
 import com.crms.app.dto.MemberProfileUpdateRequest;
 import com.crms.app.exception.CrmsException;
 import com.crms.app.exception.ResourceNotFoundException;
@@ -9,6 +10,7 @@ import com.crms.app.model.User;
 import com.crms.app.model.UserRole;
 import com.crms.app.repository.MemberRepository;
 import com.crms.app.repository.UserRepository;
+import com.crms.app.service.AuthenticationCache;
 import com.crms.app.service.UserProfileService;
 import java.util.Locale;
 import java.util.regex.Pattern;
@@ -28,11 +30,14 @@ public class UserProfileServiceImpl implements UserProfileService {
 
     private final MemberRepository memberRepository;
     private final UserRepository userRepository;
+    private final AuthenticationCache authenticationCache;
 
     public UserProfileServiceImpl(MemberRepository memberRepository,
-                                  UserRepository userRepository) {
+                                  UserRepository userRepository,
+                                  AuthenticationCache authenticationCache) {
         this.memberRepository = memberRepository;
         this.userRepository = userRepository;
+        this.authenticationCache = authenticationCache;
     }
 
     @Override
@@ -45,14 +50,11 @@ public class UserProfileServiceImpl implements UserProfileService {
         response.setPhone(user.getPhone());
         response.setAddress(user.getAddress());
         response.setRole(user.getRole().name());
-        if (user.getRole() == UserRole.MEMBER) {
-            memberRepository.findByEmail(normalizeEmail(user.getEmail()))
-                    .ifPresent(member -> {
-                        response.setDrivingLicenseNumber(member.getDrivingLicenseNumber());
-                        if (member.getDrivingLicenseExpiry() != null) {
-                            response.setDrivingLicenseExpiry(member.getDrivingLicenseExpiry().toString());
-                        }
-                    });
+        if (user.getRole() == UserRole.MEMBER && user instanceof Member member) {
+            response.setDrivingLicenseNumber(member.getDrivingLicenseNumber());
+            if (member.getDrivingLicenseExpiry() != null) {
+                response.setDrivingLicenseExpiry(member.getDrivingLicenseExpiry().toString());
+            }
         }
         return response;
     }
@@ -73,6 +75,8 @@ public class UserProfileServiceImpl implements UserProfileService {
         member.setDrivingLicenseNumber(normalizeLicense(request.getDrivingLicenseNumber()));
         member.setDrivingLicenseExpiry(request.getDrivingLicenseExpiry());
         memberRepository.save(member);
+        String email = member.getEmail();
+        AfterCommit.run(() -> authenticationCache.evict(email));
     }
 
     private void validateMandatoryFields(MemberProfileUpdateRequest request) {
@@ -101,6 +105,9 @@ public class UserProfileServiceImpl implements UserProfileService {
 
     private Member resolveCurrentMember() {
         User user = resolveCurrentUser();
+        if (user instanceof Member member) {
+            return member;
+        }
         return memberRepository.findByEmail(normalizeEmail(user.getEmail()))
                 .orElseThrow(() -> new ResourceNotFoundException("Member not found for email: " + user.getEmail()));
     }
@@ -110,6 +117,10 @@ public class UserProfileServiceImpl implements UserProfileService {
         if (authentication == null || !authentication.isAuthenticated()) {
             throw new CrmsException("Authenticated member is required to update profile.");
         }
+        if (authentication.getPrincipal() instanceof AuthenticatedUser tokenUser) {
+            return userRepository.findById(tokenUser.getId())
+                    .orElseThrow(() -> new ResourceNotFoundException("User not found: " + tokenUser.getId()));
+        }
         String email = extractEmail(authentication.getPrincipal());
         if (!StringUtils.hasText(email)) {
             throw new CrmsException("Authenticated member email is missing.");
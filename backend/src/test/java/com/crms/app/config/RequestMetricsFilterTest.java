@@ -0,0 +1,74 @@
+package com.crms.app.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+class RequestMetricsFilterTest {
+
+    private final QueryCountInspector inspector = new QueryCountInspector();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final QueryBudgetProperties budget = new QueryBudgetProperties();
+
+    @Test
+    void shouldRecordStatementsPerRoute() throws Exception {
+        RequestMetricsFilter filter = new RequestMetricsFilter(inspector, budget, meterRegistry);
+
+        filter.doFilter(request(), new MockHttpServletResponse(), chainRunning("select * from cars where id=?", 3));
+
+        assertThat(meterRegistry.get(RequestMetricsFilter.REQUEST_QUERIES)
+                .tag("uri", "/api/cars/{id}").summary().totalAmount()).isEqualTo(3);
+        assertThat(meterRegistry.find(RequestMetricsFilter.BUDGET_VIOLATIONS).counter()).isNull();
+    }
+
+    @Test
+    void shouldFailRequestsThatRepeatTheSameStatementBeyondTheLimit() {
+        budget.setMaxRepetitions(2);
+        budget.setAction(QueryBudgetProperties.Action.FAIL);
+        RequestMetricsFilter filter = new RequestMetricsFilter(inspector, budget, meterRegistry);
+
+        assertThatThrownBy(() -> filter.doFilter(request(), new MockHttpServletResponse(),
+                chainRunning("select * from locations where id=?", 3)))
+                .isInstanceOf(QueryBudgetExceededException.class)
+                .hasMessageContaining("GET /api/cars/{id}")
+                .hasMessageContaining("select * from locations where id=?");
+        assertThat(meterRegistry.get(RequestMetricsFilter.BUDGET_VIOLATIONS)
+                .tag("kind", "repeated").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldApplyPerEndpointBudgetsAndOnlyLogInLogMode() throws Exception {
+        budget.getEndpoints().put("/api/cars/{id}", 1);
+        RequestMetricsFilter filter = new RequestMetricsFilter(inspector, budget, meterRegistry);
+
+        filter.doFilter(request(), new MockHttpServletResponse(), chainRunning("select 1", 2));
+
+        assertThat(meterRegistry.get(RequestMetricsFilter.BUDGET_VIOLATIONS)
+                .tag("kind", "total").counter().count()).isEqualTo(1);
+    }
+
+    private static MockHttpServletRequest request() {
+        return new MockHttpServletRequest("GET", "/api/cars/7");
+    }
+
+    private MockFilterChain chainRunning(String sql, int times) {
+        return new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest request, HttpServletResponse response) {
+                request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/cars/{id}");
+                for (int i = 0; i < times; i++) {
+                    inspector.inspect(sql);
+                }
+            }
+        });
+    }
+}
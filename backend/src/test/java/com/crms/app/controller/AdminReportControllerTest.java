@@ -0,0 +1,150 @@
+package com.crms.app.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.startsWith;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.httpBasic;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.crms.app.dto.ReportJobState;
+import com.crms.app.dto.ReservationRequest;
+import com.crms.app.model.Location;
+import com.crms.app.model.Member;
+import com.crms.app.service.ReservationManagementService;
+import com.crms.app.support.IntegrationTestSupport;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.LocalDate;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+@AutoConfigureMockMvc
+class AdminReportControllerTest extends IntegrationTestSupport {
+
+    private static final String ADMIN_EMAIL = "reports-admin@crms.local";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ReservationManagementService reservationManagementService;
+
+    @Test
+    void shouldRunReportJobInBackgroundAndServeTheFile() throws Exception {
+        createAdmin(ADMIN_EMAIL, "AdminPass123");
+
+        String jobId = submit("CSV", "ACTIVE");
+        assertThat(submit("CSV", "ACTIVE")).isEqualTo(jobId);
+        assertThat(submit("PDF", "ACTIVE")).isNotEqualTo(jobId);
+
+        JsonNode job = awaitCompletion(jobId);
+        assertThat(job.get("format").asText()).isEqualTo("CSV");
+        assertThat(job.get("status").asText()).isEqualTo("ACTIVE");
+        assertThat(job.get("progressPercent").asInt()).isEqualTo(100);
+        assertThat(job.get("completedAt").isNull()).isFalse();
+
+        mockMvc.perform(get("/api/admin/reports/{id}/download", jobId)
+                        .with(httpBasic(ADMIN_EMAIL, "AdminPass123")))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"reservations.csv\""))
+                .andExpect(content().string(startsWith("reservationNumber,status,startDate")));
+    }
+
+    @Test
+    void shouldStartANewJobOnceReservationsChange() throws Exception {
+        createAdmin(ADMIN_EMAIL, "AdminPass123");
+        String before = submit("CSV", null);
+
+        Location location = createLocation("LOC-REPORT");
+        Member member = createMember("reports-member@crms.local", "Password123");
+        var car = createCar(location, "BC-REPORT", "34REP01");
+        ReservationRequest request = new ReservationRequest();
+        request.setMemberId(member.getId());
+        request.setCarId(car.getId());
+        request.setPickupLocationId(location.getId());
+        request.setDropoffLocationId(location.getId());
+        request.setStartDate(LocalDate.now().plusDays(3));
+        request.setEndDate(LocalDate.now().plusDays(4));
+        reservationManagementService.createReservation(request);
+
+        assertThat(submit("CSV", null)).isNotEqualTo(before);
+    }
+
+    @Test
+    void shouldRejectInvalidAndUnknownJobs() throws Exception {
+        createAdmin(ADMIN_EMAIL, "AdminPass123");
+
+        mockMvc.perform(post("/api/admin/reports")
+                        .with(httpBasic(ADMIN_EMAIL, "AdminPass123"))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{}"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/admin/reports/{id}", "missing")
+                        .with(httpBasic(ADMIN_EMAIL, "AdminPass123")))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(get("/api/admin/reports/{id}/download", "missing")
+                        .with(httpBasic(ADMIN_EMAIL, "AdminPass123")))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void shouldServeRollupsForADateRange() throws Exception {
+        createAdmin(ADMIN_EMAIL, "AdminPass123");
+        LocalDate from = LocalDate.now();
+
+        mockMvc.perform(get("/api/admin/reports/rollups")
+                        .with(httpBasic(ADMIN_EMAIL, "AdminPass123"))
+                        .param("from", from.toString())
+                        .param("to", from.plusDays(30).toString())
+                        .param("groupBy", "LOCATION"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$").isArray());
+        mockMvc.perform(get("/api/admin/reports/rollups")
+                        .with(httpBasic(ADMIN_EMAIL, "AdminPass123"))
+                        .param("from", from.toString())
+                        .param("to", from.minusDays(1).toString()))
+                .andExpect(status().isBadRequest());
+    }
+
+    private String submit(String format, String status) throws Exception {
+        String body = status == null
+                ? "{\"format\":\"" + format + "\"}"
+                : "{\"format\":\"" + format + "\",\"status\":\"" + status + "\"}";
+        String response = mockMvc.perform(post("/api/admin/reports")
+                        .with(httpBasic(ADMIN_EMAIL, "AdminPass123"))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.id").exists())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(response).get("id").asText();
+    }
+
+    private JsonNode awaitCompletion(String jobId) throws Exception {
+        long deadline = System.currentTimeMillis() + 30_000;
+        while (true) {
+            String response = mockMvc.perform(get("/api/admin/reports/{id}", jobId)
+                            .with(httpBasic(ADMIN_EMAIL, "AdminPass123")))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsString();
+            JsonNode job = objectMapper.readTree(response);
+            String state = job.get("state").asText();
+            if (!state.equals(ReportJobState.QUEUED.name()) && !state.equals(ReportJobState.RUNNING.name())) {
+                assertThat(state).isEqualTo(ReportJobState.COMPLETED.name());
+                return job;
+            }
+            assertThat(System.currentTimeMillis()).as("report job finished in time").isLessThan(deadline);
+            Thread.sleep(50);
+        }
+    }
+}
@@ -1,36 +1,83 @@
 package com.crms.app.controller;
 
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.httpBasic;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.startsWith;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.crms.app.dto.ReservationRequest;
+import com.crms.app.dto.ReservationSummary;
+import com.crms.app.model.Car;
 import com.crms.app.model.Location;
 import com.crms.app.model.Member;
+import com.crms.app.model.User;
+import com.crms.app.repository.NotificationOutboxRepository;
 import com.crms.app.support.IntegrationTestSupport;
 import java.time.LocalDate;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
+// Not transactional: the CSV export streams on an async thread, which only sees committed rows.
 @AutoConfigureMockMvc
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
 class AdminReservationControllerTest extends IntegrationTestSupport {
 
+    private static final String ADMIN_EMAIL = "export-admin@crms.local";
+
     @Autowired
     private MockMvc mockMvc;
 
     @Autowired
     private com.crms.app.service.ReservationManagementService reservationManagementService;
 
+    @Autowired
+    private NotificationOutboxRepository notificationOutboxRepository;
+
+    private User admin;
+    private Location location;
+    private Member member;
+    private Car car;
+
+    @AfterEach
+    void cleanUp() {
+        if (car != null) {
+            reservationRepository.deleteAll(reservationRepository.findAll().stream()
+                    .filter(reservation -> reservation.getCar().getId().equals(car.getId()))
+                    .toList());
+            carRepository.delete(car);
+        }
+        if (member != null) {
+            notificationOutboxRepository.deleteAll(notificationOutboxRepository.findAll().stream()
+                    .filter(entry -> entry.getRecipientEmail().equals(member.getEmail()))
+                    .toList());
+            memberRepository.delete(member);
+        }
+        if (location != null) {
+            locationRepository.delete(location);
+        }
+        if (admin != null) {
+            userRepository.delete(admin);
+        }
+    }
+
     @Test
     void shouldListAndExportReservations() throws Exception {
-        createAdmin("admin@crms.local", "AdminPass123");
+        admin = createAdmin(ADMIN_EMAIL, "AdminPass123");
 
-        Location location = createLocation("LOC1");
-        Member member = createMember("member@crms.local", "Password123");
-        var car = createCar(location, "BC-400", "34ABC04");
+        location = createLocation("LOC-EXPORT");
+        member = createMember("export-member@crms.local", "Password123");
+        car = createCar(location, "BC-EXPORT", "34EXP01");
 
         ReservationRequest request = new ReservationRequest();
         request.setMemberId(member.getId());
@@ -40,19 +87,25 @@ class AdminReservationControllerTest extends IntegrationTestSupport {
         request.setStartDate(LocalDate.now().plusDays(3));
         request.setEndDate(LocalDate.now().plusDays(4));
 
-        reservationManagementService.createReservation(request);
+        ReservationSummary created = reservationManagementService.createReservation(request);
 
         mockMvc.perform(get("/api/admin/reservations")
-                        .with(httpBasic("admin@crms.local", "AdminPass123"))
+                        .with(httpBasic(ADMIN_EMAIL, "AdminPass123"))
                         .accept(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk());
 
-        mockMvc.perform(get("/api/admin/reservations/export/csv")
-                        .with(httpBasic("admin@crms.local", "AdminPass123")))
-                .andExpect(status().isOk());
+        MvcResult csvResult = mockMvc.perform(get("/api/admin/reservations/export/csv")
+                        .with(httpBasic(ADMIN_EMAIL, "AdminPass123")))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(csvResult))
+                .andExpect(status().isOk())
+                .andExpect(content().string(startsWith("reservationNumber,status,startDate")))
+                .andExpect(content().string(containsString(created.getReservationNumber() + ",ACTIVE,"
+                        + request.getStartDate() + "," + request.getEndDate() + ",")));
 
         mockMvc.perform(get("/api/admin/reservations/export/pdf")
-                        .with(httpBasic("admin@crms.local", "AdminPass123")))
+                        .with(httpBasic(ADMIN_EMAIL, "AdminPass123")))
                 .andExpect(status().isOk());
     }
 }
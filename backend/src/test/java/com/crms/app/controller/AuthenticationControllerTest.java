@@ -1,16 +1,20 @@
 package com.crms.app.controller;
 
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.crms.app.dto.LoginRequest;
 import com.crms.app.dto.UserRegistrationRequest;
 import com.crms.app.support.IntegrationTestSupport;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
@@ -63,4 +67,35 @@ class AuthenticationControllerTest extends IntegrationTestSupport {
                         .content(objectMapper.writeValueAsString(login)))
                 .andExpect(status().isUnauthorized());
     }
+
+    @Test
+    void shouldAuthorizeProfileRequestsWithIssuedBearerToken() throws Exception {
+        createMember("member3@crms.local", "Password123");
+
+        LoginRequest login = new LoginRequest();
+        login.setEmail("member3@crms.local");
+        login.setPassword("Password123");
+
+        String body = mockMvc.perform(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(login)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.tokenType").value("Bearer"))
+                .andExpect(jsonPath("$.role").value("MEMBER"))
+                .andReturn().getResponse().getContentAsString();
+        JsonNode response = objectMapper.readTree(body);
+        String token = response.get("token").asText();
+
+        mockMvc.perform(get("/api/auth/profile")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(response.get("userId").asLong()))
+                .andExpect(jsonPath("$.email").value("member3@crms.local"));
+
+        String tampered = token.substring(0, token.length() - 2)
+                + (token.endsWith("AA") ? "BB" : "AA");
+        mockMvc.perform(get("/api/auth/profile")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + tampered))
+                .andExpect(status().isUnauthorized());
+    }
 }
@@ -0,0 +1,99 @@
+package com.crms.app.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.not;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.httpBasic;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.crms.app.dto.AdditionalServiceRequest;
+import com.crms.app.model.Location;
+import com.crms.app.model.User;
+import com.crms.app.service.ReferenceCatalogCache;
+import com.crms.app.support.IntegrationTestSupport;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.math.BigDecimal;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+@AutoConfigureMockMvc
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class CatalogEtagControllerTest extends IntegrationTestSupport {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ReferenceCatalogCache catalogCache;
+
+    private Location location;
+    private User admin;
+    private Long serviceId;
+
+    @AfterEach
+    void cleanUp() {
+        if (serviceId != null) {
+            serviceRepository.deleteById(serviceId);
+        }
+        if (admin != null) {
+            userRepository.delete(admin);
+        }
+        if (location != null) {
+            locationRepository.delete(location);
+        }
+    }
+
+    @Test
+    void shouldServeCachedLocationsAndHonourIfNoneMatch() throws Exception {
+        location = createLocation("LOC-ETAG");
+
+        String etag = mockMvc.perform(get("/api/locations"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(catalogCache.locations()).isSameAs(catalogCache.locations());
+        assertThat(catalogCache.locations().find(location.getId())).isPresent();
+
+        mockMvc.perform(get("/api/locations").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    void shouldInvalidateServiceCatalogWhenAdminCreatesService() throws Exception {
+        admin = createAdmin("etag-admin@crms.local", "AdminPass123");
+        String etag = mockMvc.perform(get("/api/services"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        AdditionalServiceRequest request = new AdditionalServiceRequest();
+        request.setName("ETag insurance");
+        request.setDailyPrice(BigDecimal.valueOf(15));
+        String created = mockMvc.perform(post("/api/admin/services")
+                        .with(httpBasic("etag-admin@crms.local", "AdminPass123"))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        serviceId = objectMapper.readTree(created).get("id").asLong();
+
+        String body = mockMvc.perform(get("/api/services").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, not(etag)))
+                .andReturn().getResponse().getContentAsString();
+        assertThat(body).contains("ETag insurance");
+    }
+}
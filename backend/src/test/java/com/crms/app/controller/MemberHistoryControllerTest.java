@@ -45,6 +45,12 @@ class MemberHistoryControllerTest extends IntegrationTestSupport {
         request.setStartDate(LocalDate.now().plusDays(3));
         request.setEndDate(LocalDate.now().plusDays(5));
 
+        reservationManagementService.createReservation(request);
+        request.setStartDate(LocalDate.now().plusDays(7));
+        request.setEndDate(LocalDate.now().plusDays(8));
+        reservationManagementService.createReservation(request);
+        request.setStartDate(LocalDate.now().plusDays(10));
+        request.setEndDate(LocalDate.now().plusDays(11));
         reservationManagementService.createReservation(request);
 
         var response = mockMvc.perform(get("/api/admin/members/{id}/reservations", member.getId())
@@ -55,6 +61,35 @@ class MemberHistoryControllerTest extends IntegrationTestSupport {
 
         JsonNode body = objectMapper.readTree(response.getResponse().getContentAsString());
         org.assertj.core.api.Assertions.assertThat(body.isArray()).isTrue();
-        org.assertj.core.api.Assertions.assertThat(body.size()).isEqualTo(1);
+        org.assertj.core.api.Assertions.assertThat(body.size()).isEqualTo(3);
+
+        var firstPage = mockMvc.perform(get("/api/admin/members/{id}/reservations/page", member.getId())
+                        .param("limit", "2")
+                        .with(httpBasic("admin@crms.local", "AdminPass123"))
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        JsonNode first = objectMapper.readTree(firstPage.getResponse().getContentAsString());
+        org.assertj.core.api.Assertions.assertThat(first.get("items").size()).isEqualTo(2);
+        org.assertj.core.api.Assertions.assertThat(first.get("nextCursor").isTextual()).isTrue();
+
+        var secondPage = mockMvc.perform(get("/api/admin/members/{id}/reservations/page", member.getId())
+                        .param("limit", "2")
+                        .param("cursor", first.get("nextCursor").asText())
+                        .with(httpBasic("admin@crms.local", "AdminPass123"))
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        JsonNode second = objectMapper.readTree(secondPage.getResponse().getContentAsString());
+        org.assertj.core.api.Assertions.assertThat(second.get("items").size()).isEqualTo(1);
+        org.assertj.core.api.Assertions.assertThat(second.get("nextCursor").isNull()).isTrue();
+        org.assertj.core.api.Assertions.assertThat(java.util.List.of(
+                        first.get("items").get(0).get("startDate").asText(),
+                        first.get("items").get(1).get("startDate").asText(),
+                        second.get("items").get(0).get("startDate").asText()))
+                .containsExactly(LocalDate.now().plusDays(10).toString(), LocalDate.now().plusDays(7).toString(),
+                        LocalDate.now().plusDays(3).toString());
     }
 }
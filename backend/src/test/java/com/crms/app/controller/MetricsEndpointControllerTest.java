@@ -0,0 +1,94 @@
+package com.crms.app.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.httpBasic;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.crms.app.config.ServiceMetricsAspect;
+import com.crms.app.dto.ReservationRequest;
+import com.crms.app.exception.CarUnavailableException;
+import com.crms.app.model.Car;
+import com.crms.app.model.Location;
+import com.crms.app.model.Member;
+import com.crms.app.service.ReservationManagementService;
+import com.crms.app.support.IntegrationTestSupport;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.LocalDate;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.test.web.servlet.MockMvc;
+
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+class MetricsEndpointControllerTest extends IntegrationTestSupport {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private static final String ADMIN_EMAIL = "metrics-admin@crms.local";
+    private static final String ADMIN_PASSWORD = "AdminPass123";
+
+    @Autowired
+    private ReservationManagementService reservationManagementService;
+
+    @Test
+    void shouldExposeServiceTimersAndQueryCountsInPrometheusFormat() throws Exception {
+        Location location = createLocation("LOC-METRICS");
+        Car car = createCar(location, "BC-METRICS", "34MET01");
+        createAdmin(ADMIN_EMAIL, ADMIN_PASSWORD);
+
+        mockMvc.perform(get("/api/cars/{id}", car.getId())).andExpect(status().isOk());
+
+        String scrape = mockMvc.perform(get("/actuator/prometheus").with(httpBasic(ADMIN_EMAIL, ADMIN_PASSWORD)))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        assertThat(scrape).contains("crms_service_seconds_bucket{");
+        assertThat(scrape).containsPattern("crms_service_seconds_count\\{[^}]*exception=\"none\","
+                + "[^}]*method=\"getCar\",service=\"CarBrowsingServiceImpl\"");
+        assertThat(scrape).containsPattern(
+                "crms_http_queries_statements_count\\{[^}]*method=\"GET\",uri=\"/api/cars/\\{id}\"");
+        assertThat(scrape).contains("hikaricp_connections_acquire_seconds_bucket{");
+        assertThat(scrape).contains("http_server_requests_seconds_bucket{");
+    }
+
+    @Test
+    void shouldRejectUnauthenticatedScrapeButKeepHealthOpen() throws Exception {
+        Member member = createMember("metrics-member@crms.local", "Password123");
+
+        mockMvc.perform(get("/actuator/prometheus")).andExpect(status().isUnauthorized());
+        mockMvc.perform(get("/actuator/prometheus").with(httpBasic(member.getEmail(), "Password123")))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(get("/actuator/health")).andExpect(status().isOk());
+    }
+
+    @Test
+    void shouldCountBookingConflicts() {
+        Location location = createLocation("LOC-CONFLICT");
+        Member member = createMember("metrics-conflict@crms.local", "Password123");
+        Car car = createCar(location, "BC-CONFLICT", "34MET02");
+        Counter conflicts = ServiceMetricsAspect.bookingConflicts(meterRegistry, "createReservation");
+        double before = conflicts.count();
+
+        ReservationRequest request = new ReservationRequest();
+        request.setMemberId(member.getId());
+        request.setCarId(car.getId());
+        request.setPickupLocationId(location.getId());
+        request.setDropoffLocationId(location.getId());
+        request.setStartDate(LocalDate.now().plusDays(5));
+        request.setEndDate(LocalDate.now().plusDays(7));
+        reservationManagementService.createReservation(request);
+
+        assertThatThrownBy(() -> reservationManagementService.createReservation(request))
+                .isInstanceOf(CarUnavailableException.class);
+        assertThat(conflicts.count()).isEqualTo(before + 1);
+    }
+}
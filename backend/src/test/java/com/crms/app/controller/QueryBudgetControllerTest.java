@@ -0,0 +1,56 @@
+package com.crms.app.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.crms.app.config.QueryScope;
+import com.crms.app.model.Car;
+import com.crms.app.model.Location;
+import com.crms.app.support.IntegrationTestSupport;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.test.web.servlet.MockMvc;
+
+@AutoConfigureMockMvc
+class QueryBudgetControllerTest extends IntegrationTestSupport {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void shouldLoadASingleCarWithinItsQueryBudget() throws Exception {
+        Car car = createCar(createLocation("LOC-QB1"), "BC-QB1", "34QB001");
+
+        assertQueryBudget(2, () -> mockMvc.perform(get("/api/cars/{id}", car.getId())).andExpect(status().isOk()));
+    }
+
+    @Test
+    void shouldSearchCarsAcrossLocationsWithASingleStatement() throws Exception {
+        for (int index = 5; index <= 8; index++) {
+            createCar(createLocation("LOC-QB" + index), "BC-QB" + index, "34QB00" + index);
+        }
+
+        assertQueryBudget(1, () -> mockMvc.perform(get("/api/cars").param("size", "200"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[?(@.locationCode == 'LOC-QB8')]").exists()));
+    }
+
+    @Test
+    void shouldDetectRepeatedLazyLoads() throws Exception {
+        List<Long> carIds = List.of(
+                createCar(createLocation("LOC-QB2"), "BC-QB2", "34QB002").getId(),
+                createCar(createLocation("LOC-QB3"), "BC-QB3", "34QB003").getId(),
+                createCar(createLocation("LOC-QB4"), "BC-QB4", "34QB004").getId());
+
+        QueryScope scope = recordQueries(() -> carRepository.findAllById(carIds)
+                .forEach(car -> car.getLocation().getCode()));
+
+        assertThat(scope.getStatementCount()).isEqualTo(4);
+        assertThat(scope.getMaxRepetitions()).isEqualTo(3);
+        assertThat(scope.getMostRepeatedStatement()).contains("locations");
+    }
+}
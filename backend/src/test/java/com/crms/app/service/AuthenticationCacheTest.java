@@ -0,0 +1,108 @@
+package com.crms.app.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.AdditionalAnswers.delegatesTo;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import com.crms.app.config.CachingAuthenticationProvider;
+import com.crms.app.model.Member;
+import com.crms.app.support.IntegrationTestSupport;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+class AuthenticationCacheTest extends IntegrationTestSupport {
+
+    private static final Logger logger = LoggerFactory.getLogger(AuthenticationCacheTest.class);
+    private static final int ROUNDS = 10;
+
+    @Autowired
+    private AuthenticationProvider authenticationProvider;
+
+    @Autowired
+    private AuthenticationCache authenticationCache;
+
+    @Autowired
+    private UserDetailsService userDetailsService;
+
+    private Member member;
+
+    @BeforeEach
+    void setUp() {
+        member = createMember("cache@crms.local", "Password123");
+        authenticationCache.evict(member.getEmail());
+    }
+
+    @Test
+    void shouldServeRepeatedBasicAuthFromCacheWithoutBcrypt() {
+        UserDetailsService users = mock(UserDetailsService.class, delegatesTo(userDetailsService));
+        PasswordEncoder encoder = mock(PasswordEncoder.class, delegatesTo(passwordEncoder));
+        DaoAuthenticationProvider delegate = new DaoAuthenticationProvider();
+        delegate.setUserDetailsService(users);
+        delegate.setPasswordEncoder(encoder);
+        AuthenticationProvider provider = new CachingAuthenticationProvider(delegate, authenticationCache);
+
+        long startedAt = System.nanoTime();
+        authenticate(provider, "Password123");
+        long coldNanos = System.nanoTime() - startedAt;
+        verify(users).loadUserByUsername(member.getEmail());
+        verify(encoder).matches(eq("Password123"), anyString());
+        clearInvocations(users, encoder);
+
+        long cachedNanos = 0;
+        for (int i = 0; i < ROUNDS; i++) {
+            startedAt = System.nanoTime();
+            Authentication result = authenticate(provider, "Password123");
+            cachedNanos += System.nanoTime() - startedAt;
+            assertThat(result.isAuthenticated()).isTrue();
+            assertThat(result.getAuthorities()).extracting("authority").containsExactly("ROLE_MEMBER");
+        }
+        verifyNoInteractions(users, encoder);
+
+        logger.info("Basic auth overhead per request: uncachedMicros={}, cachedMicros={}",
+                TimeUnit.NANOSECONDS.toMicros(coldNanos),
+                TimeUnit.NANOSECONDS.toMicros(cachedNanos / ROUNDS));
+    }
+
+    @Test
+    void shouldNotServeWrongPasswordAndShouldForgetEvictedUser() {
+        authenticate("Password123");
+
+        assertThatThrownBy(() -> authenticate("WrongPassword"))
+                .isInstanceOf(BadCredentialsException.class);
+
+        member.setPassword(passwordEncoder.encode("Changed123"));
+        memberRepository.saveAndFlush(member);
+        assertThat(authenticate("Password123").isAuthenticated()).isTrue();
+
+        authenticationCache.evict("CACHE@crms.local");
+
+        assertThatThrownBy(() -> authenticate("Password123"))
+                .isInstanceOf(BadCredentialsException.class);
+        assertThat(authenticate("Changed123").isAuthenticated()).isTrue();
+    }
+
+    private Authentication authenticate(String password) {
+        return authenticate(authenticationProvider, password);
+    }
+
+    private Authentication authenticate(AuthenticationProvider provider, String password) {
+        return provider.authenticate(UsernamePasswordAuthenticationToken.unauthenticated(member.getEmail(), password));
+    }
+}
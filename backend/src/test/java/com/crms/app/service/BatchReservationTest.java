@@ -0,0 +1,101 @@
+package com.crms.app.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.crms.app.dto.BatchReservationMode;
+import com.crms.app.dto.BatchReservationRequest;
+import com.crms.app.dto.BatchReservationResponse;
+import com.crms.app.dto.ReservationRequest;
+import com.crms.app.model.AdditionalService;
+import com.crms.app.model.Car;
+import com.crms.app.model.Location;
+import com.crms.app.model.Member;
+import com.crms.app.model.Reservation;
+import com.crms.app.support.IntegrationTestSupport;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+class BatchReservationTest extends IntegrationTestSupport {
+
+    @Autowired
+    private ReservationManagementService reservationManagementService;
+
+    private Location location;
+    private Member member;
+    private Car firstCar;
+    private Car secondCar;
+
+    @BeforeEach
+    void setUp() {
+        location = createLocation("LOC-BATCH");
+        member = createMember("batch@crms.local", "Password123");
+        firstCar = createCar(location, "BC-BATCH1", "34BAT01");
+        secondCar = createCar(location, "BC-BATCH2", "34BAT02");
+    }
+
+    @Test
+    void shouldCreateValidItemsAndReportConflictsInBestEffortMode() {
+        AdditionalService insurance = createService("Batch insurance", new BigDecimal("10.00"));
+        reservationManagementService.createReservation(item(secondCar, 30, 32));
+
+        ReservationRequest withService = item(firstCar, 10, 12);
+        withService.setAdditionalServiceIds(List.of(insurance.getId()));
+        BatchReservationRequest request = new BatchReservationRequest();
+        request.setMode(BatchReservationMode.BEST_EFFORT);
+        request.setItems(List.of(
+                withService,
+                item(firstCar, 12, 14),
+                item(secondCar, 31, 33),
+                item(secondCar, 10, 11),
+                item(firstCar, 20, 18)));
+
+        BatchReservationResponse response = reservationManagementService.createReservations(request);
+
+        assertThat(response.getRequestedCount()).isEqualTo(5);
+        assertThat(response.getCreatedCount()).isEqualTo(2);
+        assertThat(response.getRejectedCount()).isEqualTo(3);
+        assertThat(response.getResults()).extracting("status")
+                .containsExactly("CREATED", "REJECTED", "REJECTED", "CREATED", "REJECTED");
+        assertThat(response.getResults().get(1).getMessage()).contains("not available");
+        assertThat(response.getResults().get(4).getMessage()).contains("End date");
+
+        Long createdId = response.getResults().get(0).getReservation().getId();
+        Reservation stored = reservationRepository.findById(createdId).orElseThrow();
+        assertThat(stored.getAdditionalServices()).extracting(AdditionalService::getId)
+                .containsExactly(insurance.getId());
+        assertThat(stored.getTotalCost()).isEqualByComparingTo(response.getResults().get(0).getReservation().getTotalCost());
+    }
+
+    @Test
+    void shouldCreateNothingWhenAnyItemFailsInAllOrNothingMode() {
+        long before = reservationRepository.count();
+        BatchReservationRequest request = new BatchReservationRequest();
+        request.setItems(List.of(
+                item(firstCar, 10, 12),
+                item(secondCar, 10, 12),
+                item(secondCar, 11, 13)));
+
+        BatchReservationResponse response = reservationManagementService.createReservations(request);
+
+        assertThat(response.getMode()).isEqualTo(BatchReservationMode.ALL_OR_NOTHING);
+        assertThat(response.getCreatedCount()).isZero();
+        assertThat(response.getResults()).extracting("status")
+                .containsExactly("SKIPPED", "SKIPPED", "REJECTED");
+        assertThat(reservationRepository.count()).isEqualTo(before);
+    }
+
+    private ReservationRequest item(Car car, int startOffset, int endOffset) {
+        ReservationRequest request = new ReservationRequest();
+        request.setMemberId(member.getId());
+        request.setCarId(car.getId());
+        request.setPickupLocationId(location.getId());
+        request.setDropoffLocationId(location.getId());
+        request.setStartDate(LocalDate.now().plusDays(startOffset));
+        request.setEndDate(LocalDate.now().plusDays(endOffset));
+        return request;
+    }
+}
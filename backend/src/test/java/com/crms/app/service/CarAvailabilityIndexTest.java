@@ -0,0 +1,90 @@
+package com.crms.app.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.crms.app.model.Car;
+import com.crms.app.model.Reservation;
+import com.crms.app.model.ReservationStatus;
+import com.crms.app.repository.ReservationIntervalView;
+import com.crms.app.repository.ReservationRepository;
+import com.crms.app.service.impl.CarAvailabilityIndexImpl;
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class CarAvailabilityIndexTest {
+
+    private final ReservationRepository reservationRepository = mock(ReservationRepository.class);
+    private final CarAvailabilityIndexImpl index = new CarAvailabilityIndexImpl(reservationRepository);
+
+    @Test
+    void shouldLoadActiveIntervalsAndDetectOverlaps() {
+        when(reservationRepository.findIntervalsByStatus(ReservationStatus.ACTIVE)).thenReturn(List.of(
+                interval(1L, 10L, LocalDate.of(2025, 3, 1), LocalDate.of(2025, 3, 20)),
+                interval(2L, 10L, LocalDate.of(2025, 3, 5), LocalDate.of(2025, 3, 6)),
+                interval(3L, 11L, LocalDate.of(2025, 3, 10), LocalDate.of(2025, 3, 12))));
+
+        index.reload();
+
+        assertThat(index.isAvailable(10L, LocalDate.of(2025, 3, 10), LocalDate.of(2025, 3, 11))).isFalse();
+        assertThat(index.isAvailable(10L, LocalDate.of(2025, 3, 21), LocalDate.of(2025, 3, 25))).isTrue();
+        assertThat(index.isAvailable(11L, LocalDate.of(2025, 3, 12), LocalDate.of(2025, 3, 14))).isFalse();
+        assertThat(index.isAvailable(11L, LocalDate.of(2025, 3, 13), LocalDate.of(2025, 3, 14))).isTrue();
+        assertThat(index.isAvailable(12L, LocalDate.of(2025, 3, 1), LocalDate.of(2025, 3, 31))).isTrue();
+        assertThat(index.isAvailableExcluding(11L, 3L, LocalDate.of(2025, 3, 10), LocalDate.of(2025, 3, 12))).isTrue();
+    }
+
+    @Test
+    void shouldTrackReservationChanges() {
+        Reservation reservation = reservation(5L, 20L, LocalDate.of(2025, 4, 1), LocalDate.of(2025, 4, 3));
+        index.recordReservation(reservation);
+        assertThat(index.isAvailable(20L, LocalDate.of(2025, 4, 2), LocalDate.of(2025, 4, 2))).isFalse();
+
+        reservation.setStartDate(LocalDate.of(2025, 4, 10));
+        reservation.setEndDate(LocalDate.of(2025, 4, 12));
+        index.recordReservation(reservation);
+        assertThat(index.isAvailable(20L, LocalDate.of(2025, 4, 2), LocalDate.of(2025, 4, 2))).isTrue();
+        assertThat(index.isAvailable(20L, LocalDate.of(2025, 4, 12), LocalDate.of(2025, 4, 15))).isFalse();
+
+        reservation.setStatus(ReservationStatus.CANCELED);
+        index.recordReservation(reservation);
+        assertThat(index.isAvailable(20L, LocalDate.of(2025, 4, 12), LocalDate.of(2025, 4, 15))).isTrue();
+    }
+
+    private Reservation reservation(Long id, Long carId, LocalDate startDate, LocalDate endDate) {
+        Car car = new Car();
+        car.setId(carId);
+        Reservation reservation = new Reservation();
+        reservation.setId(id);
+        reservation.setCar(car);
+        reservation.setStartDate(startDate);
+        reservation.setEndDate(endDate);
+        return reservation;
+    }
+
+    private ReservationIntervalView interval(Long id, Long carId, LocalDate startDate, LocalDate endDate) {
+        return new ReservationIntervalView() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public Long getCarId() {
+                return carId;
+            }
+
+            @Override
+            public LocalDate getStartDate() {
+                return startDate;
+            }
+
+            @Override
+            public LocalDate getEndDate() {
+                return endDate;
+            }
+        };
+    }
+}
@@ -0,0 +1,146 @@
+package com.crms.app.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.crms.app.config.CarSearchCacheProperties;
+import com.crms.app.dto.CarResponse;
+import com.crms.app.dto.CarSearchCriteria;
+import com.crms.app.model.Car;
+import com.crms.app.model.CarStatus;
+import com.crms.app.model.Location;
+import com.crms.app.model.Reservation;
+import com.crms.app.service.impl.CarSearchCacheImpl;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+class CarSearchCacheTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CarSearchCacheImpl searchCache = new CarSearchCacheImpl(new CarSearchCacheProperties(), meterRegistry);
+    private final AtomicInteger searches = new AtomicInteger();
+    private final LocalDate today = LocalDate.now();
+
+    @Test
+    void shouldServeEquivalentCriteriaFromCacheAndExportHitRatio() {
+        CarSearchCriteria first = criteria(100L, null, null);
+        first.setMake("Toyota");
+        first.setMinDailyRate(new BigDecimal("50.00"));
+        CarSearchCriteria second = criteria(100L, null, null);
+        second.setMake("TOYOTA");
+        second.setMinDailyRate(new BigDecimal("50"));
+        second.setModel(" ");
+
+        search(first, PageRequest.of(0, 50));
+        search(second, PageRequest.of(0, 50));
+        search(second, PageRequest.of(1, 50));
+
+        assertThat(searches).hasValue(2);
+        assertThat(meterRegistry.get(CarSearchCacheImpl.REQUESTS).tag("result", "hit").functionCounter().count())
+                .isEqualTo(1);
+        assertThat(meterRegistry.get(CarSearchCacheImpl.HIT_RATIO).gauge().value()).isEqualTo(1.0 / 3);
+        assertThat(meterRegistry.get(CarSearchCacheImpl.ENTRIES).gauge().value()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldEvictDatedSearchesOverlappingReservationForThatCar() {
+        CarSearchCriteria overlapping = criteria(100L, today.plusDays(10), today.plusDays(12));
+        CarSearchCriteria later = criteria(100L, today.plusDays(20), today.plusDays(22));
+        CarSearchCriteria otherBranch = criteria(200L, today.plusDays(10), today.plusDays(12));
+        CarSearchCriteria undated = criteria(100L, null, null);
+        for (CarSearchCriteria criteria : List.of(overlapping, later, otherBranch, undated)) {
+            search(criteria, PageRequest.of(0, 50));
+        }
+        search(overlapping, PageRequest.of(3, 50));
+
+        Reservation reservation = new Reservation();
+        reservation.setCar(car(7L, 100L, "Sedan"));
+        reservation.setStartDate(today.plusDays(12));
+        reservation.setEndDate(today.plusDays(14));
+        searchCache.evictReservation(reservation);
+        searches.set(0);
+
+        search(overlapping, PageRequest.of(0, 50));
+        search(overlapping, PageRequest.of(3, 50));
+        search(later, PageRequest.of(0, 50));
+        search(otherBranch, PageRequest.of(0, 50));
+        search(undated, PageRequest.of(0, 50));
+
+        assertThat(searches).hasValue(2);
+    }
+
+    @Test
+    void shouldEvictSearchesMatchingChangedCarOrLocation() {
+        CarSearchCriteria sedans = criteria(null, null, null);
+        sedans.setCarType("sedan");
+        CarSearchCriteria suvs = criteria(null, null, null);
+        suvs.setCarType("SUV");
+        CarSearchCriteria unavailable = criteria(null, null, null);
+        unavailable.setStatus(CarStatus.UNAVAILABLE);
+        CarSearchCriteria branch = criteria(300L, null, null);
+        for (CarSearchCriteria criteria : List.of(sedans, suvs, unavailable, branch)) {
+            search(criteria, PageRequest.of(0, 50));
+        }
+
+        searchCache.evictCar(car(8L, 100L, "Sedan"));
+        searchCache.evictLocation(300L);
+        searches.set(0);
+
+        search(sedans, PageRequest.of(0, 50));
+        search(suvs, PageRequest.of(0, 50));
+        search(unavailable, PageRequest.of(0, 50));
+        search(branch, PageRequest.of(0, 50));
+
+        assertThat(searches).hasValue(2);
+    }
+
+    @Test
+    void shouldNotCacheSearchThatOverlappedAnEviction() {
+        CarSearchCriteria criteria = criteria(100L, null, null);
+        searchCache.search(criteria, PageRequest.of(0, 50), () -> {
+            searchCache.evictLocation(999L);
+            return List.of();
+        });
+
+        search(criteria, PageRequest.of(0, 50));
+
+        assertThat(searches).hasValue(1);
+    }
+
+    private List<CarResponse> search(CarSearchCriteria criteria, Pageable page) {
+        return searchCache.search(criteria, page, () -> {
+            searches.incrementAndGet();
+            CarResponse response = new CarResponse();
+            response.setId(1000L + searches.get());
+            response.setLocationId(criteria.getLocationId());
+            return List.of(response);
+        });
+    }
+
+    private CarSearchCriteria criteria(Long locationId, LocalDate startDate, LocalDate endDate) {
+        CarSearchCriteria criteria = new CarSearchCriteria();
+        criteria.setLocationId(locationId);
+        criteria.setStartDate(startDate);
+        criteria.setEndDate(endDate);
+        return criteria;
+    }
+
+    private Car car(Long id, Long locationId, String carType) {
+        Location location = new Location();
+        location.setId(locationId);
+        Car car = new Car();
+        car.setId(id);
+        car.setMake("Toyota");
+        car.setModel("Corolla");
+        car.setCarType(carType);
+        car.setDailyRate(BigDecimal.valueOf(100));
+        car.setLocation(location);
+        return car;
+    }
+}
@@ -94,4 +94,54 @@ class CarSearchServiceTest extends IntegrationTestSupport {
         assertThat(results).extracting("id").contains(matching.getId());
         assertThat(results).extracting("id").doesNotContain(nonMatching.getId());
     }
+
+    @Test
+    void shouldFillPageWithAvailableCarsWhenDateRangeExcludesReservedOnes() {
+        Location location = createLocation("LOC4");
+        var reserved = createCar(location, "BC-1400", "34ABC23");
+        createCar(location, "BC-1401", "34ABC24");
+        createCar(location, "BC-1402", "34ABC25");
+        var member = createMember("member4@crms.local", "Password123");
+
+        var reservation = new com.crms.app.model.Reservation();
+        reservation.setReservationNumber("RES-1400");
+        reservation.setMember(member);
+        reservation.setCar(reserved);
+        reservation.setPickupLocation(location);
+        reservation.setDropoffLocation(location);
+        reservation.setStartDate(LocalDate.of(2025, 2, 1));
+        reservation.setEndDate(LocalDate.of(2025, 2, 5));
+        reservation.setTotalCost(java.math.BigDecimal.valueOf(400));
+        reservationRepository.save(reservation);
+
+        CarSearchCriteria criteria = new CarSearchCriteria();
+        criteria.setLocationId(location.getId());
+        criteria.setStartDate(LocalDate.of(2025, 2, 3));
+        criteria.setEndDate(LocalDate.of(2025, 2, 4));
+        criteria.setSize(2);
+
+        var results = carBrowsingService.searchCars(criteria);
+
+        assertThat(results).hasSize(2);
+        assertThat(results).extracting("id").doesNotContain(reserved.getId());
+    }
+
+    @Test
+    void shouldPageThroughResultsInIdOrder() {
+        Location location = createLocation("LOC5");
+        var first = createCar(location, "BC-1500", "34ABC26");
+        var second = createCar(location, "BC-1501", "34ABC27");
+        var third = createCar(location, "BC-1502", "34ABC28");
+
+        CarSearchCriteria criteria = new CarSearchCriteria();
+        criteria.setLocationId(location.getId());
+        criteria.setSize(2);
+        var firstPage = carBrowsingService.searchCars(criteria);
+        criteria.setPage(1);
+        var secondPage = carBrowsingService.searchCars(criteria);
+
+        assertThat(firstPage).extracting("id").containsExactly(first.getId(), second.getId());
+        assertThat(secondPage).extracting("id").containsExactly(third.getId());
+        assertThat(secondPage.get(0).getLocationCode()).isEqualTo("LOC5");
+    }
 }
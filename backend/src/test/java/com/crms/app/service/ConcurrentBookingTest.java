@@ -0,0 +1,120 @@
+package com.crms.app.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.crms.app.dto.ReservationRequest;
+import com.crms.app.exception.CarUnavailableException;
+import com.crms.app.model.Car;
+import com.crms.app.model.Location;
+import com.crms.app.model.Member;
+import com.crms.app.repository.NotificationOutboxRepository;
+import com.crms.app.support.IntegrationTestSupport;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ConcurrentBookingTest extends IntegrationTestSupport {
+
+    private static final Logger logger = LoggerFactory.getLogger(ConcurrentBookingTest.class);
+    private static final int ATTEMPTS = 200;
+    private static final int THREADS = 32;
+
+    @Autowired
+    private ReservationManagementService reservationManagementService;
+
+    @Autowired
+    private NotificationOutboxRepository notificationOutboxRepository;
+
+    private Location location;
+    private Member member;
+    private Car car;
+
+    @AfterEach
+    void cleanUp() {
+        if (car != null) {
+            reservationRepository.deleteAll(reservationRepository.findAll().stream()
+                    .filter(reservation -> reservation.getCar().getId().equals(car.getId()))
+                    .toList());
+            carRepository.delete(car);
+        }
+        if (member != null) {
+            notificationOutboxRepository.deleteAll(notificationOutboxRepository.findAll().stream()
+                    .filter(entry -> entry.getRecipientEmail().equals(member.getEmail()))
+                    .toList());
+            memberRepository.delete(member);
+        }
+        if (location != null) {
+            locationRepository.delete(location);
+        }
+    }
+
+    @Test
+    void shouldAllowExactlyOneOfManyParallelBookingsForSameCarAndDates() throws Exception {
+        location = createLocation("LOC-RACE");
+        member = createMember("race@crms.local", "Password123");
+        car = createCar(location, "BC-RACE", "34RACE01");
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Boolean>> results = new ArrayList<>();
+        for (int i = 0; i < ATTEMPTS; i++) {
+            results.add(executor.submit(() -> {
+                start.await();
+                try {
+                    reservationManagementService.createReservation(bookingRequest());
+                    return true;
+                } catch (CarUnavailableException ex) {
+                    return false;
+                }
+            }));
+        }
+
+        long startedAt = System.nanoTime();
+        start.countDown();
+        int winners = 0;
+        for (Future<Boolean> result : results) {
+            if (result.get(60, TimeUnit.SECONDS)) {
+                winners++;
+            }
+        }
+        long elapsedNanos = System.nanoTime() - startedAt;
+        executor.shutdown();
+
+        logger.info("Parallel booking race: attempts={}, threads={}, winners={}, elapsedMs={}, bookingsPerSecond={}",
+                ATTEMPTS,
+                THREADS,
+                winners,
+                TimeUnit.NANOSECONDS.toMillis(elapsedNanos),
+                String.format("%.1f", ATTEMPTS / (elapsedNanos / 1_000_000_000.0)));
+        assertThat(winners).isEqualTo(1);
+        assertThat(reservationRepository.existsOverlappingReservation(
+                car.getId(),
+                com.crms.app.model.ReservationStatus.ACTIVE,
+                LocalDate.now().plusDays(10),
+                LocalDate.now().plusDays(12))).isTrue();
+    }
+
+    private ReservationRequest bookingRequest() {
+        ReservationRequest request = new ReservationRequest();
+        request.setMemberId(member.getId());
+        request.setCarId(car.getId());
+        request.setPickupLocationId(location.getId());
+        request.setDropoffLocationId(location.getId());
+        request.setStartDate(LocalDate.now().plusDays(10));
+        request.setEndDate(LocalDate.now().plusDays(12));
+        return request;
+    }
+}
@@ -0,0 +1,164 @@
+package com.crms.app.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.crms.app.dto.FleetUtilizationReport;
+import com.crms.app.dto.FleetUtilizationRow;
+import com.crms.app.dto.LeadTimeDistribution;
+import com.crms.app.dto.UtilizationGrouping;
+import com.crms.app.exception.CrmsException;
+import com.crms.app.model.Car;
+import com.crms.app.model.Location;
+import com.crms.app.model.Member;
+import com.crms.app.model.Reservation;
+import com.crms.app.model.ReservationStatus;
+import com.crms.app.support.IntegrationTestSupport;
+import java.math.BigDecimal;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.temporal.TemporalAdjusters;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+class FleetAnalyticsServiceTest extends IntegrationTestSupport {
+
+    @Autowired
+    private FleetAnalyticsService fleetAnalyticsService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final LocalDate day0 = LocalDate.now().plusDays(500)
+            .with(TemporalAdjusters.nextOrSame(DayOfWeek.MONDAY));
+    private Location airport;
+    private Location downtown;
+    private Member member;
+    private Car first;
+    private Car second;
+    private Car third;
+    private int sequence;
+
+    @BeforeEach
+    void setUp() {
+        airport = createLocation("LOC-FA-A");
+        downtown = createLocation("LOC-FA-B");
+        member = createMember("fleet-analytics@crms.local", "Password123");
+        first = createCar(airport, "BC-FA-1", "34FAN01");
+        second = createCar(airport, "BC-FA-2", "34FAN02");
+        third = createCar(downtown, "BC-FA-3", "34FAN03");
+    }
+
+    @AfterEach
+    void dropSnapshot() {
+        fleetAnalyticsService.invalidate();
+    }
+
+    @Test
+    void shouldReportBookedCarDaysAndRevenuePerAvailableCarDay() {
+        reservation(first, day0, day0.plusDays(4), "400.00", day0.minusDays(10));
+        reservation(second, day0.plusDays(8), day0.plusDays(12), "800.00", day0.minusDays(3));
+        reservation(third, day0.plusDays(2), day0.plusDays(4), "300.00", day0);
+        Reservation canceled = reservation(third, day0.plusDays(5), day0.plusDays(6), "100.00", day0);
+        canceled.setStatus(ReservationStatus.CANCELED);
+        loadSnapshot();
+
+        FleetUtilizationReport byBranch = fleetAnalyticsService.utilization(
+                day0, day0.plusDays(9), UtilizationGrouping.BRANCH);
+        FleetUtilizationRow atAirport = row(byBranch, airport);
+        assertThat(atAirport.getFleetSize()).isEqualTo(2);
+        assertThat(atAirport.getBookedCarDays()).isEqualTo(6);
+        assertThat(atAirport.getAvailableCarDays()).isEqualTo(20);
+        assertThat(atAirport.getUtilization()).isEqualTo(0.3);
+        assertThat(atAirport.getRevenue()).isEqualByComparingTo("800.00");
+        assertThat(atAirport.getRevenuePerAvailableCarDay()).isEqualByComparingTo("40.00");
+        assertThat(row(byBranch, downtown).getBookedCarDays()).isEqualTo(2);
+
+        FleetUtilizationReport byCar = fleetAnalyticsService.utilization(
+                day0, day0.plusDays(9), UtilizationGrouping.CAR);
+        assertThat(byCar.getRows()).filteredOn(row -> second.getId().equals(row.getCarId()))
+                .singleElement()
+                .satisfies(row -> assertThat(row.getBookedCarDays()).isEqualTo(2));
+
+        FleetUtilizationReport byWeek = fleetAnalyticsService.utilization(
+                day0, day0.plusDays(9), UtilizationGrouping.WEEK);
+        assertThat(byWeek.getRows()).extracting(FleetUtilizationRow::getWeekStart)
+                .containsExactly(day0, day0.plusDays(7));
+        assertThat(byWeek.getRows().get(1).getAvailableCarDays())
+                .isEqualTo(byWeek.getRows().get(1).getFleetSize() * 3);
+    }
+
+    @Test
+    void shouldApplyCommittedChangesOnTopOfTheSnapshot() {
+        Reservation booking = reservation(first, day0, day0.plusDays(4), "400.00", day0.minusDays(10));
+        loadSnapshot();
+
+        booking.setStatus(ReservationStatus.CANCELED);
+        Reservation added = reservation(second, day0.plusDays(1), day0.plusDays(2), "100.00", day0.minusDays(1));
+        TransactionTemplate outside = new TransactionTemplate(transactionManager);
+        outside.setPropagationBehavior(TransactionDefinition.PROPAGATION_NOT_SUPPORTED);
+        outside.executeWithoutResult(status -> {
+            fleetAnalyticsService.recordReservation(booking);
+            fleetAnalyticsService.recordReservation(added);
+        });
+
+        FleetUtilizationRow atAirport = row(fleetAnalyticsService.utilization(
+                day0, day0.plusDays(9), UtilizationGrouping.BRANCH), airport);
+        assertThat(atAirport.getBookedCarDays()).isEqualTo(1);
+        assertThat(atAirport.getRevenue()).isEqualByComparingTo("100.00");
+    }
+
+    @Test
+    void shouldSummarizeBookingLeadTimes() {
+        reservation(first, day0, day0.plusDays(1), "100.00", day0);
+        reservation(first, day0.plusDays(2), day0.plusDays(3), "100.00", day0.minusDays(5));
+        reservation(second, day0.plusDays(2), day0.plusDays(3), "100.00", day0.minusDays(20));
+        reservation(third, day0.plusDays(4), day0.plusDays(5), "100.00", day0.minusDays(400));
+        reservation(third, day0.plusDays(6), day0.plusDays(7), "100.00", null);
+        loadSnapshot();
+
+        LeadTimeDistribution distribution = fleetAnalyticsService.leadTimes(day0, day0.plusDays(6));
+
+        assertThat(distribution.getBookings()).isEqualTo(4);
+        assertThat(distribution.getMedianDays()).isEqualTo(7);
+        assertThat(distribution.getP90Days()).isEqualTo(366);
+        assertThat(distribution.getMeanDays()).isEqualTo((0 + 7 + 22 + 404) / 4.0);
+        assertThat(distribution.getBuckets()).filteredOn(bucket -> bucket.getBookings() > 0)
+                .extracting("minDays").containsExactly(0, 4, 15, 366);
+        assertThatThrownBy(() -> fleetAnalyticsService.leadTimes(day0, day0.minusDays(1)))
+                .isInstanceOf(CrmsException.class);
+    }
+
+    private void loadSnapshot() {
+        entityManager.flush();
+        fleetAnalyticsService.invalidate();
+        fleetAnalyticsService.leadTimes(day0, day0);
+    }
+
+    private Reservation reservation(Car car, LocalDate start, LocalDate end, String totalCost, LocalDate bookedOn) {
+        Reservation reservation = new Reservation();
+        reservation.setReservationNumber("RES-FA-" + (++sequence));
+        reservation.setMember(member);
+        reservation.setCar(car);
+        reservation.setPickupLocation(car.getLocation());
+        reservation.setDropoffLocation(car.getLocation());
+        reservation.setStartDate(start);
+        reservation.setEndDate(end);
+        reservation.setTotalCost(new BigDecimal(totalCost));
+        reservation.setCreatedAt(bookedOn == null ? null : bookedOn.atTime(9, 30).toInstant(ZoneOffset.UTC));
+        return reservationRepository.save(reservation);
+    }
+
+    private static FleetUtilizationRow row(FleetUtilizationReport report, Location location) {
+        return report.getRows().stream()
+                .filter(row -> location.getId().equals(row.getLocationId()))
+                .findFirst()
+                .orElseThrow();
+    }
+}
@@ -0,0 +1,132 @@
+package com.crms.app.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.crms.app.exception.CrmsException;
+import com.crms.app.model.Car;
+import com.crms.app.model.CarStatus;
+import com.crms.app.model.Location;
+import com.crms.app.model.Reservation;
+import com.crms.app.model.ReservationStatus;
+import com.crms.app.repository.CarLocationView;
+import com.crms.app.repository.CarRepository;
+import com.crms.app.repository.ReservationIntervalView;
+import com.crms.app.repository.ReservationRepository;
+import com.crms.app.service.impl.FleetAvailabilityServiceImpl;
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class FleetAvailabilityServiceTest {
+
+    private final CarRepository carRepository = mock(CarRepository.class);
+    private final ReservationRepository reservationRepository = mock(ReservationRepository.class);
+    private final FleetAvailabilityServiceImpl fleetAvailabilityService =
+            new FleetAvailabilityServiceImpl(carRepository, reservationRepository);
+    private final LocalDate today = LocalDate.now();
+
+    @BeforeEach
+    void loadCalendar() {
+        when(carRepository.findAllLocationViews()).thenReturn(List.of(
+                car(1L, 100L, CarStatus.AVAILABLE),
+                car(2L, 100L, CarStatus.AVAILABLE),
+                car(3L, 200L, CarStatus.AVAILABLE),
+                car(4L, 200L, CarStatus.UNAVAILABLE)));
+        when(reservationRepository.findIntervalsByStatus(ReservationStatus.ACTIVE)).thenReturn(List.of(
+                interval(10L, 1L, today.plusDays(60), today.plusDays(70)),
+                interval(11L, 3L, today.plusDays(65), today.plusDays(66))));
+        fleetAvailabilityService.reload();
+    }
+
+    @Test
+    void shouldReturnCarsFreeForEveryDayInRange() {
+        var all = fleetAvailabilityService.findFreeCars(null, today.plusDays(62), today.plusDays(65));
+        var branch = fleetAvailabilityService.findFreeCars(100L, today.plusDays(71), today.plusDays(80));
+
+        assertThat(all.getFreeCarIds()).containsExactly(2L);
+        assertThat(branch.getFreeCarIds()).containsExactly(1L, 2L);
+    }
+
+    @Test
+    void shouldCountFreeCarsPerLocationAndDay() {
+        var counts = fleetAvailabilityService.countFreeCarsByLocation(null, today.plusDays(64), today.plusDays(66));
+
+        assertThat(counts).extracting("locationId").containsExactly(100L, 200L);
+        assertThat(counts.get(0).getDays()).extracting("freeCars").containsExactly(1, 1, 1);
+        assertThat(counts.get(1).getTotalCars()).isEqualTo(1);
+        assertThat(counts.get(1).getDays()).extracting("freeCars").containsExactly(1, 0, 0);
+    }
+
+    @Test
+    void shouldApplyReservationChangesAndRejectRangesOutsideHorizon() {
+        Car car = new Car();
+        car.setId(2L);
+        Location location = new Location();
+        location.setId(100L);
+        car.setLocation(location);
+        Reservation reservation = new Reservation();
+        reservation.setId(12L);
+        reservation.setCar(car);
+        reservation.setStartDate(today.plusDays(127));
+        reservation.setEndDate(today.plusDays(130));
+        fleetAvailabilityService.recordReservation(reservation);
+
+        assertThat(fleetAvailabilityService.findFreeCars(100L, today.plusDays(128), today.plusDays(128))
+                .getFreeCarIds()).containsExactly(1L);
+
+        reservation.setStatus(ReservationStatus.CANCELED);
+        fleetAvailabilityService.recordReservation(reservation);
+
+        assertThat(fleetAvailabilityService.findFreeCars(100L, today.plusDays(128), today.plusDays(128))
+                .getFreeCarIds()).containsExactly(1L, 2L);
+        assertThatThrownBy(() -> fleetAvailabilityService.findFreeCars(null, today, today.plusDays(800)))
+                .isInstanceOf(CrmsException.class);
+    }
+
+    private CarLocationView car(Long id, Long locationId, CarStatus status) {
+        return new CarLocationView() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public Long getLocationId() {
+                return locationId;
+            }
+
+            @Override
+            public CarStatus getStatus() {
+                return status;
+            }
+        };
+    }
+
+    private ReservationIntervalView interval(Long id, Long carId, LocalDate startDate, LocalDate endDate) {
+        return new ReservationIntervalView() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public Long getCarId() {
+                return carId;
+            }
+
+            @Override
+            public LocalDate getStartDate() {
+                return startDate;
+            }
+
+            @Override
+            public LocalDate getEndDate() {
+                return endDate;
+            }
+        };
+    }
+}
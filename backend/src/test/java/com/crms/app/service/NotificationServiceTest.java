@@ -5,20 +5,31 @@ import static org.assertj.core.api.Assertions.assertThat;
 import com.crms.app.model.Car;
 import com.crms.app.model.Location;
 import com.crms.app.model.Member;
+import com.crms.app.model.NotificationOutbox;
+import com.crms.app.model.NotificationStatus;
 import com.crms.app.model.Reservation;
+import com.crms.app.repository.NotificationOutboxRepository;
 import com.crms.app.support.InMemoryMailSender;
 import com.crms.app.support.IntegrationTestSupport;
 import java.math.BigDecimal;
+import java.time.Instant;
 import java.time.LocalDate;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.mail.MailSendException;
 
 class NotificationServiceTest extends IntegrationTestSupport {
 
     @Autowired
     private NotificationService notificationService;
 
+    @Autowired
+    private NotificationDispatcher notificationDispatcher;
+
+    @Autowired
+    private NotificationOutboxRepository outboxRepository;
+
     @Autowired
     private InMemoryMailSender mailSender;
 
@@ -33,10 +44,41 @@ class NotificationServiceTest extends IntegrationTestSupport {
 
         notificationService.sendReservationNotification(reservation, "CREATED");
 
+        assertThat(mailSender.getSentMessages()).isEmpty();
+        assertThat(outboxRepository.findAllByStatusOrderByIdAsc(NotificationStatus.PENDING)).hasSize(1);
+
+        assertThat(notificationDispatcher.dispatchDue()).isEqualTo(1);
+
         assertThat(mailSender.getSentMessages()).hasSize(1);
         var message = mailSender.getSentMessages().get(0);
         assertThat(message.getTo()).containsExactly("member@crms.local");
         assertThat(message.getSubject()).contains("CREATED");
+        assertThat(outboxRepository.findAllByStatusOrderByIdAsc(NotificationStatus.SENT)).hasSize(1);
+    }
+
+    @Test
+    void shouldRetryWithBackoffAndDeadLetterAfterMaxAttempts() {
+        notificationService.sendReservationNotification(buildReservation(), "CREATED");
+        mailSender.failWith(new MailSendException("SMTP unavailable"));
+
+        Instant beforeDispatch = Instant.now();
+        notificationDispatcher.dispatchDue();
+
+        NotificationOutbox entry = outboxRepository.findAllByStatusOrderByIdAsc(NotificationStatus.PENDING).get(0);
+        assertThat(entry.getAttempts()).isEqualTo(1);
+        assertThat(entry.getLastError()).contains("SMTP unavailable");
+        assertThat(entry.getNextAttemptAt()).isAfter(beforeDispatch);
+        assertThat(notificationDispatcher.dispatchDue()).isZero();
+
+        for (int attempt = 1; attempt < 6; attempt++) {
+            entry.setNextAttemptAt(Instant.now().minusSeconds(1));
+            outboxRepository.saveAndFlush(entry);
+            notificationDispatcher.dispatchDue();
+        }
+
+        assertThat(entry.getStatus()).isEqualTo(NotificationStatus.DEAD);
+        assertThat(entry.getAttempts()).isEqualTo(6);
+        assertThat(mailSender.getSentMessages()).isEmpty();
     }
 
     private Reservation buildReservation() {
@@ -0,0 +1,58 @@
+package com.crms.app.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.crms.app.config.ReportingProperties;
+import com.crms.app.service.impl.PdfReportWriter;
+import java.io.ByteArrayOutputStream;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.text.PDFTextStripper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class PdfReportWriterTest {
+
+    private PdfReportWriter writer;
+
+    @AfterEach
+    void tearDown() {
+        if (writer != null) {
+            writer.shutdown();
+        }
+    }
+
+    @Test
+    void shouldKeepPageOrderWhenChunksRenderInParallel() throws Exception {
+        ReportingProperties properties = new ReportingProperties();
+        properties.getPdf().setRenderThreads(4);
+        properties.getPdf().setPagesPerChunk(1);
+        properties.getPdf().setMaxMainMemoryBytes(64 * 1024);
+        writer = new PdfReportWriter(properties);
+        List<String> lines = IntStream.rangeClosed(1, 1_000).mapToObj(i -> "row " + i + " (total) \\ done").toList();
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        writer.write("Report title", "header", lines.iterator(), output);
+
+        try (PDDocument document = PDDocument.load(output.toByteArray())) {
+            assertThat(document.getNumberOfPages()).isEqualTo(21);
+            List<String> text = List.of(new PDFTextStripper().getText(document).split("\\R"));
+            assertThat(text.subList(0, 2)).containsExactly("Report title", "header");
+            assertThat(text.stream().filter(line -> line.startsWith("row ")).toList()).isEqualTo(lines);
+        }
+    }
+
+    @Test
+    void shouldWriteTitleAndHeaderWhenThereAreNoRows() throws Exception {
+        writer = new PdfReportWriter(new ReportingProperties());
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        writer.write("Empty report", "header", List.<String>of().iterator(), output);
+
+        try (PDDocument document = PDDocument.load(output.toByteArray())) {
+            assertThat(document.getNumberOfPages()).isEqualTo(1);
+            assertThat(new PDFTextStripper().getText(document)).contains("Empty report").contains("header");
+        }
+    }
+}
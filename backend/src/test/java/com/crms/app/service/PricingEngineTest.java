@@ -0,0 +1,58 @@
+package com.crms.app.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.crms.app.exception.ResourceNotFoundException;
+import com.crms.app.model.AdditionalService;
+import com.crms.app.model.Car;
+import com.crms.app.model.Equipment;
+import com.crms.app.support.IntegrationTestSupport;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+class PricingEngineTest extends IntegrationTestSupport {
+
+    @Autowired
+    private PricingEngine pricingEngine;
+
+    @Test
+    void shouldMatchBigDecimalTotals() {
+        Car car = createCar(createLocation("LOC-PRICE"), "BC-PRICE", "34PRC01");
+        car.setDailyRate(new BigDecimal("123.45"));
+        carRepository.save(car);
+        AdditionalService insurance = createService("Price insurance", new BigDecimal("10.99"));
+        AdditionalService driver = createService("Price driver", new BigDecimal("0.01"));
+        Equipment seat = createEquipment("Price seat", new BigDecimal("7.50"));
+
+        LocalDate start = LocalDate.now().plusDays(5);
+        for (int days : new int[] {0, 1, 3, 30}) {
+            LocalDate end = start.plusDays(days);
+            BigDecimal expected = legacyTotal(car.getDailyRate(), days,
+                    List.of(insurance.getDailyPrice(), driver.getDailyPrice(), seat.getDailyPrice()));
+
+            BigDecimal quoted = pricingEngine.quoteAmount(car.getId(), start, end,
+                    Arrays.asList(insurance.getId(), driver.getId(), insurance.getId(), null, -1L),
+                    List.of(seat.getId()));
+
+            assertThat(quoted).isEqualTo(expected);
+        }
+        assertThat(pricingEngine.quote(car.getId(), 2, null, List.of())).isEqualTo(24690L);
+    }
+
+    @Test
+    void shouldRejectUnknownCar() {
+        assertThatThrownBy(() -> pricingEngine.quote(-1L, 1, List.of(), List.of()))
+                .isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    private static BigDecimal legacyTotal(BigDecimal dailyRate, long rentalDays, List<BigDecimal> addOns) {
+        BigDecimal days = BigDecimal.valueOf(Math.max(1, rentalDays));
+        BigDecimal addOnCost = addOns.stream().reduce(BigDecimal.ZERO, BigDecimal::add);
+        return dailyRate.multiply(days).add(addOnCost.multiply(days));
+    }
+}
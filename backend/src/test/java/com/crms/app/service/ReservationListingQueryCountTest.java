@@ -0,0 +1,116 @@
+package com.crms.app.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.crms.app.dto.ReservationSummary;
+import com.crms.app.model.AdditionalService;
+import com.crms.app.model.Car;
+import com.crms.app.model.Equipment;
+import com.crms.app.model.Location;
+import com.crms.app.model.Member;
+import com.crms.app.model.Reservation;
+import com.crms.app.support.IntegrationTestSupport;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+class ReservationListingQueryCountTest extends IntegrationTestSupport {
+
+    @Autowired
+    private ReportingService reportingService;
+
+    @Autowired
+    private MemberManagementService memberManagementService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Location location;
+    private Member member;
+    private Car car;
+    private AdditionalService insurance;
+    private Equipment gps;
+    private int seeded;
+
+    @BeforeEach
+    void setUp() {
+        location = createLocation("LOC-N1");
+        member = createMember("nplusone@crms.local", "Password123");
+        car = createCar(location, "BC-N1", "34NPO01");
+        insurance = createService("N+1 insurance", new BigDecimal("10.00"));
+        gps = createEquipment("N+1 GPS", new BigDecimal("5.00"));
+    }
+
+    @Test
+    void shouldListReservationsWithConstantQueryCount() {
+        seedReservations(5);
+        long smallListQueries = countQueries(() -> reportingService.listReservations(null));
+
+        seedReservations(45);
+        Statistics statistics = statistics();
+        List<ReservationSummary> summaries = reportingService.listReservations(null);
+        long largeListQueries = statistics.getPrepareStatementCount();
+
+        assertThat(smallListQueries).isEqualTo(3);
+        assertThat(largeListQueries).isEqualTo(3);
+        assertThat(summaries).hasSizeGreaterThanOrEqualTo(50);
+        assertThat(summaries).filteredOn(summary -> summary.getMemberId().equals(member.getId()))
+                .allSatisfy(summary -> {
+                    assertThat(summary.getAdditionalServiceIds()).containsExactly(insurance.getId());
+                    assertThat(summary.getEquipmentIds()).containsExactly(gps.getId());
+                });
+    }
+
+    @Test
+    void shouldListMemberReservationsWithConstantQueryCount() {
+        seedReservations(30);
+
+        long queries = countQueries(() -> memberManagementService.listMemberReservations(member.getId()));
+
+        assertThat(queries).isEqualTo(4);
+    }
+
+    private long countQueries(Runnable action) {
+        Statistics statistics = statistics();
+        action.run();
+        return statistics.getPrepareStatementCount();
+    }
+
+    private Statistics statistics() {
+        entityManager.flush();
+        entityManager.clear();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        return statistics;
+    }
+
+    private void seedReservations(int count) {
+        LocalDate start = LocalDate.now().plusDays(10);
+        for (int i = 0; i < count; i++, seeded++) {
+            Reservation reservation = new Reservation();
+            reservation.setReservationNumber("RES-" + UUID.randomUUID().toString().substring(0, 8));
+            reservation.setMember(member);
+            reservation.setCar(car);
+            reservation.setPickupLocation(location);
+            reservation.setDropoffLocation(location);
+            reservation.setStartDate(start.plusDays(seeded * 3L));
+            reservation.setEndDate(start.plusDays(seeded * 3L + 1));
+            reservation.setTotalCost(new BigDecimal("100.00"));
+            reservation.setAdditionalServices(Set.of(insurance));
+            reservation.setEquipments(Set.of(gps));
+            reservationRepository.save(reservation);
+        }
+    }
+}
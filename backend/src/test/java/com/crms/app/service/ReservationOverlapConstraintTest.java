@@ -0,0 +1,69 @@
+package com.crms.app.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.crms.app.model.Car;
+import com.crms.app.model.Location;
+import com.crms.app.model.Member;
+import com.crms.app.model.Reservation;
+import com.crms.app.model.ReservationStatus;
+import com.crms.app.support.IntegrationTestSupport;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+
+class ReservationOverlapConstraintTest extends IntegrationTestSupport {
+
+    @Test
+    void shouldRejectOverlappingActiveReservationsInsertedDirectly() {
+        Location location = createLocation("LOC-EXCL1");
+        Member member = createMember("excl1@crms.local", "Password123");
+        Car car = createCar(location, "BC-EXCL1", "34EXC01");
+        LocalDate start = LocalDate.now().plusDays(20);
+
+        reservationRepository.saveAndFlush(reservation(member, car, location, start, start.plusDays(3),
+                ReservationStatus.ACTIVE));
+
+        assertThatThrownBy(() -> reservationRepository.saveAndFlush(reservation(member, car, location,
+                start.plusDays(3), start.plusDays(5), ReservationStatus.ACTIVE)))
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    @Test
+    void shouldAllowOverlapWithCanceledReservation() {
+        Location location = createLocation("LOC-EXCL2");
+        Member member = createMember("excl2@crms.local", "Password123");
+        Car car = createCar(location, "BC-EXCL2", "34EXC02");
+        LocalDate start = LocalDate.now().plusDays(20);
+
+        reservationRepository.saveAndFlush(reservation(member, car, location, start, start.plusDays(3),
+                ReservationStatus.CANCELED));
+        Reservation active = reservationRepository.saveAndFlush(reservation(member, car, location,
+                start.plusDays(1), start.plusDays(2), ReservationStatus.ACTIVE));
+
+        assertThat(reservationRepository.existsOverlappingReservation(
+                car.getId(), ReservationStatus.ACTIVE, start.plusDays(2), start.plusDays(4))).isTrue();
+        assertThat(reservationRepository.existsOverlappingReservation(
+                car.getId(), ReservationStatus.ACTIVE, start.plusDays(3), start.plusDays(4))).isFalse();
+        assertThat(reservationRepository.existsOverlappingReservationExcludingId(
+                car.getId(), active.getId(), ReservationStatus.ACTIVE, start, start.plusDays(3))).isFalse();
+    }
+
+    private Reservation reservation(Member member, Car car, Location location,
+                                    LocalDate startDate, LocalDate endDate, ReservationStatus status) {
+        Reservation reservation = new Reservation();
+        reservation.setReservationNumber("RES-" + UUID.randomUUID().toString().substring(0, 8).toUpperCase());
+        reservation.setMember(member);
+        reservation.setCar(car);
+        reservation.setPickupLocation(location);
+        reservation.setDropoffLocation(location);
+        reservation.setStartDate(startDate);
+        reservation.setEndDate(endDate);
+        reservation.setTotalCost(BigDecimal.TEN);
+        reservation.setStatus(status);
+        return reservation;
+    }
+}
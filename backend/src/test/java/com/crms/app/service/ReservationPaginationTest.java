@@ -0,0 +1,92 @@
+package com.crms.app.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.crms.app.dto.ReservationPage;
+import com.crms.app.dto.ReservationSummary;
+import com.crms.app.exception.CrmsException;
+import com.crms.app.model.Car;
+import com.crms.app.model.Location;
+import com.crms.app.model.Member;
+import com.crms.app.model.Reservation;
+import com.crms.app.model.ReservationStatus;
+import com.crms.app.support.IntegrationTestSupport;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+class ReservationPaginationTest extends IntegrationTestSupport {
+
+    @Autowired
+    private ReportingService reportingService;
+
+    @Autowired
+    private MemberManagementService memberManagementService;
+
+    private Member member;
+
+    @BeforeEach
+    void setUp() {
+        Location location = createLocation("LOC-PAGE");
+        member = createMember("paging@crms.local", "Password123");
+        LocalDate start = LocalDate.now().plusDays(10);
+        for (int i = 0; i < 7; i++) {
+            Car car = createCar(location, "BC-PAGE" + i, "34PAG0" + i);
+            saveReservation(member, car, location, start.plusDays(i / 2));
+        }
+    }
+
+    @Test
+    void shouldWalkMemberHistoryWithCursorsInStartDateOrder() {
+        List<ReservationSummary> walked = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            ReservationPage page = memberManagementService.pageMemberReservations(member.getId(), cursor, 3);
+            assertThat(page.getItems()).hasSizeLessThanOrEqualTo(3);
+            walked.addAll(page.getItems());
+            cursor = page.getNextCursor();
+            pages++;
+        } while (cursor != null);
+
+        assertThat(pages).isEqualTo(3);
+        assertThat(walked).hasSize(7);
+        assertThat(walked).extracting(ReservationSummary::getId).doesNotHaveDuplicates();
+        assertThat(walked).isSortedAccordingTo(Comparator.comparing(ReservationSummary::getStartDate)
+                .thenComparing(ReservationSummary::getId)
+                .reversed());
+    }
+
+    @Test
+    void shouldPageAdminListingByStatusAndRejectBrokenCursor() {
+        ReservationPage first = reportingService.pageReservations(ReservationStatus.ACTIVE, null, 4);
+        ReservationPage second = reportingService.pageReservations(ReservationStatus.ACTIVE, first.getNextCursor(), 4);
+
+        assertThat(first.getItems()).hasSize(4);
+        assertThat(second.getItems()).hasSizeGreaterThanOrEqualTo(3);
+        assertThat(second.getItems().get(0).getStartDate()).isBeforeOrEqualTo(first.getItems().get(3).getStartDate());
+        assertThatThrownBy(() -> reportingService.pageReservations(null, "not-a-cursor", 4))
+                .isInstanceOf(CrmsException.class)
+                .hasMessageContaining("Invalid cursor");
+    }
+
+    private void saveReservation(Member member, Car car, Location location, LocalDate startDate) {
+        Reservation reservation = new Reservation();
+        reservation.setReservationNumber("RES-" + UUID.randomUUID().toString().substring(0, 8));
+        reservation.setMember(member);
+        reservation.setCar(car);
+        reservation.setPickupLocation(location);
+        reservation.setDropoffLocation(location);
+        reservation.setStartDate(startDate);
+        reservation.setEndDate(startDate.plusDays(1));
+        reservation.setTotalCost(new BigDecimal("100.00"));
+        reservationRepository.save(reservation);
+    }
+}
@@ -0,0 +1,110 @@
+package com.crms.app.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.crms.app.dto.ReservationQuoteResponse;
+import com.crms.app.dto.ReservationRequest;
+import com.crms.app.model.AdditionalService;
+import com.crms.app.model.Car;
+import com.crms.app.model.CarStatus;
+import com.crms.app.model.Equipment;
+import com.crms.app.model.Location;
+import com.crms.app.model.Member;
+import com.crms.app.support.IntegrationTestSupport;
+import jakarta.persistence.EntityManagerFactory;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ReservationQuoteQueryTest extends IntegrationTestSupport {
+
+    @Autowired
+    private ReservationManagementService reservationManagementService;
+
+    @Autowired
+    private PricingEngine pricingEngine;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Location location;
+    private Member member;
+    private Car car;
+    private AdditionalService insurance;
+    private Equipment gps;
+
+    @AfterEach
+    void cleanUp() {
+        if (car != null) {
+            carRepository.delete(car);
+        }
+        if (member != null) {
+            memberRepository.delete(member);
+        }
+        if (insurance != null) {
+            serviceRepository.delete(insurance);
+        }
+        if (gps != null) {
+            equipmentRepository.delete(gps);
+        }
+        if (location != null) {
+            locationRepository.delete(location);
+        }
+    }
+
+    @Test
+    void shouldQuoteWithProjectionsOnly() {
+        location = createLocation("LOC-QUOTE");
+        member = createMember("quote@crms.local", "Password123");
+        car = createCar(location, "BC-QUOTE", "34QUO01");
+        insurance = createService("Quote insurance", new BigDecimal("10.00"));
+        gps = createEquipment("Quote GPS", new BigDecimal("5.00"));
+
+        ReservationRequest request = new ReservationRequest();
+        request.setMemberId(member.getId());
+        request.setCarId(car.getId());
+        request.setPickupLocationId(location.getId());
+        request.setDropoffLocationId(location.getId());
+        request.setStartDate(LocalDate.now().plusDays(1));
+        request.setEndDate(LocalDate.now().plusDays(4));
+        request.setAdditionalServiceIds(List.of(insurance.getId(), insurance.getId(), -1L));
+        request.setEquipmentIds(List.of(gps.getId()));
+        reservationManagementService.quoteReservation(request);
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        ReservationQuoteResponse quote = reservationManagementService.quoteReservation(request);
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(quote.getTotalCost()).isEqualByComparingTo("345");
+        assertThat(quote.getAdditionalServiceIds()).containsExactly(insurance.getId());
+        assertThat(quote.getEquipmentIds()).containsExactly(gps.getId());
+    }
+
+    @Test
+    void shouldReloadCarRatesOnlyWhenARateChanges() {
+        location = createLocation("LOC-RATES");
+        car = createCar(location, "BC-RATES", "34RAT01");
+        assertThat(pricingEngine.quote(car.getId(), 2, null, null)).isEqualTo(20000L);
+
+        car.setStatus(CarStatus.MAINTENANCE);
+        car = carRepository.save(car);
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        assertThat(pricingEngine.quote(car.getId(), 2, null, null)).isEqualTo(20000L);
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+
+        car.setDailyRate(new BigDecimal("150.00"));
+        car = carRepository.save(car);
+        assertThat(pricingEngine.quote(car.getId(), 2, null, null)).isEqualTo(30000L);
+    }
+}
@@ -0,0 +1,188 @@
+package com.crms.app.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.crms.app.dto.BatchReservationMode;
+import com.crms.app.dto.BatchReservationRequest;
+import com.crms.app.dto.ReservationRequest;
+import com.crms.app.dto.ReservationRollup;
+import com.crms.app.dto.ReservationSummary;
+import com.crms.app.dto.RollupDimension;
+import com.crms.app.model.AdditionalService;
+import com.crms.app.model.Car;
+import com.crms.app.model.Location;
+import com.crms.app.model.Member;
+import com.crms.app.service.impl.ReservationRollupWriter;
+import com.crms.app.support.IntegrationTestSupport;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+class ReservationRollupTest extends IntegrationTestSupport {
+
+    @Autowired
+    private ReportingService reportingService;
+
+    @Autowired
+    private ReservationManagementService reservationManagementService;
+
+    @Autowired
+    private ReservationRollupWriter rollupWriter;
+
+    private final LocalDate day0 = LocalDate.now().plusDays(400);
+    private Location airport;
+    private Location downtown;
+    private Member member;
+    private Car sedan;
+    private Car suv;
+    private AdditionalService gps;
+
+    @BeforeEach
+    void setUp() {
+        airport = createLocation("LOC-ROLL-A");
+        downtown = createLocation("LOC-ROLL-B");
+        member = createMember("rollups@crms.local", "Password123");
+        sedan = createCar(airport, "BC-ROLL-1", "34ROL01");
+        sedan.setCarType("RollupSedan");
+        sedan = carRepository.save(sedan);
+        suv = createCar(downtown, "BC-ROLL-2", "34ROL02");
+        suv.setCarType("RollupSuv");
+        suv.setDailyRate(BigDecimal.valueOf(200));
+        suv = carRepository.save(suv);
+        gps = createService("Rollup GPS", new BigDecimal("10.00"));
+    }
+
+    @Test
+    void shouldTrackBookingsPerDayLocationAndCarType() {
+        ReservationSummary first = reservationManagementService.createReservation(
+                request(sedan, airport, day0, day0.plusDays(3), List.of(gps.getId())));
+        reservationManagementService.createReservation(request(suv, downtown, day0.plusDays(1), day0.plusDays(2), null));
+
+        List<ReservationRollup> days = summarize(RollupDimension.DAY);
+        assertThat(days).extracting(ReservationRollup::getDay)
+                .containsExactly(day0, day0.plusDays(1), day0.plusDays(2));
+        assertThat(days).extracting(ReservationRollup::getReservations).containsExactly(1L, 1L, 0L);
+        assertThat(days).extracting(ReservationRollup::getBookedDays).containsExactly(1L, 2L, 1L);
+        assertThat(days.get(0).getRevenue()).isEqualByComparingTo("330.00");
+        assertThat(days.get(0).getAddOnRevenue()).isEqualByComparingTo("30.00");
+        assertThat(days.get(1).getRevenue()).isEqualByComparingTo("200.00");
+
+        ReservationRollup atAirport = forLocation(airport);
+        assertThat(atAirport.getBookedDays()).isEqualTo(3);
+        assertThat(atAirport.getFleetSize()).isEqualTo(1);
+        assertThat(atAirport.getUtilization()).isEqualTo(0.3);
+
+        reservationManagementService.updateReservation(first.getId(),
+                request(sedan, airport, day0.plusDays(2), day0.plusDays(3), null));
+        atAirport = forLocation(airport);
+        assertThat(atAirport.getReservations()).isEqualTo(1);
+        assertThat(atAirport.getBookedDays()).isEqualTo(1);
+        assertThat(atAirport.getRevenue()).isEqualByComparingTo("100.00");
+        assertThat(atAirport.getAddOnRevenue()).isEqualByComparingTo("0.00");
+    }
+
+    @Test
+    void shouldCountCancellationsAndCompletions() {
+        ReservationSummary sedanBooking = reservationManagementService.createReservation(
+                request(sedan, airport, day0, day0.plusDays(2), List.of(gps.getId())));
+        ReservationSummary suvBooking = reservationManagementService.createReservation(
+                request(suv, downtown, day0, day0.plusDays(1), null));
+
+        reservationManagementService.cancelReservation(suvBooking.getId());
+        reservationManagementService.completeReservation(sedanBooking.getId());
+
+        ReservationRollup suvs = forCarType("RollupSuv");
+        assertThat(suvs.getReservations()).isEqualTo(1);
+        assertThat(suvs.getCancellations()).isEqualTo(1);
+        assertThat(suvs.getBookedDays()).isZero();
+        assertThat(suvs.getRevenue()).isEqualByComparingTo("0.00");
+
+        ReservationRollup sedans = forCarType("RollupSedan");
+        assertThat(sedans.getCompletions()).isEqualTo(1);
+        assertThat(sedans.getBookedDays()).isEqualTo(2);
+        assertThat(sedans.getRevenue()).isEqualByComparingTo("220.00");
+    }
+
+    @Test
+    void shouldReverseStoredTermsAfterPriceAndCarTypeChanges() {
+        ReservationSummary booking = reservationManagementService.createReservation(
+                request(sedan, airport, day0, day0.plusDays(3), List.of(gps.getId())));
+
+        gps.setDailyPrice(new BigDecimal("25.00"));
+        gps = serviceRepository.save(gps);
+        sedan.setCarType("RollupCoupe");
+        sedan = carRepository.save(sedan);
+        reservationManagementService.cancelReservation(booking.getId());
+
+        ReservationRollup sedans = forCarType("RollupSedan");
+        assertThat(sedans.getReservations()).isEqualTo(1);
+        assertThat(sedans.getCancellations()).isEqualTo(1);
+        assertThat(sedans.getBookedDays()).isZero();
+        assertThat(sedans.getRevenue()).isEqualByComparingTo("0.00");
+        assertThat(sedans.getAddOnRevenue()).isEqualByComparingTo("0.00");
+        assertThat(summarize(RollupDimension.CAR_TYPE)).extracting(ReservationRollup::getCarType)
+                .doesNotContain("RollupCoupe");
+    }
+
+    @Test
+    void shouldMatchAFullRebuildAfterIncrementalUpdates() {
+        BatchReservationRequest batch = new BatchReservationRequest();
+        batch.setMode(BatchReservationMode.ALL_OR_NOTHING);
+        batch.setItems(List.of(
+                request(sedan, airport, day0, day0.plusDays(4), List.of(gps.getId())),
+                request(suv, downtown, day0.plusDays(2), day0.plusDays(5), null)));
+        reservationManagementService.createReservations(batch);
+        ReservationSummary extra = reservationManagementService.createReservation(
+                request(sedan, downtown, day0.plusDays(6), day0.plusDays(8), null));
+        reservationManagementService.cancelReservation(extra.getId());
+
+        List<String> incremental = shape(RollupDimension.CAR_TYPE);
+        List<String> incrementalByLocation = shape(RollupDimension.LOCATION);
+        entityManager.flush();
+        rollupWriter.rebuild();
+
+        assertThat(shape(RollupDimension.CAR_TYPE)).isEqualTo(incremental);
+        assertThat(shape(RollupDimension.LOCATION)).isEqualTo(incrementalByLocation);
+    }
+
+    private List<String> shape(RollupDimension dimension) {
+        return summarize(dimension).stream()
+                .map(rollup -> rollup.getLocationId() + "|" + rollup.getCarType() + "|" + rollup.getReservations()
+                        + "|" + rollup.getCompletions() + "|" + rollup.getCancellations() + "|"
+                        + rollup.getBookedDays() + "|" + rollup.getRevenue().stripTrailingZeros().toPlainString()
+                        + "|" + rollup.getAddOnRevenue().stripTrailingZeros().toPlainString())
+                .toList();
+    }
+
+    private List<ReservationRollup> summarize(RollupDimension dimension) {
+        return reportingService.summarizeReservations(day0, day0.plusDays(9), dimension);
+    }
+
+    private ReservationRollup forLocation(Location location) {
+        return summarize(RollupDimension.LOCATION).stream()
+                .filter(rollup -> rollup.getLocationId().equals(location.getId()))
+                .findFirst().orElseThrow();
+    }
+
+    private ReservationRollup forCarType(String carType) {
+        return summarize(RollupDimension.CAR_TYPE).stream()
+                .filter(rollup -> rollup.getCarType().equals(carType))
+                .findFirst().orElseThrow();
+    }
+
+    private ReservationRequest request(Car car, Location location, LocalDate start, LocalDate end,
+                                       List<Long> serviceIds) {
+        ReservationRequest request = new ReservationRequest();
+        request.setMemberId(member.getId());
+        request.setCarId(car.getId());
+        request.setPickupLocationId(location.getId());
+        request.setDropoffLocationId(location.getId());
+        request.setStartDate(start);
+        request.setEndDate(end);
+        request.setAdditionalServiceIds(serviceIds);
+        return request;
+    }
+}
@@ -2,17 +2,25 @@ package com.crms.app.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import com.crms.app.dto.BatchReservationMode;
+import com.crms.app.dto.BatchReservationRequest;
 import com.crms.app.dto.ReservationRequest;
 import com.crms.app.model.Location;
 import com.crms.app.model.Member;
 import com.crms.app.model.ReservationStatus;
 import com.crms.app.support.IntegrationTestSupport;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.text.PDFTextStripper;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 
 class ReservationStatusFilterServiceTest extends IntegrationTestSupport {
 
+    private static final int LINES_PER_PAGE = 50;
+
     @Autowired
     private ReportingService reportingService;
 
@@ -43,7 +51,7 @@ class ReservationStatusFilterServiceTest extends IntegrationTestSupport {
     }
 
     @Test
-    void shouldExportReservationsAsCsvAndPdf() {
+    void shouldExportReservationsAsCsvAndPdf() throws Exception {
         Location location = createLocation("LOC2");
         Member member = createMember("member2@crms.local", "Password123");
         var car = createCar(location, "BC-501", "34ABC06");
@@ -57,12 +65,39 @@ class ReservationStatusFilterServiceTest extends IntegrationTestSupport {
         request.setEndDate(LocalDate.now().plusDays(6));
 
         reservationManagementService.createReservation(request);
+        // Enough extra bookings that the PDF runs past the first page.
+        List<ReservationRequest> extra = new ArrayList<>();
+        for (int i = 0; i < 60; i++) {
+            ReservationRequest item = new ReservationRequest();
+            item.setMemberId(member.getId());
+            item.setCarId(car.getId());
+            item.setPickupLocationId(location.getId());
+            item.setDropoffLocationId(location.getId());
+            item.setStartDate(LocalDate.now().plusDays(10 + 2L * i));
+            item.setEndDate(LocalDate.now().plusDays(11 + 2L * i));
+            extra.add(item);
+        }
+        BatchReservationRequest batch = new BatchReservationRequest();
+        batch.setMode(BatchReservationMode.ALL_OR_NOTHING);
+        batch.setItems(extra);
+        reservationManagementService.createReservations(batch);
 
-        byte[] csv = reportingService.exportReservationsCsv(null);
-        byte[] pdf = reportingService.exportReservationsPdf(null);
+        java.io.ByteArrayOutputStream csv = new java.io.ByteArrayOutputStream();
+        reportingService.exportReservationsCsv(null, csv);
+        java.io.ByteArrayOutputStream pdf = new java.io.ByteArrayOutputStream();
+        reportingService.exportReservationsPdf(null, pdf);
 
-        assertThat(new String(csv, java.nio.charset.StandardCharsets.UTF_8))
+        String csvText = csv.toString(java.nio.charset.StandardCharsets.UTF_8);
+        assertThat(csvText)
                 .contains("reservationNumber,status,startDate,endDate,totalCost,memberId,carId,pickupLocationId,dropoffLocationId");
-        assertThat(pdf).isNotEmpty();
+        assertThat(csvText).contains(",ACTIVE," + request.getStartDate() + "," + request.getEndDate() + ",")
+                .contains("," + member.getId() + "," + car.getId() + "," + location.getId() + "," + location.getId());
+        long rows = reportingService.countReservations(null);
+        try (PDDocument document = PDDocument.load(pdf.toByteArray())) {
+            // Title and header take the first two lines of the first page.
+            assertThat(document.getNumberOfPages()).isGreaterThanOrEqualTo(2)
+                    .isEqualTo((int) ((rows + 2 + LINES_PER_PAGE - 1) / LINES_PER_PAGE));
+            assertThat(new PDFTextStripper().getText(document)).contains("Reservation Report (All)");
+        }
     }
 }
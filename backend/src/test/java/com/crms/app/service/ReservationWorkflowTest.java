@@ -19,6 +19,9 @@ class ReservationWorkflowTest extends IntegrationTestSupport {
     @Autowired
     private ReservationManagementService reservationManagementService;
 
+    @Autowired
+    private NotificationDispatcher notificationDispatcher;
+
     @Autowired
     private InMemoryMailSender mailSender;
 
@@ -51,7 +54,10 @@ class ReservationWorkflowTest extends IntegrationTestSupport {
         assertThat(summary.getReservationNumber()).isNotBlank();
         assertThat(summary.getStatus()).isEqualTo(ReservationStatus.ACTIVE);
         assertThat(summary.getTotalCost()).isEqualByComparingTo("345");
-        assertThat(mailSender.getSentMessages()).isNotEmpty();
+        assertThat(mailSender.getSentMessages()).isEmpty();
+        notificationDispatcher.dispatchDue();
+        assertThat(mailSender.getSentMessages()).hasSize(1);
+        assertThat(mailSender.getSentMessages().get(0).getTo()).containsExactly("member@crms.local");
     }
 
     @Test
@@ -83,7 +89,10 @@ class ReservationWorkflowTest extends IntegrationTestSupport {
 
         assertThat(updated.getTotalCost()).isNotNull();
         assertThat(canceled.getStatus()).isEqualTo(ReservationStatus.CANCELED);
-        assertThat(mailSender.getSentMessages().size()).isGreaterThanOrEqualTo(2);
+        assertThat(mailSender.getSentMessages()).isEmpty();
+        notificationDispatcher.dispatchDue();
+        assertThat(mailSender.getSentMessages()).hasSize(3)
+                .allSatisfy(message -> assertThat(message.getTo()).containsExactly("member2@crms.local"));
     }
 
     @Test
@@ -0,0 +1,109 @@
+package com.crms.app.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.crms.app.config.DataGeneratorProperties;
+import com.crms.app.dto.DataGenerationReport;
+import com.crms.app.support.IntegrationTestSupport;
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+class SyntheticDataGeneratorTest extends IntegrationTestSupport {
+
+    @Autowired
+    private SyntheticDataGenerator generator;
+
+    @Autowired
+    private PricingEngine pricingEngine;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void shouldGenerateRequestedVolumesWithoutOverlappingBookings() {
+        long carsBefore = carRepository.count();
+        long reservationsBefore = reservationRepository.count();
+
+        DataGenerationReport report = generator.generate(settings(7));
+
+        assertThat(report.getLocations()).isEqualTo(3);
+        assertThat(report.getCars()).isEqualTo(20);
+        assertThat(report.getMembers()).isEqualTo(50);
+        assertThat(report.getReservations()).isEqualTo(410);
+        assertThat(report.getServiceLinks()).isPositive();
+        assertThat(carRepository.count()).isEqualTo(carsBefore + 20);
+        assertThat(reservationRepository.count()).isEqualTo(reservationsBefore + 410);
+        assertThat(memberRepository.findByEmail("member" + firstGeneratedMemberId() + "@gen.crms.local")).isPresent();
+
+        Integer overlapping = jdbcTemplate.queryForObject("""
+                select count(*) from reservations a join reservations b
+                  on a.car_id = b.car_id and a.id < b.id and a.period && b.period
+                where a.reservation_number like 'RES-GEN-%' and b.reservation_number like 'RES-GEN-%'
+                """, Integer.class);
+        assertThat(overlapping).isZero();
+        List<String> statuses = jdbcTemplate.queryForList(
+                "select distinct status from reservations where reservation_number like 'RES-GEN-%'", String.class);
+        assertThat(statuses).contains("ACTIVE", "COMPLETED", "CANCELED");
+    }
+
+    @Test
+    void shouldPriceGeneratedReservationsLikeThePricingEngine() {
+        generator.generate(settings(11));
+
+        List<Map<String, Object>> rows = jdbcTemplate.queryForList("""
+                select id, car_id, start_date, end_date, total_cost from reservations
+                where reservation_number like 'RES-GEN-%' order by id limit 25
+                """);
+        assertThat(rows).hasSize(25);
+        for (Map<String, Object> row : rows) {
+            long id = ((Number) row.get("id")).longValue();
+            List<Long> services = jdbcTemplate.queryForList(
+                    "select service_id from reservation_services where reservation_id = ?", Long.class, id);
+            List<Long> equipment = jdbcTemplate.queryForList(
+                    "select equipment_id from reservation_equipments where reservation_id = ?", Long.class, id);
+            BigDecimal quoted = pricingEngine.quoteAmount(((Number) row.get("car_id")).longValue(),
+                    ((Date) row.get("start_date")).toLocalDate(), ((Date) row.get("end_date")).toLocalDate(),
+                    services, equipment);
+            assertThat((BigDecimal) row.get("total_cost")).isEqualByComparingTo(quoted);
+        }
+    }
+
+    @Test
+    void shouldProduceTheSameDataSetForTheSameSeed() {
+        assertThat(generatedShape(3)).isEqualTo(generatedShape(3));
+    }
+
+    private List<String> generatedShape(long seed) {
+        Long firstCar = jdbcTemplate.queryForObject("select coalesce(max(id), 0) + 1 from cars", Long.class);
+        Long firstMember = jdbcTemplate.queryForObject("select coalesce(max(id), 0) + 1 from users", Long.class);
+        Long firstReservation = jdbcTemplate.queryForObject(
+                "select coalesce(max(id), 0) + 1 from reservations", Long.class);
+        generator.generate(settings(seed));
+        return jdbcTemplate.queryForList("""
+                select concat_ws('|', car_id - ?, member_id - ?, start_date, end_date, total_cost, status)
+                from reservations where id >= ? order by id
+                """, String.class, firstCar, firstMember, firstReservation);
+    }
+
+    private long firstGeneratedMemberId() {
+        Long id = jdbcTemplate.queryForObject(
+                "select min(id) from users where email like 'member%@gen.crms.local'", Long.class);
+        return id == null ? 0 : id;
+    }
+
+    private static DataGeneratorProperties settings(long seed) {
+        DataGeneratorProperties settings = new DataGeneratorProperties();
+        settings.setSeed(seed);
+        settings.setLocations(3);
+        settings.setCars(20);
+        settings.setMembers(50);
+        settings.setReservations(410);
+        settings.setHorizonDays(90);
+        return settings;
+    }
+}
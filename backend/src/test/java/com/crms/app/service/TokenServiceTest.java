@@ -0,0 +1,59 @@
+package com.crms.app.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.crms.app.config.TokenProperties;
+import com.crms.app.dto.AuthenticatedUser;
+import com.crms.app.dto.LoginResponse;
+import com.crms.app.model.Member;
+import com.crms.app.model.UserRole;
+import com.crms.app.service.impl.TokenServiceImpl;
+import org.junit.jupiter.api.Test;
+
+class TokenServiceTest {
+
+    @Test
+    void shouldRoundTripClaimsWithoutTouchingTheDatabase() {
+        TokenService tokenService = tokenService("test-secret", 60);
+
+        LoginResponse issued = tokenService.issueToken(member());
+        AuthenticatedUser verified = tokenService.verify(issued.getToken());
+
+        assertThat(verified).isNotNull();
+        assertThat(verified.getId()).isEqualTo(42L);
+        assertThat(verified.getRole()).isEqualTo(UserRole.MEMBER);
+        assertThat(verified.getEmail()).isEqualTo("token@crms.local");
+    }
+
+    @Test
+    void shouldRejectTamperedForeignAndExpiredTokens() {
+        TokenService tokenService = tokenService("test-secret", 60);
+        String token = tokenService.issueToken(member()).getToken();
+        String payload = token.substring(0, token.indexOf('.'));
+        String signature = token.substring(token.indexOf('.'));
+
+        String forgedPayload = payload.substring(0, payload.length() - 1)
+                + (payload.endsWith("A") ? "B" : "A");
+        assertThat(tokenService.verify(forgedPayload + signature)).isNull();
+        assertThat(tokenService.verify("not-a-token")).isNull();
+        assertThat(tokenService("other-secret", 60).verify(token)).isNull();
+
+        TokenService expired = tokenService("test-secret", -1);
+        assertThat(expired.verify(expired.issueToken(member()).getToken())).isNull();
+    }
+
+    private static TokenService tokenService(String secret, long ttlSeconds) {
+        TokenProperties properties = new TokenProperties();
+        properties.setSecret(secret);
+        properties.setTtlSeconds(ttlSeconds);
+        return new TokenServiceImpl(properties);
+    }
+
+    private static Member member() {
+        Member member = new Member();
+        member.setId(42L);
+        member.setEmail("token@crms.local");
+        member.setRole(UserRole.MEMBER);
+        return member;
+    }
+}
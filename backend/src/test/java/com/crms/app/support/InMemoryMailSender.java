@@ -11,6 +11,7 @@ import org.springframework.mail.javamail.MimeMessagePreparator;
 public class InMemoryMailSender implements JavaMailSender {
 
     private final List<SimpleMailMessage> sentMessages = new ArrayList<>();
+    private MailException failure;
 
     public List<SimpleMailMessage> getSentMessages() {
         return Collections.unmodifiableList(sentMessages);
@@ -18,10 +19,18 @@ public class InMemoryMailSender implements JavaMailSender {
 
     public void clear() {
         sentMessages.clear();
+        failure = null;
+    }
+
+    public void failWith(MailException failure) {
+        this.failure = failure;
     }
 
     @Override
     public void send(SimpleMailMessage simpleMessage) throws MailException {
+        if (failure != null) {
+            throw failure;
+        }
         sentMessages.add(simpleMessage);
     }
 
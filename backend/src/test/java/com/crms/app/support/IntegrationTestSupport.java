@@ -1,5 +1,9 @@
 package com.crms.app.support;
 
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.crms.app.config.QueryCountInspector;
+import com.crms.app.config.QueryScope;
 import com.crms.app.config.TestMailConfig;
 import com.crms.app.model.AdditionalService;
 import com.crms.app.model.Car;
@@ -16,13 +20,17 @@ import com.crms.app.repository.MemberRepository;
 import com.crms.app.repository.ReservationRepository;
 import com.crms.app.repository.ServiceRepository;
 import com.crms.app.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.context.annotation.Import;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 @SpringBootTest
 @ActiveProfiles("test")
@@ -54,6 +62,40 @@ public abstract class IntegrationTestSupport {
     @Autowired
     protected PasswordEncoder passwordEncoder;
 
+    @Autowired
+    protected QueryCountInspector queryCountInspector;
+
+    @PersistenceContext
+    protected EntityManager entityManager;
+
+    @FunctionalInterface
+    protected interface QueryAction {
+        void run() throws Exception;
+    }
+
+    /**
+     * Runs the action against a cold persistence context (pending test data is flushed and detached first, as
+     * a fresh request would see it) and returns the statements it executed.
+     */
+    protected QueryScope recordQueries(QueryAction action) throws Exception {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            entityManager.flush();
+            entityManager.clear();
+        }
+        try (QueryScope scope = queryCountInspector.open()) {
+            action.run();
+            return scope;
+        }
+    }
+
+    protected void assertQueryBudget(int maxStatements, QueryAction action) throws Exception {
+        QueryScope scope = recordQueries(action);
+        assertThat(scope.getStatementCount()).as("SQL statements executed").isLessThanOrEqualTo(maxStatements);
+        assertThat(scope.getMaxRepetitions())
+                .as("repetitions of %s", scope.getMostRepeatedStatement())
+                .isLessThanOrEqualTo(1);
+    }
+
     protected Location createLocation(String code) {
         Location location = new Location();
         location.setCode(code);
@@ -70,6 +112,7 @@ public abstract class IntegrationTestSupport {
         member.setPhone("+901111111111");
         member.setAddress("Test Address");
         member.setDrivingLicenseNumber("DL12345");
+        member.setDrivingLicenseExpiry(LocalDate.now().plusYears(1));
         member.setRole(UserRole.MEMBER);
         return memberRepository.save(member);
     }